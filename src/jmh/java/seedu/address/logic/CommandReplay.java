@@ -0,0 +1,286 @@
+package seedu.address.logic;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.Histogram;
+import seedu.address.logic.metrics.MetricsDumper;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.BenchmarkData;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays the commands recorded in {@code addressbook.log} files, or listed one per line in a plain command file,
+ * against a fresh {@link LogicManager}, then reports the throughput, latency percentiles and heap growth.
+ * <p>
+ * Usage: {@code CommandReplay [options] FILE...}. Options:
+ * <ul>
+ * <li>{@code --data=FILE}: starts from a copy of this data file instead of an empty address book.</li>
+ * <li>{@code --generate=N} and {@code --seed=S}: starts from {@code N} generated persons instead.</li>
+ * <li>{@code --speed=X}: keeps the gaps between logged commands, divided by {@code X}. By default, and for
+ * command files, which have no timestamps, commands are sent as fast as possible.</li>
+ * <li>{@code --repeat=N}: replays the commands {@code N} times, reporting the heap after each pass.</li>
+ * <li>{@code --metrics=FILE}: also writes the per-command statistics to this file, as {@code MetricsDumper}
+ * does.</li>
+ * </ul>
+ * The address book is saved to a temporary folder after every command, as in the app, and is deleted afterwards.
+ */
+public class CommandReplay {
+
+    private static final String USER_COMMAND_MARKER = "[USER COMMAND][";
+
+    /** Matches the first line that {@code java.util.logging.SimpleFormatter} writes for a record. */
+    private static final Pattern LOG_HEADER = Pattern.compile(
+            "^([A-Z][a-z]{2} \\d{1,2}, \\d{4} \\d{1,2}:\\d{2}:\\d{2} [AP]M) ");
+    private static final DateTimeFormatter LOG_TIMESTAMP =
+            DateTimeFormatter.ofPattern("MMM d, yyyy h:mm:ss a", Locale.ENGLISH);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_MB = 1024.0 * 1024;
+
+    public static void main(String[] args) throws Exception {
+        Path dataFile = null;
+        int generatedPersonCount = 0;
+        long seed = SampleDataGenerator.DEFAULT_SEED;
+        double speed = 0;
+        int repeat = 1;
+        Path metricsFile = null;
+        List<Path> commandFiles = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--data=")) {
+                dataFile = Paths.get(valueOf(arg));
+            } else if (arg.startsWith("--generate=")) {
+                generatedPersonCount = Integer.parseInt(valueOf(arg));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(valueOf(arg));
+            } else if (arg.startsWith("--speed=")) {
+                speed = Double.parseDouble(valueOf(arg));
+            } else if (arg.startsWith("--repeat=")) {
+                repeat = Integer.parseInt(valueOf(arg));
+            } else if (arg.startsWith("--metrics=")) {
+                metricsFile = Paths.get(valueOf(arg));
+            } else {
+                commandFiles.add(Paths.get(arg));
+            }
+        }
+        if (commandFiles.isEmpty()) {
+            System.err.println("Usage: CommandReplay [--data=FILE | --generate=N [--seed=S]] [--speed=X] "
+                    + "[--repeat=N] [--metrics=FILE] FILE...");
+            System.exit(1);
+        }
+
+        List<RecordedCommand> commands = new ArrayList<>();
+        for (Path commandFile : commandFiles) {
+            commands.addAll(readCommands(commandFile));
+        }
+        if (commands.isEmpty()) {
+            System.err.println("No commands found in " + commandFiles);
+            System.exit(1);
+        }
+
+        // The replayed commands would otherwise be logged again, possibly to the very log being replayed.
+        BenchmarkData.quietLogging();
+        ReadOnlyAddressBook initialData = dataFile != null
+                ? readAddressBook(dataFile)
+                : generatedPersonCount > 0
+                ? new SampleDataGenerator(seed).withPersonCount(generatedPersonCount).generate()
+                : new AddressBook();
+
+        Path folder = Files.createTempDirectory("replay");
+        try {
+            StorageManager storage = new StorageManager(
+                    new JournaledAddressBookStorage(folder.resolve("addressbook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+            CommandMetrics metrics = new CommandMetrics();
+            LogicManager logic = new LogicManager(new ModelManager(initialData, new UserPrefs()), storage, metrics);
+            System.out.printf("%d command(s), starting from %d person(s)%n",
+                    commands.size(), initialData.getPersonList().size());
+
+            long heapBefore = usedHeapAfterGc();
+            resetPeakHeap();
+            Histogram latencies = new Histogram();
+            int failures = 0;
+            long elapsed = 0;
+            for (int pass = 1; pass <= repeat; pass++) {
+                long start = System.nanoTime();
+                failures += replay(logic, commands, speed, latencies);
+                elapsed += System.nanoTime() - start;
+                System.out.printf("pass %d: heap %.1f MB%n", pass, usedHeapAfterGc() / BYTES_PER_MB);
+            }
+            long heapAfter = usedHeapAfterGc();
+
+            System.out.printf("%d command(s) run, %d failed%n", latencies.getCount(), failures);
+            System.out.printf("throughput: %.0f commands/s%n", latencies.getCount() / (elapsed / 1e9));
+            System.out.printf("latency ms: p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                    latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                    latencies.getMax() / NANOS_PER_MILLI);
+            System.out.printf("heap MB: before=%.1f after=%.1f growth=%.1f peak=%.1f%n",
+                    heapBefore / BYTES_PER_MB, heapAfter / BYTES_PER_MB,
+                    (heapAfter - heapBefore) / BYTES_PER_MB, peakHeap() / BYTES_PER_MB);
+            for (CommandMetrics.Summary summary : metrics.getSummaries()) {
+                if (summary.getPhase() == CommandMetrics.Phase.TOTAL) {
+                    System.out.printf("  %s: %d run(s), p50=%.3f p99=%.3f max=%.3f ms%n", summary.getCommandWord(),
+                            summary.getCount(), summary.getP50Nanos() / NANOS_PER_MILLI,
+                            summary.getP99Nanos() / NANOS_PER_MILLI, summary.getMaxNanos() / NANOS_PER_MILLI);
+                }
+            }
+            if (metricsFile != null) {
+                new MetricsDumper(metrics, metricsFile, 1).dump();
+                System.out.println("Per-command statistics written to " + metricsFile);
+            }
+        } finally {
+            deleteRecursively(folder);
+        }
+    }
+
+    /**
+     * Runs {@code commands} once, recording the latency of each, and returns how many failed.
+     */
+    private static int replay(LogicManager logic, List<RecordedCommand> commands, double speed,
+            Histogram latencies) throws InterruptedException {
+        int failures = 0;
+        LocalDateTime firstLoggedAt = commands.get(0).loggedAt;
+        long start = System.nanoTime();
+        for (RecordedCommand command : commands) {
+            if (speed > 0 && firstLoggedAt != null && command.loggedAt != null) {
+                long dueNanos = (long) (ChronoUnit.NANOS.between(firstLoggedAt, command.loggedAt) / speed);
+                long waitNanos = dueNanos - (System.nanoTime() - start);
+                if (waitNanos > 0) {
+                    Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+                }
+            }
+            long commandStart = System.nanoTime();
+            try {
+                logic.execute(command.text);
+            } catch (CommandException | ParseException e) {
+                failures++;
+            }
+            latencies.record(System.nanoTime() - commandStart);
+        }
+        return failures;
+    }
+
+    /**
+     * Returns the commands in {@code file}. If any line has a {@code [USER COMMAND]} entry, the file is read as a
+     * log, and only those entries are taken, with the time of the log record before each. Otherwise every line that
+     * is neither blank nor a {@code #} comment is taken as a command, as the {@code run} command does.
+     */
+    private static List<RecordedCommand> readCommands(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+        boolean isLog = lines.stream().anyMatch(line -> line.contains(USER_COMMAND_MARKER));
+
+        List<RecordedCommand> commands = new ArrayList<>();
+        LocalDateTime loggedAt = null;
+        for (String line : lines) {
+            if (isLog) {
+                Matcher header = LOG_HEADER.matcher(line);
+                if (header.find()) {
+                    loggedAt = parseTimestamp(header.group(1));
+                    continue;
+                }
+                int markerIndex = line.indexOf(USER_COMMAND_MARKER);
+                int endIndex = line.lastIndexOf(']');
+                if (markerIndex >= 0 && endIndex >= markerIndex + USER_COMMAND_MARKER.length()) {
+                    commands.add(new RecordedCommand(
+                            line.substring(markerIndex + USER_COMMAND_MARKER.length(), endIndex), loggedAt));
+                }
+            } else if (!line.isBlank() && !line.trim().startsWith("#")) {
+                commands.add(new RecordedCommand(line.trim(), null));
+            }
+        }
+        return commands;
+    }
+
+    private static LocalDateTime parseTimestamp(String timestamp) {
+        try {
+            return LocalDateTime.parse(timestamp, LOG_TIMESTAMP);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static ReadOnlyAddressBook readAddressBook(Path dataFile) throws DataLoadingException {
+        return new JsonAddressBookStorage(dataFile).readAddressBook()
+                .orElseThrow(() -> new IllegalArgumentException("No data file at " + dataFile));
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    private static void deleteRecursively(Path folder) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static String valueOf(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    /**
+     * A command to replay, and when it was logged, if known.
+     */
+    private static class RecordedCommand {
+        private final String text;
+        private final LocalDateTime loggedAt;
+
+        RecordedCommand(String text, LocalDateTime loggedAt) {
+            this.text = text;
+            this.loggedAt = loggedAt;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.BenchmarkData;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures {@link BookCommand} booking the last person in the address book with a booking, which it finds last,
+ * both when the time clashes with that booking and when it is free. A free booking is removed again afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int persons;
+
+    private Model model;
+    private Person last;
+    private BookCommand clashingCommand;
+    private BookCommand freeCommand;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.quietLogging();
+        model = new ModelManager(BenchmarkData.getAddressBook(persons), new UserPrefs());
+        List<Person> personList = model.getAddressBook().getPersonList();
+        int index = personList.size() - 1;
+        while (personList.get(index).getBookings().isEmpty()) {
+            index--;
+        }
+        last = personList.get(index);
+        Name name = last.getName();
+        clashingCommand = new BookCommand(name, "Ms Ong", last.getBookings().get(0).getDateTime(), "Follow-up");
+        freeCommand = new BookCommand(name, "Ms Ong",
+                SampleDataGenerator.DEFAULT_FIRST_BOOKING_DATE.minusDays(1).atTime(10, 0), "Follow-up");
+    }
+
+    @Benchmark
+    public CommandException clash() {
+        try {
+            clashingCommand.execute(model);
+            throw new IllegalStateException("The booking should have clashed.");
+        } catch (CommandException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public CommandResult free() throws CommandException {
+        CommandResult result = freeCommand.execute(model);
+        Person booked = model.getAddressBookSnapshot().findByName(last.getName()).get();
+        model.setPerson(booked, last);
+        return result;
+    }
+}
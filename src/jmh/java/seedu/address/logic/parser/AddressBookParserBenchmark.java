@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures {@link AddressBookParser#parseCommand(String)} from the command word to a validated {@code Command},
+ * for typical input to the most used commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final String ADD_COMMAND =
+            "add n/John Doe p/98765432 e/johnd@example.com t/friends t/owesMoney t/colleague";
+    private static final String BOOK_COMMAND =
+            "book dt/2025-09-18 14:00 c/Mr Lim n/Alice Tan desc/first consultation about the quarterly review";
+    private static final String EDIT_COMMAND = "edit n/John Doe n/Jane Doe p/91234567 e/janedoe@example.com";
+    private static final String FIND_COMMAND = "find n/alex n/bernice";
+    private static final String DELETE_COMMAND = "delete n/Alex Yeoh b/1";
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Setup
+    public void setUp() {
+        BenchmarkData.quietLogging();
+    }
+
+    @Benchmark
+    public Command add() throws ParseException {
+        return parser.parseCommand(ADD_COMMAND);
+    }
+
+    @Benchmark
+    public Command book() throws ParseException {
+        return parser.parseCommand(BOOK_COMMAND);
+    }
+
+    @Benchmark
+    public Command edit() throws ParseException {
+        return parser.parseCommand(EDIT_COMMAND);
+    }
+
+    @Benchmark
+    public Command find() throws ParseException {
+        return parser.parseCommand(FIND_COMMAND);
+    }
+
+    @Benchmark
+    public Command delete() throws ParseException {
+        return parser.parseCommand(DELETE_COMMAND);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ArgumentTokenizer} on arguments strings typical of the {@code add}, {@code book}
+ * and {@code find} commands, both through the static {@code tokenize} call and a precompiled instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String ADD_ARGS =
+            " n/John Doe p/98765432 e/johnd@example.com t/friends t/owesMoney t/colleague";
+    private static final String BOOK_ARGS =
+            " dt/2025-09-18 14:00 c/Mr Lim n/Alice Tan desc/first consultation about the quarterly review";
+    private static final String FIND_ARGS = " n/alex n/bernice t/alphaTeam d/2025-09-18";
+
+    private static final Prefix[] ADD_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG};
+    private static final Prefix[] BOOK_PREFIXES = {PREFIX_DATETIME, PREFIX_CLIENT, PREFIX_NAME, PREFIX_DESCRIPTION};
+    private static final Prefix[] FIND_PREFIXES = {PREFIX_NAME, PREFIX_TAG, PREFIX_DATE};
+
+    private final ArgumentTokenizer addTokenizer = new ArgumentTokenizer(ADD_PREFIXES);
+    private final ArgumentTokenizer bookTokenizer = new ArgumentTokenizer(BOOK_PREFIXES);
+    private final ArgumentTokenizer findTokenizer = new ArgumentTokenizer(FIND_PREFIXES);
+
+    @Benchmark
+    public ArgumentMultimap addStatic() {
+        return ArgumentTokenizer.tokenize(ADD_ARGS, ADD_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap addPrecompiled() {
+        return addTokenizer.scan(ADD_ARGS);
+    }
+
+    @Benchmark
+    public ArgumentMultimap bookStatic() {
+        return ArgumentTokenizer.tokenize(BOOK_ARGS, BOOK_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap bookPrecompiled() {
+        return bookTokenizer.scan(BOOK_ARGS);
+    }
+
+    @Benchmark
+    public ArgumentMultimap findStatic() {
+        return ArgumentTokenizer.tokenize(FIND_ARGS, FIND_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap findPrecompiled() {
+        return findTokenizer.scan(FIND_ARGS);
+    }
+}
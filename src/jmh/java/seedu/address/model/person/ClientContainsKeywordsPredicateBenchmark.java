@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures a full {@code find} scan: testing {@link ClientContainsKeywordsPredicate} against every person,
+ * for name, tag and date criteria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int persons;
+
+    private final ClientContainsKeywordsPredicate byName =
+            new ClientContainsKeywordsPredicate(Map.of("name", List.of("yeoh", "ibrahim")));
+    private final ClientContainsKeywordsPredicate byTag =
+            new ClientContainsKeywordsPredicate(Map.of("tag", List.of("vip")));
+    private final ClientContainsKeywordsPredicate byDate =
+            new ClientContainsKeywordsPredicate(Map.of("date", List.of("2026-06-15")));
+    private List<Person> personList;
+
+    @Setup
+    public void setUp() {
+        personList = BenchmarkData.getPersons(persons);
+    }
+
+    @Benchmark
+    public int name() {
+        return countMatches(byName);
+    }
+
+    @Benchmark
+    public int tag() {
+        return countMatches(byTag);
+    }
+
+    @Benchmark
+    public int date() {
+        return countMatches(byDate);
+    }
+
+    private int countMatches(ClientContainsKeywordsPredicate predicate) {
+        int matches = 0;
+        for (Person person : personList) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
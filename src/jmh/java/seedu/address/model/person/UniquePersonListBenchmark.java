@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures the operations of {@link UniquePersonList} that commands use, on lists of increasing size.
+ * Operations that change the list undo their change, so every invocation sees the same list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int persons;
+
+    private final UniquePersonList list = new UniquePersonList();
+    private Person last;
+    private Person middle;
+    private Person editedMiddle;
+    private Person newcomer;
+
+    @Setup
+    public void setUp() {
+        List<Person> personList = BenchmarkData.getPersons(persons + 1);
+        newcomer = personList.remove(persons);
+        list.setPersons(personList);
+        last = personList.get(persons - 1);
+        middle = personList.get(persons / 2);
+        editedMiddle = new Person(middle.getName(), new Phone("99999999"), middle.getEmail(), middle.getTags(),
+                middle.getBookings());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(last);
+    }
+
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        list.add(newcomer);
+        list.remove(newcomer);
+        return list;
+    }
+
+    @Benchmark
+    public UniquePersonList setPersonTwice() {
+        list.setPerson(middle, editedMiddle);
+        list.setPerson(editedMiddle, middle);
+        return list;
+    }
+}
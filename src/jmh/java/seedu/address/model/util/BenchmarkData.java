@@ -0,0 +1,42 @@
+package seedu.address.model.util;
+
+import java.util.List;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Builds the same address book of a given size on every run, for benchmarks, with {@link SampleDataGenerator}'s
+ * default settings.
+ */
+public class BenchmarkData {
+
+    public static final long SEED = SampleDataGenerator.DEFAULT_SEED;
+
+    /**
+     * Returns {@code count} persons.
+     */
+    public static List<Person> getPersons(int count) {
+        return new SampleDataGenerator(SEED).withPersonCount(count).generatePersons();
+    }
+
+    /**
+     * Returns an address book of {@code count} persons.
+     */
+    public static AddressBook getAddressBook(int count) {
+        return new SampleDataGenerator(SEED).withPersonCount(count).generate();
+    }
+
+    /**
+     * Stops the application's logging, which would otherwise print a line for many of the operations measured,
+     * such as a warning for every clashing booking.
+     */
+    public static void quietLogging() {
+        Config config = new Config();
+        config.setLogLevel(Level.SEVERE);
+        LogsCenter.init(config);
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends concurrent requests to a running {@link HttpApiServer} and reports latency percentiles.
+ * <p>
+ * Usage: {@code ApiLoadTestClient [baseUrl] [path] [requests] [concurrency]}, e.g.
+ * {@code ApiLoadTestClient http://localhost:8080 /api/find?name=Alex 10000 32}.
+ * Requests are GETs unless {@code path} is {@code /api/commands}, in which case {@code list} is posted.
+ */
+public class ApiLoadTestClient {
+
+    private static final String DEFAULT_BASE_URL = "http://localhost:8080";
+    private static final String DEFAULT_PATH = HttpApiServer.PATH_PERSONS;
+    private static final int DEFAULT_REQUESTS = 10_000;
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : DEFAULT_BASE_URL;
+        String path = args.length > 1 ? args[1] : DEFAULT_PATH;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REQUESTS;
+        int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_CONCURRENCY;
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = buildRequest(URI.create(baseUrl + path), path);
+
+        run(client, request, Math.min(WARMUP_REQUESTS, requests), concurrency);
+        long start = System.nanoTime();
+        Result result = run(client, request, requests, concurrency);
+        long elapsed = System.nanoTime() - start;
+
+        long[] latencies = result.latencies;
+        Arrays.sort(latencies);
+        System.out.printf("%s %s: %d requests, %d threads, %d errors%n",
+                request.method(), path, requests, concurrency, result.errors);
+        System.out.printf("throughput: %.0f req/s%n", requests / (elapsed / (NANOS_PER_MILLI * 1000)));
+        System.out.printf("latency ms: p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                percentile(latencies, 99.9), latencies[latencies.length - 1] / NANOS_PER_MILLI);
+    }
+
+    private static HttpRequest buildRequest(URI uri, String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri);
+        if (path.startsWith(HttpApiServer.PATH_COMMANDS)) {
+            return builder.POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"list\"}")).build();
+        }
+        return builder.GET().build();
+    }
+
+    /**
+     * Sends {@code requests} copies of {@code request} from {@code concurrency} threads.
+     */
+    private static Result run(HttpClient client, HttpRequest request, int requests, int concurrency)
+            throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService threads = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(threads.submit(() -> {
+                for (int n = next.getAndIncrement(); n < requests; n = next.getAndIncrement()) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[n] = System.nanoTime() - start;
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        threads.shutdown();
+        return new Result(latencies, errors.get());
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / NANOS_PER_MILLI;
+    }
+
+    private static class Result {
+        private final long[] latencies;
+        private final int errors;
+
+        Result(long[] latencies, int errors) {
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures loading and saving a GZIP-compressed data file with {@link JsonAddressBookStorage} at each compression
+ * level, to compare with the uncompressed file in {@link JsonAddressBookStorageBenchmark}. The size of the file at
+ * each level, and of the uncompressed file, is printed when the benchmark is set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CompressedAddressBookStorageBenchmark {
+
+    @Param({"10000", "100000"})
+    public int persons;
+
+    @Param({"1", "6", "9"})
+    public int compressionLevel;
+
+    private Path folder;
+    private Path loadFile;
+    private Path saveFile;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkData.quietLogging();
+        folder = Files.createTempDirectory("compressed-storage-benchmark");
+        loadFile = folder.resolve("load.json.gz");
+        saveFile = folder.resolve("save.json.gz");
+        addressBook = BenchmarkData.getAddressBook(persons);
+        storage = new JsonAddressBookStorage(loadFile, compressionLevel);
+        storage.saveAddressBook(addressBook, loadFile);
+
+        Path uncompressedFile = folder.resolve("load.json");
+        storage.saveAddressBook(addressBook, uncompressedFile);
+        System.out.printf("%n%d persons: %d bytes uncompressed, %d bytes at level %d%n", persons,
+                Files.size(uncompressedFile), Files.size(loadFile), compressionLevel);
+        Files.delete(uncompressedFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(loadFile);
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return storage.readAddressBook(loadFile);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveAddressBook(addressBook, saveFile);
+        return saveFile;
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures loading and saving the JSON data file with {@link JsonAddressBookStorage}, at increasing sizes.
+ * {@code load} reads a file as this app wrote it, whose persons are trusted, as on a normal startup, and
+ * {@code loadWithFullValidation} reads the same file without its content hash, so that every value is validated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int persons;
+
+    private Path folder;
+    private Path loadFile;
+    private Path validatedLoadFile;
+    private Path saveFile;
+    private AddressBook addressBook;
+    private PointUpdate pointUpdate;
+    private JsonAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkData.quietLogging();
+        folder = Files.createTempDirectory("storage-benchmark");
+        loadFile = folder.resolve("load.json");
+        validatedLoadFile = folder.resolve("load-validated.json");
+        saveFile = folder.resolve("save.json");
+        addressBook = BenchmarkData.getAddressBook(persons);
+        storage = new JsonAddressBookStorage(loadFile);
+        pointUpdate = new PointUpdate(new AddressBook(addressBook));
+        storage.saveAddressBook(addressBook, loadFile);
+        Files.writeString(validatedLoadFile, Files.readString(loadFile)
+                .replaceFirst("\"contentHash\" : \"[0-9a-f]*\",", ""));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(loadFile);
+        Files.deleteIfExists(validatedLoadFile);
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return storage.readAddressBook(loadFile);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> loadWithFullValidation() throws DataLoadingException {
+        return storage.readAddressBook(validatedLoadFile);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveAddressBook(addressBook, saveFile);
+        return saveFile;
+    }
+
+    /**
+     * Edits one person and saves, which rewrites the whole file.
+     */
+    @Benchmark
+    public Path pointUpdate() throws IOException {
+        storage.saveAddressBook(pointUpdate.next(), saveFile);
+        return saveFile;
+    }
+}
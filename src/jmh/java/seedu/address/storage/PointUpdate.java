@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Edits one person in the middle of an address book at a time, alternating between two phone numbers, for the
+ * storage benchmarks that save after a single edit.
+ */
+class PointUpdate {
+
+    final AddressBook addressBook;
+    private int updates;
+
+    PointUpdate(AddressBook addressBook) {
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Edits the person and returns the address book.
+     */
+    AddressBook next() {
+        Person target = addressBook.getPersonList().get(addressBook.getPersonList().size() / 2);
+        String phone = updates++ % 2 == 0 ? "91234567" : "98765432";
+        addressBook.setPerson(target, new Person(target.getName(), new Phone(phone), target.getEmail(),
+                target.getTags(), target.getBookings()));
+        return addressBook;
+    }
+}
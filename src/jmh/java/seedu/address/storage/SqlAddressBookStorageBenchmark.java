@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.BenchmarkData;
+
+/**
+ * Measures loading, saving and updating one person in an SQLite database with {@link SqlAddressBookStorage}, at the
+ * same sizes as {@link JsonAddressBookStorageBenchmark}, which measures the same with the JSON data file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SqlAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int persons;
+
+    private Path folder;
+    private Path loadFile;
+    private Path saveFile;
+    private AddressBook addressBook;
+    private SqlAddressBookStorage storage;
+    private SqlAddressBookStorage updatedStorage;
+    private PointUpdate pointUpdate;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkData.quietLogging();
+        folder = Files.createTempDirectory("sql-storage-benchmark");
+        loadFile = folder.resolve("load.db");
+        saveFile = folder.resolve("save.db");
+        addressBook = BenchmarkData.getAddressBook(persons);
+        storage = new SqlAddressBookStorage(loadFile);
+        storage.saveAddressBook(addressBook, loadFile);
+        storage.checkpointAddressBook();
+
+        AddressBook updated = new AddressBook(addressBook);
+        updatedStorage = new SqlAddressBookStorage(folder.resolve("update.db"));
+        updatedStorage.saveAddressBook(updated);
+        pointUpdate = new PointUpdate(updated);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return storage.readAddressBook(loadFile);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveAddressBook(addressBook, saveFile);
+        return saveFile;
+    }
+
+    /**
+     * Edits one person and saves, which writes only that person's rows.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook pointUpdate() throws IOException {
+        updatedStorage.saveAddressBook(pointUpdate.next());
+        return pointUpdate.addressBook;
+    }
+}
@@ -0,0 +1,359 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.MetricsDumper;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookBackups;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackupScheduler;
+import seedu.address.storage.DataFileWatcher;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Creates the components of the application that do not depend on the UI.
+ * Shared by the JavaFX entry point {@code MainApp} and the headless entry point {@code HeadlessApp}.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+    private static final DateTimeFormatter UNREADABLE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * Returns the storage for the address book data file in {@code userPrefs}: an SQL database if the file's name
+     * ends with {@link SqlAddressBookStorage#FILE_EXTENSION}, a directory of shard files if the path is an existing
+     * directory or ends with {@link ShardedAddressBookStorage#DIRECTORY_SUFFIX}, or else a JSON file with a journal
+     * beside it, compressed if its name ends with {@link JsonUtil#COMPRESSED_FILE_EXTENSION}.
+     */
+    public AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (SqlAddressBookStorage.isDatabaseFile(filePath)) {
+            logger.info("Storing data in the database " + filePath);
+            return new SqlAddressBookStorage(filePath);
+        }
+        if (ShardedAddressBookStorage.isShardDirectory(filePath)) {
+            logger.info("Storing data in shards in the directory " + filePath);
+            return new ShardedAddressBookStorage(filePath);
+        }
+        return new JournaledAddressBookStorage(filePath, JournaledAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL,
+                userPrefs.getDataFileCompressionLevel());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found.
+     * If errors occur when reading {@code storage}'s address book, only its valid persons are used, or an empty
+     * address book if none can be salvaged, in which case the data file is moved aside first.
+     */
+    public Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be salvaging what can be loaded from it.");
+            initialData = salvageAddressBook(storage);
+        }
+
+        Model model = new ModelManager(initialData, userPrefs);
+        warmUpSearchKeys(model.getAddressBook().getPersonList());
+        return model;
+    }
+
+    /**
+     * Computes the {@link Person#getSearchKeys() search keys} of {@code persons} on a background thread, so that
+     * the first {@code find} after startup is as fast as later ones.
+     */
+    private void warmUpSearchKeys(List<Person> persons) {
+        List<Person> toWarmUp = List.copyOf(persons);
+        Thread warmUp = new Thread(() -> {
+            long startNanos = System.nanoTime();
+            toWarmUp.forEach(Person::getSearchKeys);
+            logger.fine(() -> String.format("Computed the search keys of %d persons in %d ms", toWarmUp.size(),
+                    (System.nanoTime() - startNanos) / 1_000_000));
+        }, "search-warm-up");
+        warmUp.setDaemon(true);
+        warmUp.start();
+    }
+
+    /**
+     * Returns the valid persons in {@code storage}'s address book, and saves them in place of it, since what could
+     * not be loaded has been set aside in a quarantine file. Returns an empty address book if none can be salvaged,
+     * having first moved the data file aside, since nothing of it was set aside and the next save would overwrite it.
+     *
+     * @throws UncheckedIOException if the data file could not be salvaged or moved aside, so that starting would
+     *     overwrite it.
+     */
+    private ReadOnlyAddressBook salvageAddressBook(Storage storage) {
+        Optional<ReadOnlyAddressBook> salvaged;
+        try {
+            salvaged = storage.salvageAddressBook();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be salvaged: "
+                    + StringUtil.getDetails(e) + " Will be moving it aside and starting with an empty AddressBook.");
+            setAsideUnreadableDataFile(storage.getAddressBookFilePath());
+            return new AddressBook();
+        }
+        if (salvaged.isEmpty()) {
+            return new AddressBook();
+        }
+        try {
+            storage.saveAddressBook(salvaged.get());
+        } catch (IOException e) {
+            logger.warning("Failed to save salvaged data : " + StringUtil.getDetails(e));
+        }
+        return salvaged.get();
+    }
+
+    /**
+     * Renames the data file at {@code filePath}, and its journal if it has one, to the same name ending in
+     * {@code .unreadable-<timestamp>}, so that the user can recover them by hand.
+     *
+     * @throws UncheckedIOException if either cannot be renamed.
+     */
+    private void setAsideUnreadableDataFile(Path filePath) {
+        String suffix = ".unreadable-" + UNREADABLE_TIMESTAMP.format(LocalDateTime.now());
+        for (Path file : List.of(filePath, JournaledAddressBookStorage.getJournalFilePath(filePath))) {
+            if (!Files.exists(file)) {
+                continue;
+            }
+            Path setAsidePath = file.resolveSibling(file.getFileName() + suffix);
+            try {
+                Files.move(file, setAsidePath);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Not starting, so as not to overwrite the unreadable " + file
+                        + ", which could not be moved aside. Move it elsewhere, then start the app again.", e);
+            }
+            logger.warning("Moved the unreadable " + file + " to " + setAsidePath);
+        }
+    }
+
+    /**
+     * Replaces the data in {@code storage}'s address book file with {@code personCount} generated persons,
+     * generated with {@code seed}, or the default seed if it is null.
+     */
+    public void generateData(Storage storage, int personCount, Long seed) {
+        SampleDataGenerator generator = seed == null ? new SampleDataGenerator() : new SampleDataGenerator(seed);
+        logger.warning("Replacing the data in " + storage.getAddressBookFilePath() + " with " + personCount
+                + " generated persons");
+        try {
+            storage.saveAddressBook(generator.withPersonCount(personCount).generate());
+        } catch (IOException e) {
+            logger.warning("Failed to save generated data : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Starts writing {@code metrics} to the metrics file in {@code config}, and returns the dumper doing so,
+     * or returns null if {@code config} has no metrics file.
+     */
+    public MetricsDumper initMetricsDumper(Config config, CommandMetrics metrics) {
+        if (config.getMetricsFilePath() == null) {
+            return null;
+        }
+        MetricsDumper metricsDumper = new MetricsDumper(metrics, config.getMetricsFilePath(),
+                config.getMetricsDumpIntervalSeconds());
+        metricsDumper.start();
+        return metricsDumper;
+    }
+
+    /**
+     * Starts backing up {@code model}'s address book at the interval in {@code userPrefs}, and returns the scheduler
+     * doing so, or returns null if automatic backups are off.
+     */
+    public BackupScheduler initBackupScheduler(Model model, ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getBackupIntervalMinutes() == 0) {
+            return null;
+        }
+        BackupScheduler backupScheduler = new BackupScheduler(
+                AddressBookBackups.forDataFile(model.getAddressBookFilePath()),
+                () -> model.getAddressBookSnapshot().getPersons(), userPrefs.getBackupIntervalMinutes());
+        backupScheduler.start();
+        return backupScheduler;
+    }
+
+    /**
+     * Starts watching {@code storage}'s data file, and runs {@code onChange} whenever it changes, so that changes
+     * made by other programs can be reloaded. Returns the watcher, or returns null if the data is not kept in a
+     * JSON data file, or the data file cannot be watched.
+     */
+    public DataFileWatcher initDataFileWatcher(Storage storage, Runnable onChange) {
+        Path filePath = storage.getAddressBookFilePath();
+        if (SqlAddressBookStorage.isDatabaseFile(filePath) || ShardedAddressBookStorage.isShardDirectory(filePath)) {
+            return null;
+        }
+        DataFileWatcher dataFileWatcher = new DataFileWatcher(filePath, onChange);
+        try {
+            dataFileWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Could not watch " + filePath + " for changes by other programs: "
+                    + StringUtil.getDetails(e));
+            return null;
+        }
+        return dataFileWatcher;
+    }
+
+    /**
+     * Starts a Flight Recorder recording with the JDK's default settings, which is written to {@code filePath}
+     * when stopped or when the JVM exits. Returns the recording, or null if it could not be started.
+     */
+    public Recording initFlightRecording(Path filePath) {
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("FirstImpressions");
+            recording.setDestination(filePath);
+            recording.setDumpOnExit(true);
+            recording.start();
+            logger.info("Recording with Flight Recorder to " + filePath);
+            return recording;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warning("Could not start a Flight Recorder recording: " + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
+    public void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+        replaceOutOfRangePrefs(initializedPrefs);
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Replaces each value in {@code userPrefs} that is out of range with its default, warning about it. The prefs file
+     * is read without the checks of the {@code UserPrefs} setters, so it may hold any value.
+     */
+    private static void replaceOutOfRangePrefs(UserPrefs userPrefs) {
+        UserPrefs defaults = new UserPrefs();
+        if (userPrefs.getUndoHistoryBytes() < 0) {
+            warnOutOfRange(VersionedAddressBook.MESSAGE_CONSTRAINTS, userPrefs.getUndoHistoryBytes(),
+                    defaults.getUndoHistoryBytes());
+            userPrefs.setUndoHistoryBytes(defaults.getUndoHistoryBytes());
+        }
+        if (!JsonUtil.isValidCompressionLevel(userPrefs.getDataFileCompressionLevel())) {
+            warnOutOfRange(JsonUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS, userPrefs.getDataFileCompressionLevel(),
+                    defaults.getDataFileCompressionLevel());
+            userPrefs.setDataFileCompressionLevel(defaults.getDataFileCompressionLevel());
+        }
+        if (userPrefs.getBackupIntervalMinutes() < 0) {
+            warnOutOfRange(UserPrefs.MESSAGE_BACKUP_INTERVAL_CONSTRAINTS, userPrefs.getBackupIntervalMinutes(),
+                    defaults.getBackupIntervalMinutes());
+            userPrefs.setBackupIntervalMinutes(defaults.getBackupIntervalMinutes());
+        }
+    }
+
+    private static void warnOutOfRange(String constraints, long value, long defaultValue) {
+        logger.warning(constraints + " Using " + defaultValue + " instead of " + value + " from the preference file.");
+    }
+}
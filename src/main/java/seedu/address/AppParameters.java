@@ -16,8 +16,15 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MIN_PORT = 0;
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private Path runFilePath;
+    private Integer apiPort;
+    private Path flightRecordingPath;
+    private Integer generatedPersonCount;
+    private Long seed;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +34,70 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getRunFilePath() {
+        return runFilePath;
+    }
+
+    public void setRunFilePath(Path runFilePath) {
+        this.runFilePath = runFilePath;
+    }
+
+    /**
+     * Returns the port to serve the HTTP API on, or null if the API should not be started.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    /**
+     * Returns the file to write a Flight Recorder recording of the whole run to, or null if none should be made.
+     */
+    public Path getFlightRecordingPath() {
+        return flightRecordingPath;
+    }
+
+    public void setFlightRecordingPath(Path flightRecordingPath) {
+        this.flightRecordingPath = flightRecordingPath;
+    }
+
+    /**
+     * Returns the number of persons to generate into the data file before starting, or null to keep the file as is.
+     */
+    public Integer getGeneratedPersonCount() {
+        return generatedPersonCount;
+    }
+
+    public void setGeneratedPersonCount(Integer generatedPersonCount) {
+        this.generatedPersonCount = generatedPersonCount;
+    }
+
+    /**
+     * Returns the seed to generate persons with, or null to use the default seed.
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, given as a map from name to value.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +106,71 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String runFilePathParameter = namedParameters.get("run");
+        if (runFilePathParameter != null && !FileUtil.isValidPath(runFilePathParameter)) {
+            logger.warning("Invalid command file path " + runFilePathParameter + ". No commands will be run.");
+            runFilePathParameter = null;
+        }
+        appParameters.setRunFilePath(runFilePathParameter != null ? Paths.get(runFilePathParameter) : null);
+
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". The HTTP API will not be started.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.parseInt(apiPortParameter) : null);
+
+        String flightRecordingParameter = namedParameters.get("jfr");
+        if (flightRecordingParameter != null && !FileUtil.isValidPath(flightRecordingParameter)) {
+            logger.warning("Invalid recording path " + flightRecordingParameter + ". No recording will be made.");
+            flightRecordingParameter = null;
+        }
+        appParameters.setFlightRecordingPath(
+                flightRecordingParameter != null ? Paths.get(flightRecordingParameter) : null);
+
+        String generateParameter = namedParameters.get("generate");
+        if (generateParameter != null && !isValidCount(generateParameter)) {
+            logger.warning("Invalid number of persons to generate " + generateParameter + ". None will be generated.");
+            generateParameter = null;
+        }
+        appParameters.setGeneratedPersonCount(generateParameter != null ? Integer.parseInt(generateParameter) : null);
+
+        String seedParameter = namedParameters.get("seed");
+        if (seedParameter != null && !isValidSeed(seedParameter)) {
+            logger.warning("Invalid seed " + seedParameter + ". Using the default seed.");
+            seedParameter = null;
+        }
+        appParameters.setSeed(seedParameter != null ? Long.parseLong(seedParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        try {
+            int value = Integer.parseInt(port);
+            return value >= MIN_PORT && value <= MAX_PORT;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isValidCount(String count) {
+        try {
+            return Integer.parseInt(count) >= 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isValidSeed(String seed) {
+        try {
+            Long.parseLong(seed);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +183,28 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(runFilePath, otherAppParameters.runFilePath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort)
+                && Objects.equals(flightRecordingPath, otherAppParameters.flightRecordingPath)
+                && Objects.equals(generatedPersonCount, otherAppParameters.generatedPersonCount)
+                && Objects.equals(seed, otherAppParameters.seed);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, runFilePath, apiPort, flightRecordingPath, generatedPersonCount, seed);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("runFilePath", runFilePath)
+                .add("apiPort", apiPort)
+                .add("flightRecordingPath", flightRecordingPath)
+                .add("generatedPersonCount", generatedPersonCount)
+                .add("seed", seed)
                 .toString();
     }
 }
@@ -0,0 +1,296 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.ExternalChange;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.MetricsDumper;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.server.HttpApiServer;
+import seedu.address.storage.BackupScheduler;
+import seedu.address.storage.DataFileWatcher;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI, so that it can be used where no display is available.
+ * <p>
+ * Named parameters of the form {@code --name=value} are handled as in {@link AppParameters}. Every other
+ * argument is run as a command, in order. If no commands are given, commands are read from standard input, one
+ * per line. The result of each command is printed to standard output and errors to standard error.
+ * If {@code --api-port} is given, the HTTP API is served after the commands have run, until the process is stopped.
+ */
+public class HeadlessApp {
+
+    /** Selects this entry point when passed to {@link Main}. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppInitializer initializer = new AppInitializer();
+    private final PrintStream out;
+    private final PrintStream err;
+    private MetricsDumper metricsDumper;
+    private BackupScheduler backupScheduler;
+    private DataFileWatcher dataFileWatcher;
+    private Logic logic;
+    private Storage storage;
+
+    /**
+     * Creates a {@code HeadlessApp} that prints command results to {@code out} and errors to {@code err}.
+     */
+    public HeadlessApp(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    public static void main(String[] args) {
+        System.exit(new HeadlessApp(System.out, System.err).run(args, System.in));
+    }
+
+    /**
+     * Sets up the application and runs the commands in {@code args}, or those read from {@code in}
+     * if {@code args} contains none.
+     *
+     * @return {@code EXIT_SUCCESS} if every command succeeded, or {@code EXIT_COMMAND_FAILED} otherwise.
+     */
+    public int run(String[] args, InputStream in) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> commands = new ArrayList<>();
+        splitArguments(args, namedParameters, commands);
+
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        try {
+            return run(initLogic(appParameters), appParameters, commands, in);
+        } finally {
+            // Also stops whatever was started if setting up failed part way.
+            stop();
+        }
+    }
+
+    /**
+     * Stops dumping metrics, taking backups and watching the data file, waits for exports to finish, and writes the
+     * journaled changes into the data file.
+     */
+    private synchronized void stop() {
+        if (metricsDumper != null) {
+            metricsDumper.stop();
+        }
+        if (backupScheduler != null) {
+            backupScheduler.stop();
+        }
+        if (dataFileWatcher != null) {
+            dataFileWatcher.stop();
+        }
+        if (logic != null) {
+            logic.stopExports();
+        }
+        if (logic != null && dataFileWatcher != null) {
+            // Merge changes the watcher has not reported yet, so that the checkpoint below can write the data file.
+            reloadExternalChanges();
+        }
+        if (storage == null) {
+            return;
+        }
+        try {
+            storage.checkpointAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to checkpoint the data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    private int run(Logic logic, AppParameters appParameters, List<String> commands, InputStream in) {
+        boolean isAllSuccessful = true;
+        if (appParameters.getRunFilePath() != null) {
+            isAllSuccessful = runCommandFile(logic, appParameters.getRunFilePath()) != null;
+        }
+
+        if (commands.isEmpty() && appParameters.getRunFilePath() == null && appParameters.getApiPort() == null) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                boolean isExit = false;
+                while (!isExit && (line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    CommandResult result = execute(logic, line);
+                    isAllSuccessful &= result != null;
+                    isExit = result != null && result.isExit();
+                }
+            } catch (IOException e) {
+                err.println("Could not read commands: " + e.getMessage());
+                return EXIT_COMMAND_FAILED;
+            }
+        } else {
+            for (String command : commands) {
+                CommandResult result = execute(logic, command);
+                isAllSuccessful &= result != null;
+                if (result != null && result.isExit()) {
+                    break;
+                }
+            }
+        }
+        if (appParameters.getApiPort() != null) {
+            return serveApi(logic, appParameters.getApiPort());
+        }
+        return isAllSuccessful ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Serves the HTTP API on {@code port} until the process is terminated.
+     * Commands from the API are executed one at a time on a dedicated thread.
+     */
+    private int serveApi(Logic logic, int port) {
+        ExecutorService writeExecutor = Executors.newSingleThreadExecutor();
+        HttpApiServer apiServer;
+        try {
+            apiServer = new HttpApiServer(logic, writeExecutor, port);
+        } catch (IOException e) {
+            err.println("Could not start the HTTP API on port " + port + ": " + e.getMessage());
+            writeExecutor.shutdown();
+            return EXIT_COMMAND_FAILED;
+        }
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            apiServer.stop();
+            writeExecutor.shutdown();
+            stop();
+            stopped.countDown();
+        }));
+        apiServer.start();
+        out.println(String.format(HttpApiServer.MESSAGE_STARTED, apiServer.getPort(), apiServer.getToken())
+                + " Press Ctrl+C to stop.");
+
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Wires up config, user prefs, storage, model and logic as {@code MainApp} does, without any UI.
+     */
+    private Logic initLogic(AppParameters appParameters) {
+        logger.info("=========================[ Initializing AddressBook (headless) ]========================");
+        Config config = initializer.initConfig(appParameters.getConfigPath());
+        initializer.initLogging(config);
+        if (appParameters.getFlightRecordingPath() != null) {
+            initializer.initFlightRecording(appParameters.getFlightRecordingPath());
+        }
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initializer.initPrefs(userPrefsStorage);
+        storage = new StorageManager(
+                initializer.initAddressBookStorage(userPrefs), userPrefsStorage);
+        if (appParameters.getGeneratedPersonCount() != null) {
+            initializer.generateData(storage, appParameters.getGeneratedPersonCount(), appParameters.getSeed());
+        }
+        Model model = initializer.initModelManager(storage, userPrefs);
+        CommandMetrics metrics = new CommandMetrics();
+        metricsDumper = initializer.initMetricsDumper(config, metrics);
+        backupScheduler = initializer.initBackupScheduler(model, userPrefs);
+        logic = new LogicManager(model, storage, metrics);
+        logic.setExportFeedbackHandler(out::println);
+        // LogicManager applies changes one at a time, between commands, so they can be merged on the watcher's thread.
+        dataFileWatcher = initializer.initDataFileWatcher(storage, this::reloadExternalChanges);
+        return logic;
+    }
+
+    /**
+     * Merges in the changes that another program made to the data file, and prints what was merged.
+     */
+    private void reloadExternalChanges() {
+        try {
+            // Read without holding up commands from the HTTP API; only applying the changes waits for them.
+            Optional<ExternalChange> change = logic.readExternalChanges();
+            if (change.isPresent()) {
+                logic.applyExternalChanges(change.get()).ifPresent(err::println);
+            }
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the commands in {@code runFilePath} and prints the result.
+     *
+     * @return the result, or null if the file could not be run.
+     */
+    private CommandResult runCommandFile(Logic logic, Path runFilePath) {
+        try {
+            CommandResult result = logic.runCommandFile(runFilePath);
+            out.println(result.getFeedbackToUser());
+            return result;
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Executes {@code commandText} and prints its result.
+     *
+     * @return the result, or null if the command failed.
+     */
+    private CommandResult execute(Logic logic, String commandText) {
+        try {
+            CommandResult result = logic.execute(commandText);
+            out.println(result.getFeedbackToUser());
+            return result;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Sorts {@code args} into named parameters ({@code --name=value}) and commands.
+     * The {@code HEADLESS_FLAG} itself is ignored.
+     */
+    private static void splitArguments(String[] args, Map<String, String> namedParameters, List<String> commands) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            } else if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separator > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separator),
+                        arg.substring(separator + 1));
+            } else {
+                commands.add(arg);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,6 +21,9 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * If {@code --headless} is given, the application is run by {@link HeadlessApp} instead,
+ * without starting the JavaFX toolkit.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
@@ -35,6 +39,11 @@ public class Main {
         // the user (if looking at the log output) that the said warning appearing in the log
         // can be ignored.
 
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_FLAG)) {
+            HeadlessApp.main(args);
+            return;
+        }
+
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
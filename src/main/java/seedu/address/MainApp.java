@@ -2,28 +2,28 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.ExternalChange;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
-import seedu.address.model.AddressBook;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.MetricsDumper;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.HttpApiServer;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BackupScheduler;
+import seedu.address.storage.DataFileWatcher;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -45,6 +45,12 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected HttpApiServer apiServer;
+    protected MetricsDumper metricsDumper;
+    protected BackupScheduler backupScheduler;
+    protected DataFileWatcher dataFileWatcher;
+
+    private final AppInitializer initializer = new AppInitializer();
 
     @Override
     public void init() throws Exception {
@@ -53,134 +59,143 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        initializer.initLogging(config);
+        if (appParameters.getFlightRecordingPath() != null) {
+            initializer.initFlightRecording(appParameters.getFlightRecordingPath());
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initializer.initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        if (appParameters.getGeneratedPersonCount() != null) {
+            initializer.generateData(storage, appParameters.getGeneratedPersonCount(), appParameters.getSeed());
+        }
 
-        model = initModelManager(storage, userPrefs);
+        model = initializer.initModelManager(storage, userPrefs);
+
+        CommandMetrics metrics = new CommandMetrics();
+        logic = new LogicManager(model, storage, metrics);
+        metricsDumper = initializer.initMetricsDumper(config, metrics);
+        backupScheduler = initializer.initBackupScheduler(model, userPrefs);
+
+        if (appParameters.getRunFilePath() != null) {
+            runCommandFile(appParameters.getRunFilePath());
+        }
 
-        logic = new LogicManager(model, storage);
+        if (appParameters.getApiPort() != null) {
+            // Commands from the API are executed on the JavaFX thread, like those typed into the UI.
+            apiServer = new HttpApiServer(logic, Platform::runLater, appParameters.getApiPort());
+        }
 
         ui = new UiManager(logic);
+        logic.setExportFeedbackHandler(message -> Platform.runLater(() -> ui.showFeedback(message)));
+        // Changes are read and merged on the watcher's thread, and applied on the JavaFX thread, like commands typed
+        // into the UI.
+        dataFileWatcher = initializer.initDataFileWatcher(storage, this::readExternalChanges);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Reads and merges the changes that another program made to the data file, and passes them to the JavaFX
+     * thread to be applied.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+    private void readExternalChanges() {
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            logic.readExternalChanges().ifPresent(change -> Platform.runLater(() -> applyExternalChanges(change)));
+        } catch (CommandException e) {
+            logger.warning(e.getMessage());
+            Platform.runLater(() -> ui.showFeedback(e.getMessage()));
         }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Applies the changes that another program made to the data file, and shows what was merged.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
+    private void applyExternalChanges(ExternalChange change) {
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logic.applyExternalChanges(change).ifPresent(ui::showFeedback);
+        } catch (CommandException e) {
+            logger.warning(e.getMessage());
+            ui.showFeedback(e.getMessage());
         }
-        return initializedConfig;
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Runs the commands in {@code runFilePath} through {@code logic} before the UI is shown.
+     * The outcome, including any lines that failed, is logged.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
+    private void runCommandFile(Path runFilePath) {
+        logger.info("Running commands from " + runFilePath);
         try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
+            CommandResult result = logic.runCommandFile(runFilePath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException e) {
+            logger.warning("Could not run commands from " + runFilePath + ": " + e.getMessage());
         }
+    }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}.
+     *
+     * @see AppInitializer#initConfig(Path)
+     */
+    protected Config initConfig(Path configFilePath) {
+        return initializer.initConfig(configFilePath);
+    }
 
-        return initializedPrefs;
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     *
+     * @see AppInitializer#initPrefs(UserPrefsStorage)
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        return initializer.initPrefs(storage);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (apiServer != null) {
+            apiServer.start();
+            // The token is shown rather than logged, so that only the user sees it.
+            ui.showFeedback(String.format(HttpApiServer.MESSAGE_STARTED, apiServer.getPort(), apiServer.getToken()));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        if (metricsDumper != null) {
+            metricsDumper.stop();
+        }
+        if (backupScheduler != null) {
+            backupScheduler.stop();
+        }
+        if (logic != null) {
+            logic.stopExports();
+        }
+        if (dataFileWatcher != null) {
+            dataFileWatcher.stop();
+            // Merge changes the watcher has not reported yet, so that the checkpoint below can write the data file.
+            try {
+                logic.reloadExternalChanges();
+            } catch (CommandException e) {
+                logger.warning(e.getMessage());
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.checkpointAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to checkpoint the data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,177 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records to other handlers on a background thread, so that the thread that logs only pays for putting
+ * the record in a fixed-size ring buffer, not for formatting it or writing it to the console or a file.
+ * <p>
+ * When the buffer is full, records below {@code WARNING} are dropped, and the number dropped is logged once there is
+ * room again; records at {@code WARNING} or above wait for room instead. {@link #flush()} waits until every record
+ * published before it has been written, and {@link #close()} writes the rest and then closes the other handlers.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    static final String MESSAGE_DROPPED = "%1$d log record(s) were dropped because the log buffer was full";
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that hands records to {@code targets}, buffering up to {@code capacity}
+     * records, and starts its writer thread.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity) {
+        requireNonNull(targets);
+        checkArgument(capacity > 0, "The log buffer capacity must be positive.");
+        this.targets = List.copyOf(targets);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        setLevel(Level.ALL);
+        writer = new Thread(this::write, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The source is found by walking the stack of the thread that logs, so it must be found before handing over.
+        record.getSourceClassName();
+        if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            enqueue(record);
+        } else if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every record published so far has been written, then flushes the other handlers.
+     */
+    @Override
+    public void flush() {
+        if (isClosed) {
+            return;
+        }
+        Marker marker = new Marker(false);
+        enqueue(marker);
+        marker.await();
+    }
+
+    /**
+     * Writes every record published so far, stops the writer thread and closes the other handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        Marker marker = new Marker(true);
+        enqueue(marker);
+        isClosed = true;
+        marker.await();
+    }
+
+    /**
+     * Returns the number of records dropped so far that have not yet been reported.
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void enqueue(LogRecord record) {
+        try {
+            buffer.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs on the writer thread until a closing {@code Marker} is taken.
+     */
+    private void write() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            reportDropped();
+            if (record instanceof Marker) {
+                Marker marker = (Marker) record;
+                targets.forEach(marker.isClosing ? Handler::close : Handler::flush);
+                marker.done.countDown();
+                if (marker.isClosing) {
+                    return;
+                }
+                continue;
+            }
+            writeToTargets(record);
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord record = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED, dropped));
+            record.setSourceClassName(AsyncLogHandler.class.getName());
+            record.setSourceMethodName("publish");
+            writeToTargets(record);
+        }
+    }
+
+    private void writeToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Could not write a log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Marks a point in the buffer that a {@code flush} or {@code close} waits for the writer to reach.
+     */
+    private class Marker extends LogRecord {
+        private final boolean isClosing;
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        Marker(boolean isClosing) {
+            super(Level.OFF, null);
+            this.isClosing = isClosing;
+        }
+
+        void await() {
+            try {
+                if (!done.await(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    reportError("Timed out waiting for the log writer", null, ErrorManager.FLUSH_FAILURE);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
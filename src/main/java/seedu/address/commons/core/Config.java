@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = null;
+    private long metricsDumpIntervalSeconds = 60;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,25 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the file that command metrics are periodically written to, or null if they are not written out.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +68,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && metricsDumpIntervalSeconds == otherConfig.metricsDumpIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, metricsDumpIntervalSeconds);
     }
 
     @Override
@@ -60,6 +83,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("metricsFilePath", metricsFilePath)
+                .add("metricsDumpIntervalSeconds", metricsDumpIntervalSeconds)
                 .toString();
     }
 
@@ -0,0 +1,13 @@
+package seedu.address.commons.exceptions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Signals that a data file was not written because something else changed it since it was last read or written.
+ */
+public class DataFileChangedException extends IOException {
+    public DataFileChangedException(Path filePath) {
+        super(filePath + " was changed by another program since it was last read or written.");
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads and writes single lines of comma-separated values.
+ * <p>
+ * Fields may be enclosed in double quotes, in which case they may contain commas, and a double quote is written
+ * as two double quotes. A quoted field cannot span more than one line.
+ */
+public class CsvUtil {
+
+    public static final char SEPARATOR = ',';
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is missing its closing quote.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Unexpected text after a closing quote.";
+
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code line} into its fields, removing any quotes around them.
+     *
+     * @throws IllegalValueException if the quotes in {@code line} are unbalanced.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            field.setLength(0);
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuoted(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Joins {@code fields} into a line, quoting the fields that need it so that {@link #parseLine} gives them back.
+     * Line breaks within a field are replaced by spaces, since a field cannot span more than one line.
+     */
+    public static String formatLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    line.append(SEPARATOR);
+                }
+                appendField(line, fields.get(i));
+            }
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw IOException", e);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Appends {@code field} to {@code out} as a single field, quoted if it needs to be, without building any
+     * intermediate string. Line breaks within the field are replaced by spaces.
+     */
+    public static void appendField(Appendable out, String field) throws IOException {
+        requireNonNull(field);
+        boolean needsQuotes = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1;
+        if (needsQuotes) {
+            out.append(QUOTE);
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE).append(QUOTE);
+            } else if (c == '\r' || c == '\n') {
+                out.append(' ');
+                if (c == '\r' && i + 1 < field.length() && field.charAt(i + 1) == '\n') {
+                    i++;
+                }
+            } else {
+                out.append(c);
+            }
+        }
+        if (needsQuotes) {
+            out.append(QUOTE);
+        }
+    }
+
+    /**
+     * Appends the quoted field starting at {@code start} (just after the opening quote) to {@code field}.
+     *
+     * @return the position just after the closing quote.
+     */
+    private static int readQuoted(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+}
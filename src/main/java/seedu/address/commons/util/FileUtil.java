@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +89,81 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of a file with the given string, so that after a crash the file holds either its old or
+     * its new contents, never part of them. The string is written and synced to a temporary file beside
+     * {@code file}, which is then moved over it, and the move is synced too, so that the new contents are durable
+     * once this returns.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, with the contents streamed by {@code writer}, so that
+     * they need not be held in memory all at once.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            writer.writeTo(new UnclosedOutputStream(out));
+            out.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Syncs the entries of {@code directory}, so that a file moved into it stays there after a crash.
+     * Does nothing where directories cannot be opened, as on Windows.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * An output stream whose {@code close()} only flushes, since the file it writes to is synced before it is
+     * closed.
+     */
+    private static class UnclosedOutputStream extends FilterOutputStream {
+        UnclosedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -1,20 +1,31 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -28,7 +39,14 @@ import seedu.address.commons.exceptions.DataLoadingException;
  */
 public class JsonUtil {
 
+    /** JSON data files whose names end with this are written GZIP-compressed. */
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    public static final String MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS =
+            "The compression level must be from 0 (none) to 9 (smallest).";
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -45,7 +63,70 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = openInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Opens {@code file} for reading, decompressing it as it is read if it is GZIP-compressed, which is detected
+     * from its first bytes rather than its name.
+     */
+    public static InputStream openInputStream(Path file) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file), STREAM_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int first = in.read();
+            int second = in.read();
+            in.reset();
+            if (first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8)) {
+                return new GZIPInputStream(in, STREAM_BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if JSON files at {@code file} are written GZIP-compressed, which is when its name ends with
+     * {@link #COMPRESSED_FILE_EXTENSION}.
+     */
+    public static boolean isCompressedFile(Path file) {
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Saves the Json object to the specified file, streaming it to disk as it is converted, and replacing the file
+     * atomically as {@link FileUtil#writeToFileAtomically(Path, String)} does. If {@link #isCompressedFile(Path)},
+     * the file is GZIP-compressed at {@code compressionLevel}, from 0 for none to 9 for the smallest file.
+     *
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFileAtomically(T jsonFile, Path filePath, int compressionLevel)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+        checkArgument(isValidCompressionLevel(compressionLevel), MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+
+        ObjectWriter writer = objectMapper.writerWithDefaultPrettyPrinter();
+        if (!isCompressedFile(filePath)) {
+            FileUtil.writeToFileAtomically(filePath, out -> writer.writeValue(out, jsonFile));
+            return;
+        }
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (GZIPOutputStream gzip = new LeveledGzipOutputStream(out, compressionLevel)) {
+                writer.writeValue(gzip, jsonFile);
+            }
+        });
+    }
+
+    /**
+     * Returns true if {@code compressionLevel} is a valid level for {@link #saveJsonFileAtomically}.
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION;
     }
 
     /**
@@ -111,6 +192,45 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a parser that reads the JSON in {@code in} one token at a time, and can read each value it reaches
+     * as a tree with {@code readValueAsTree()}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Converts a given instance of a class into a JSON tree.
+     */
+    public static JsonNode toJsonTree(Object instance) {
+        return objectMapper.valueToTree(instance);
+    }
+
+    /**
+     * Converts a given JSON tree into an instance of a class.
+     */
+    public static <T> T fromJsonTree(TreeNode tree, Class<T> instanceClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(tree, instanceClass);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * A {@code GZIPOutputStream} that compresses at a given level rather than the default one.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int compressionLevel) throws IOException {
+            super(out, STREAM_BUFFER_SIZE);
+            def.setLevel(compressionLevel);
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,217 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataFileChangedException;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandContext;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Executes commands read line by line from a file against a {@code Model}.
+ * <p>
+ * Blank lines and lines starting with {@code #} are skipped. A line that fails to parse or execute is recorded
+ * in the returned {@code Report} and the remaining lines are still run. Each line is committed as its own change,
+ * as a command typed in is, so that {@code undo} in the file undoes only the line before it. The address book is
+ * not saved after every command; if a {@code Storage} is given, it is saved every {@code saveInterval} successful
+ * commands, and the caller is expected to save once more after the whole file has been run.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String MESSAGE_NESTED_RUN = "A command file cannot run another command file.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final AddressBookParser addressBookParser;
+    private final Model model;
+    private final Storage storage;
+
+    /**
+     * Creates a {@code BatchRunner} that never saves the address book itself.
+     */
+    public BatchRunner(AddressBookParser addressBookParser, Model model) {
+        requireNonNull(addressBookParser);
+        requireNonNull(model);
+        this.addressBookParser = addressBookParser;
+        this.model = model;
+        this.storage = null;
+    }
+
+    /**
+     * Creates a {@code BatchRunner} that saves the address book to {@code storage} at every checkpoint.
+     */
+    public BatchRunner(AddressBookParser addressBookParser, Model model, Storage storage) {
+        requireNonNull(addressBookParser);
+        requireNonNull(model);
+        requireNonNull(storage);
+        this.addressBookParser = addressBookParser;
+        this.model = model;
+        this.storage = storage;
+    }
+
+    /**
+     * Runs every command in {@code filePath} with only the model, saving after each {@code saveInterval} successful
+     * commands. A {@code saveInterval} of zero disables the intermediate saves.
+     *
+     * @throws IOException if the file cannot be read or a checkpoint cannot be saved.
+     */
+    public Report run(Path filePath, int saveInterval) throws IOException {
+        return run(filePath, saveInterval, null);
+    }
+
+    /**
+     * Runs every command in {@code filePath} as {@link #run(Path, int)} does, executing each with {@code context},
+     * as {@code LogicManager} executes a command typed in.
+     */
+    public Report run(Path filePath, int saveInterval, CommandContext context) throws IOException {
+        requireNonNull(filePath);
+        assert saveInterval >= 0;
+
+        Report report = new Report();
+        int unsavedCount = 0;
+        boolean isCheckpointing = storage != null && saveInterval > 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                if (runLine(commandText, lineNumber, context, report)) {
+                    unsavedCount++;
+                }
+                if (isCheckpointing && unsavedCount >= saveInterval) {
+                    if (saveCheckpoint(filePath)) {
+                        report.saveCount++;
+                    } else {
+                        isCheckpointing = false;
+                    }
+                    unsavedCount = 0;
+                }
+            }
+        }
+
+        logger.info(() -> String.format("Ran %d command(s) from %s with %d failure(s) and %d checkpoint(s)",
+                report.getCommandCount(), filePath, report.getFailures().size(), report.getSaveCount()));
+        return report;
+    }
+
+    /**
+     * Saves the address book, and returns true, unless another program has changed the data file. In that case
+     * no more checkpoints are saved, and the change is merged as usual by the caller's save after the whole file has
+     * been run, rather than overwritten here.
+     */
+    private boolean saveCheckpoint(Path filePath) throws IOException {
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+            return true;
+        } catch (DataFileChangedException e) {
+            logger.warning(() -> "Stopped saving checkpoints while running " + filePath + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Parses and executes a single line, with {@code context} if it is not null, commits it and records it in
+     * {@code report}.
+     *
+     * @return true if the command succeeded.
+     */
+    private boolean runLine(String commandText, int lineNumber, CommandContext context, Report report) {
+        report.commandCount++;
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            if (command instanceof RunCommand) {
+                throw new CommandException(MESSAGE_NESTED_RUN);
+            }
+            if (context == null) {
+                command.execute(model);
+            } else {
+                command.execute(model, context);
+            }
+            model.commitAddressBook();
+            return true;
+        } catch (ParseException | CommandException e) {
+            logger.fine(() -> "Line " + lineNumber + " of command file failed: " + e.getMessage());
+            report.failures.add(new Failure(lineNumber, commandText, e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Summary of a completed batch run.
+     */
+    public static class Report {
+        private final List<Failure> failures = new ArrayList<>();
+        private int commandCount;
+        private int saveCount;
+
+        /** Returns the number of commands attempted, excluding blank and comment lines. */
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getSuccessCount() {
+            return commandCount - failures.size();
+        }
+
+        /** Returns the number of intermediate saves made while running. */
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        public List<Failure> getFailures() {
+            return Collections.unmodifiableList(failures);
+        }
+    }
+
+    /**
+     * A command in the file that could not be parsed or executed.
+     */
+    public static class Failure {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        /**
+         * Creates a {@code Failure} for the command on {@code lineNumber} (1-based).
+         */
+        public Failure(int lineNumber, String commandText, String message) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons and their bookings as CSV in the format that {@link CsvImporter} reads.
+ * <p>
+ * Each person takes one row, which also holds their first booking, if any. Each further booking takes a row of its
+ * own with only the name and booking columns filled in. Tags are written in alphabetical order.
+ */
+public class CsvExporter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /**
+     * Writes {@code persons} to {@code out}. Fields are written straight to {@code out}, so it should be buffered.
+     */
+    public static void write(List<Person> persons, Writer out) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(out);
+        writeRow(out, CsvImporter.COLUMNS.toArray(new String[0]));
+        for (Person person : persons) {
+            Iterator<Booking> bookings = person.getBookings().iterator();
+            Booking first = bookings.hasNext() ? bookings.next() : null;
+            writePersonRow(out, person, first);
+            while (bookings.hasNext()) {
+                Booking booking = bookings.next();
+                writeRow(out, person.getName().fullName, "", "", "",
+                        booking.getDateTimeString(), booking.getClientName(), booking.getDescription());
+            }
+        }
+        out.flush();
+    }
+
+    private static void writePersonRow(Writer out, Person person, Booking booking) throws IOException {
+        CsvUtil.appendField(out, person.getName().fullName);
+        out.write(CsvUtil.SEPARATOR);
+        CsvUtil.appendField(out, person.getPhone() == null ? "" : person.getPhone().value);
+        out.write(CsvUtil.SEPARATOR);
+        CsvUtil.appendField(out, person.getEmail() == null ? "" : person.getEmail().value);
+        out.write(CsvUtil.SEPARATOR);
+        writeTags(out, person);
+        out.write(CsvUtil.SEPARATOR);
+        CsvUtil.appendField(out, booking == null ? "" : booking.getDateTimeString());
+        out.write(CsvUtil.SEPARATOR);
+        CsvUtil.appendField(out, booking == null ? "" : booking.getClientName());
+        out.write(CsvUtil.SEPARATOR);
+        CsvUtil.appendField(out, booking == null ? "" : booking.getDescription());
+        out.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes the tags of {@code person} as one field. Tag names cannot contain separators or quotes.
+     */
+    private static void writeTags(Writer out, Person person) throws IOException {
+        Tag[] tags = person.getTags().toArray(new Tag[0]);
+        Arrays.sort(tags, Comparator.comparing(tag -> tag.tagName));
+        for (int i = 0; i < tags.length; i++) {
+            if (i > 0) {
+                out.write(CsvImporter.TAG_SEPARATOR);
+            }
+            out.write(tags[i].tagName);
+        }
+    }
+
+    private static void writeRow(Writer out, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(CsvUtil.SEPARATOR);
+            }
+            CsvUtil.appendField(out, fields[i]);
+        }
+        out.write(LINE_SEPARATOR);
+    }
+}
@@ -0,0 +1,473 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Imports persons and bookings from a CSV file into a {@code Model}.
+ * <p>
+ * The first line of the file is a header naming the columns, in any order, out of {@link #COLUMNS}. Only
+ * {@code name} is required. Each following line describes one person, and optionally one booking for that person.
+ * Tags are separated by {@link #TAG_SEPARATOR}. A row for a person who already exists adds its tags and booking to
+ * that person, as {@code add} and {@code book} would, and its phone and email are ignored.
+ * <p>
+ * Lines are read on the calling thread and handed in chunks to a pool of workers that parse and validate them in
+ * parallel. Only a bounded number of chunks is in flight at once, and the results are merged back in file order, so
+ * a large file is never held in memory as text. A row that is invalid, or that conflicts with the address book, is
+ * recorded in the returned {@code Report} and skipped. All other rows are applied to the model together, in a single
+ * update, once the whole file has been read.
+ */
+public class CsvImporter {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_TAGS = "tags";
+    public static final String COLUMN_DATETIME = "datetime";
+    public static final String COLUMN_CLIENT = "client";
+    public static final String COLUMN_DESCRIPTION = "description";
+    public static final List<String> COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_TAGS,
+            COLUMN_DATETIME, COLUMN_CLIENT, COLUMN_DESCRIPTION);
+    public static final String TAG_SEPARATOR = ";";
+
+    public static final String MESSAGE_EMPTY_FILE = "The file is empty; expected a header line naming the columns.";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column '%1$s'. Columns must be among: %2$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column '%1$s' appears more than once.";
+    public static final String MESSAGE_MISSING_NAME_COLUMN = "The header must include a '" + COLUMN_NAME + "' column.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d field(s) but found %2$d.";
+    public static final String MESSAGE_INCOMPLETE_BOOKING = "A booking needs both a " + COLUMN_DATETIME
+            + " and a " + COLUMN_CLIENT + ".";
+    public static final String MESSAGE_TAG_LIMIT = "Adding these tags would give %1$s more than %2$d tags.";
+
+    static final int CHUNK_SIZE = 1024;
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Logger logger = LogsCenter.getLogger(CsvImporter.class);
+
+    private final int parallelism;
+
+    /**
+     * Creates a {@code CsvImporter} that validates rows on one thread per available processor.
+     */
+    public CsvImporter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a {@code CsvImporter} that validates rows on {@code parallelism} threads.
+     */
+    public CsvImporter(int parallelism) {
+        assert parallelism > 0;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Imports every valid row of {@code filePath} into {@code model}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the header line is missing or invalid. Nothing is imported in that case.
+     */
+    public Report importFile(Path filePath, Model model) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(model);
+
+        Merger merger = new Merger(model.getAddressBookSnapshot().getPersons());
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalValueException(MESSAGE_EMPTY_FILE);
+            }
+            RowParser rowParser = new RowParser(header);
+
+            Deque<Future<List<Row>>> inFlight = new ArrayDeque<>();
+            int lineNumber = 1;
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+            int chunkStart = lineNumber + 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                chunk.add(line);
+                if (chunk.size() == CHUNK_SIZE) {
+                    submit(workers, inFlight, rowParser, chunkStart, chunk, merger);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    chunkStart = lineNumber + 1;
+                }
+            }
+            submit(workers, inFlight, rowParser, chunkStart, chunk, merger);
+            while (!inFlight.isEmpty()) {
+                merger.mergeAll(await(inFlight.removeFirst()));
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        Report report = merger.applyTo(model);
+        logger.info(() -> String.format("Imported %d of %d row(s) from %s",
+                report.getImportedCount(), report.getRowCount(), filePath));
+        return report;
+    }
+
+    /**
+     * Writes {@code failures} to {@code reportPath} as CSV, with the columns {@code line,error}.
+     */
+    public static void writeFailures(List<Failure> failures, Path reportPath) throws IOException {
+        requireNonNull(failures);
+        requireNonNull(reportPath);
+        try (BufferedWriter writer = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8)) {
+            writer.write(CsvUtil.formatLine(List.of("line", "error")));
+            writer.newLine();
+            for (Failure failure : failures) {
+                writer.write(CsvUtil.formatLine(List.of(String.valueOf(failure.getLineNumber()),
+                        failure.getMessage())));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Hands {@code chunk} to a worker, first waiting for the oldest chunk in flight if too many are.
+     */
+    private void submit(ExecutorService workers, Deque<Future<List<Row>>> inFlight, RowParser rowParser,
+            int firstLineNumber, List<String> chunk, Merger merger) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        if (inFlight.size() >= 2 * parallelism) {
+            merger.mergeAll(await(inFlight.removeFirst()));
+        }
+        inFlight.addLast(workers.submit(() -> rowParser.parseAll(firstLineNumber, chunk)));
+    }
+
+    private static List<Row> await(Future<List<Row>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while importing", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unexpected error while validating rows", e.getCause());
+        }
+    }
+
+    /**
+     * Turns lines into {@code Row}s according to the columns named in the header. Safe to share between threads.
+     */
+    private static class RowParser {
+        private final int columnCount;
+        private final int[] columnIndex = new int[COLUMNS.size()];
+
+        RowParser(String header) throws IllegalValueException {
+            List<String> names = CsvUtil.parseLine(stripByteOrderMark(header));
+            columnCount = names.size();
+            Arrays.fill(columnIndex, -1);
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+                int column = COLUMNS.indexOf(name);
+                if (column == -1) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_COLUMN, name,
+                            String.join(", ", COLUMNS)));
+                }
+                if (columnIndex[column] != -1) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_COLUMN, name));
+                }
+                columnIndex[column] = i;
+            }
+            if (columnIndex[COLUMNS.indexOf(COLUMN_NAME)] == -1) {
+                throw new IllegalValueException(MESSAGE_MISSING_NAME_COLUMN);
+            }
+        }
+
+        List<Row> parseAll(int firstLineNumber, List<String> lines) {
+            List<Row> rows = new ArrayList<>(lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+                int lineNumber = firstLineNumber + i;
+                try {
+                    rows.add(parse(lineNumber, line));
+                } catch (IllegalValueException | IllegalArgumentException e) {
+                    rows.add(Row.failed(lineNumber, e.getMessage()));
+                }
+            }
+            return rows;
+        }
+
+        private Row parse(int lineNumber, String line) throws IllegalValueException {
+            List<String> fields = CsvUtil.parseLine(line);
+            if (fields.size() != columnCount) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT, columnCount, fields.size()));
+            }
+
+            Name name = ParserUtil.parseName(field(fields, COLUMN_NAME));
+            String phone = field(fields, COLUMN_PHONE);
+            String email = field(fields, COLUMN_EMAIL);
+            Person person = new Person(name,
+                    phone.isEmpty() ? null : ParserUtil.parsePhone(phone),
+                    email.isEmpty() ? null : ParserUtil.parseEmail(email),
+                    parseTags(field(fields, COLUMN_TAGS)));
+            return new Row(lineNumber, person, parseBooking(fields), null);
+        }
+
+        private Set<Tag> parseTags(String tags) throws ParseException {
+            List<String> values = new ArrayList<>();
+            for (String tag : tags.split(TAG_SEPARATOR)) {
+                if (!tag.isBlank()) {
+                    values.add(tag);
+                }
+            }
+            return ParserUtil.parseTags(values);
+        }
+
+        /**
+         * Returns the booking described by {@code fields}, or null if the booking columns are all empty.
+         * Validates the booking the same way {@code BookCommandParser} does.
+         */
+        private Booking parseBooking(List<String> fields) throws IllegalValueException {
+            String datetime = field(fields, COLUMN_DATETIME);
+            String client = WHITESPACE.matcher(field(fields, COLUMN_CLIENT)).replaceAll(" ");
+            String description = field(fields, COLUMN_DESCRIPTION);
+            if (datetime.isEmpty() && client.isEmpty() && description.isEmpty()) {
+                return null;
+            }
+            if (datetime.isEmpty() || client.isEmpty()) {
+                throw new IllegalValueException(MESSAGE_INCOMPLETE_BOOKING);
+            }
+
+            String validationError = Booking.validateDateTime(datetime);
+            if (validationError != null) {
+                throw new IllegalValueException(validationError);
+            }
+            LocalDateTime parsedDatetime = Booking.parseDateTime(datetime);
+            if (!Booking.isValidClientName(client)) {
+                throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_CLIENT);
+            }
+            description = description.isEmpty() ? Booking.DEFAULT_DESCRIPTION : description;
+            if (!Booking.isValidDescription(description)) {
+                throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_DESCRIPTION);
+            }
+            return new Booking(client, parsedDatetime, description);
+        }
+
+        /**
+         * Returns the trimmed value of {@code column}, or an empty string if the file has no such column.
+         */
+        private String field(List<String> fields, String column) {
+            int index = columnIndex[COLUMNS.indexOf(column)];
+            return index == -1 ? "" : fields.get(index).trim();
+        }
+
+        private static String stripByteOrderMark(String header) {
+            return header.startsWith(BYTE_ORDER_MARK) ? header.substring(1) : header;
+        }
+    }
+
+    /**
+     * Applies parsed rows, in file order, to a working copy of the person list.
+     */
+    private static class Merger {
+        private final Map<Name, Person> persons = new LinkedHashMap<>();
+        private final Set<Name> existingNames = new HashSet<>();
+        private final Set<Name> updatedNames = new HashSet<>();
+        private final Report report = new Report();
+
+        Merger(List<Person> existingPersons) {
+            existingPersons.forEach(person -> persons.put(person.getName(), person));
+            existingNames.addAll(persons.keySet());
+        }
+
+        void mergeAll(List<Row> rows) {
+            for (Row row : rows) {
+                report.rowCount++;
+                String error = row.error != null ? row.error : merge(row.person, row.booking);
+                if (error != null) {
+                    report.failures.add(new Failure(row.lineNumber, error));
+                }
+            }
+        }
+
+        /**
+         * Adds {@code person} and {@code booking} to the working copy.
+         *
+         * @return why the row cannot be applied, or null if it was applied.
+         */
+        private String merge(Person person, Booking booking) {
+            Person existing = persons.get(person.getName());
+            if (existing == null) {
+                List<Booking> bookings = booking == null ? List.of() : List.of(booking);
+                persons.put(person.getName(), new Person(person.getName(), person.getPhone(), person.getEmail(),
+                        person.getTags(), bookings));
+                report.newPersonCount++;
+                report.bookingCount += bookings.size();
+                return null;
+            }
+
+            if (person.getTags().isEmpty() && booking == null) {
+                return AddCommand.MESSAGE_DUPLICATE_PERSON;
+            }
+            Set<Tag> tags = new LinkedHashSet<>(existing.getTags());
+            tags.addAll(person.getTags());
+            if (tags.size() > Person.MAX_TAGS) {
+                return String.format(MESSAGE_TAG_LIMIT, existing.getName(), Person.MAX_TAGS);
+            }
+            List<Booking> bookings = new ArrayList<>(existing.getBookings());
+            if (booking != null) {
+                for (Booking existingBooking : existing.getBookings()) {
+                    if (existingBooking.conflictsWith(booking)) {
+                        return String.format(BookCommand.MESSAGE_DOUBLE_BOOKING, existing.getName(),
+                                existingBooking.getDateTimeString(), existingBooking.getClientName(),
+                                existingBooking.getDescription());
+                    }
+                }
+                bookings.add(booking);
+                report.bookingCount++;
+            }
+
+            persons.put(existing.getName(), new Person(existing.getName(), existing.getPhone(), existing.getEmail(),
+                    tags, bookings));
+            if (existingNames.contains(existing.getName())) {
+                updatedNames.add(existing.getName());
+            }
+            return null;
+        }
+
+        /**
+         * Replaces the persons in {@code model} with the merged list, if anything changed, and returns the report.
+         */
+        Report applyTo(Model model) {
+            report.updatedPersonCount = updatedNames.size();
+            if (report.getImportedCount() > 0) {
+                AddressBook merged = new AddressBook();
+                merged.setPersons(new ArrayList<>(persons.values()));
+                model.setAddressBook(merged);
+                model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            }
+            return report;
+        }
+    }
+
+    /**
+     * A parsed line of the file: either a person with an optional booking, or the reason it is invalid.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final Person person;
+        private final Booking booking;
+        private final String error;
+
+        Row(int lineNumber, Person person, Booking booking, String error) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.booking = booking;
+            this.error = error;
+        }
+
+        static Row failed(int lineNumber, String error) {
+            return new Row(lineNumber, null, null, error);
+        }
+    }
+
+    /**
+     * Summary of a completed import.
+     */
+    public static class Report {
+        private final List<Failure> failures = new ArrayList<>();
+        private int rowCount;
+        private int newPersonCount;
+        private int updatedPersonCount;
+        private int bookingCount;
+
+        /** Returns the number of rows read, excluding the header and blank lines. */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public int getImportedCount() {
+            return rowCount - failures.size();
+        }
+
+        public int getNewPersonCount() {
+            return newPersonCount;
+        }
+
+        /** Returns the number of persons who were already in the address book and gained tags or bookings. */
+        public int getUpdatedPersonCount() {
+            return updatedPersonCount;
+        }
+
+        public int getBookingCount() {
+            return bookingCount;
+        }
+
+        public List<Failure> getFailures() {
+            return Collections.unmodifiableList(failures);
+        }
+    }
+
+    /**
+     * A row of the file that could not be imported.
+     */
+    public static class Failure {
+        private final int lineNumber;
+        private final String message;
+
+        /**
+         * Creates a {@code Failure} for the row on {@code lineNumber} (1-based, counting the header).
+         */
+        public Failure(int lineNumber, String message) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes exports one at a time on a background thread, so that neither the UI nor other commands wait for them.
+ * <p>
+ * Each export is a task that writes its file and returns a message saying how it went. The message is handed to
+ * the feedback handler on the background thread; a handler that updates the UI must pass it on to the UI thread.
+ */
+public class ExportWriter {
+
+    /** How long {@link #stop()} waits for the exports in progress to finish. */
+    static final long STOP_TIMEOUT_SECONDS = 60;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportWriter.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "export-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<String> feedbackHandler = message -> { };
+
+    /**
+     * Sets what is done with the message of each export once it has finished.
+     */
+    public void setFeedbackHandler(Consumer<String> feedbackHandler) {
+        requireNonNull(feedbackHandler);
+        this.feedbackHandler = feedbackHandler;
+    }
+
+    /**
+     * Runs {@code export} on the background thread, after the exports submitted before it. Once stopped, runs it
+     * on the calling thread instead.
+     */
+    public void submit(Supplier<String> export) {
+        requireNonNull(export);
+        try {
+            executor.execute(() -> report(export));
+        } catch (RejectedExecutionException e) {
+            report(export);
+        }
+    }
+
+    private void report(Supplier<String> export) {
+        String message;
+        try {
+            message = export.get();
+        } catch (RuntimeException e) {
+            // A failed export must not stop later ones.
+            message = "Could not export: " + e.getMessage();
+        }
+        logger.info(message);
+        feedbackHandler.accept(message);
+    }
+
+    /**
+     * Waits for the exports already submitted to finish, for up to {@link #STOP_TIMEOUT_SECONDS} seconds, and stops
+     * the background thread.
+     */
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Stopped before the exports in progress had finished");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.PersonListMerge;
+import seedu.address.model.person.PersonListSnapshot;
+import seedu.address.storage.DataFileChange;
+
+/**
+ * A change that another program made to the data file, read and merged with the address book as of one snapshot,
+ * but not applied yet. Reading and merging take time in proportion to the size of the address book, so they can be
+ * done on a background thread, leaving only the application of the merge to the thread that changes the model.
+ */
+public final class ExternalChange {
+
+    private final DataFileChange dataFileChange;
+    private final PersonListSnapshot mergedSnapshot;
+    private final PersonListMerge merge;
+
+    private ExternalChange(DataFileChange dataFileChange, PersonListSnapshot mergedSnapshot) {
+        this.dataFileChange = dataFileChange;
+        this.mergedSnapshot = mergedSnapshot;
+        this.merge = PersonListMerge.of(dataFileChange.getPreviousPersons(), dataFileChange.getPersons(),
+                mergedSnapshot.getPersons());
+    }
+
+    /**
+     * Returns {@code dataFileChange} merged with the persons in {@code snapshot}.
+     */
+    static ExternalChange of(DataFileChange dataFileChange, PersonListSnapshot snapshot) {
+        requireNonNull(dataFileChange);
+        requireNonNull(snapshot);
+        return new ExternalChange(dataFileChange, snapshot);
+    }
+
+    /**
+     * Returns this change merged with the persons in {@code snapshot}, which is this change itself unless the
+     * address book has changed since it was merged.
+     */
+    ExternalChange mergedWith(PersonListSnapshot snapshot) {
+        requireNonNull(snapshot);
+        return snapshot == mergedSnapshot ? this : new ExternalChange(dataFileChange, snapshot);
+    }
+
+    DataFileChange getDataFileChange() {
+        return dataFileChange;
+    }
+
+    PersonListMerge getMerge() {
+        return merge;
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes bookings as an iCalendar (RFC 5545) file with one {@code VEVENT} per booking.
+ * <p>
+ * Bookings have a start time but no end time, so events are written with a {@code DTSTART} only, as local
+ * ("floating") times. The client is the event summary, the booking description is its description, and the
+ * person is recorded in an {@code X-FIRSTIMPRESSIONS-PERSON} property, with an {@code ATTENDEE} if they have an
+ * email address. A booking imported from a calendar keeps the {@code UID} of the event it came from. Any other
+ * booking's {@code UID} is derived from the person and the start time, which together identify it, so exporting
+ * the same booking again gives the same {@code UID}.
+ */
+public class IcsExporter {
+
+    public static final String PRODUCT_ID = "-//FirstImpressions//FirstImpressions//EN";
+    public static final String PERSON_PROPERTY = "X-FIRSTIMPRESSIONS-PERSON";
+    public static final String UID_DOMAIN = "@firstimpressions";
+    public static final DateTimeFormatter LOCAL_DATETIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    private static final DateTimeFormatter UTC_DATETIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss'Z'");
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Clock clock;
+
+    /**
+     * Creates an {@code IcsExporter} that stamps events with the current time.
+     */
+    public IcsExporter() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates an {@code IcsExporter} that stamps events with the time given by {@code clock}.
+     */
+    public IcsExporter(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the {@code UID} of the event for {@code booking} of the person named {@code name}.
+     */
+    public static String uidOf(Name name, Booking booking) {
+        if (booking.getEventUid() != null) {
+            return booking.getEventUid();
+        }
+        return booking.getDateTime().format(LOCAL_DATETIME_FORMAT) + "-"
+                + URLEncoder.encode(name.fullName, StandardCharsets.UTF_8) + UID_DOMAIN;
+    }
+
+    /**
+     * Writes the bookings of {@code persons} to {@code out} as one calendar.
+     * Content is written straight to {@code out}, so it should be buffered.
+     */
+    public void write(List<Person> persons, Writer out) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(out);
+        String timestamp = LocalDateTime.now(clock.withZone(ZoneOffset.UTC)).format(UTC_DATETIME_FORMAT);
+        ContentLineWriter lines = new ContentLineWriter(out);
+
+        lines.property("BEGIN", "VCALENDAR");
+        lines.property("VERSION", "2.0");
+        lines.property("PRODID", PRODUCT_ID);
+        lines.property("CALSCALE", "GREGORIAN");
+        for (Person person : persons) {
+            for (Booking booking : person.getBookings()) {
+                lines.property("BEGIN", "VEVENT");
+                lines.text("UID", uidOf(person.getName(), booking));
+                lines.property("DTSTAMP", timestamp);
+                lines.property("DTSTART", booking.getDateTime().format(LOCAL_DATETIME_FORMAT));
+                lines.text("SUMMARY", booking.getClientName());
+                lines.text("DESCRIPTION", booking.getDescription());
+                lines.text(PERSON_PROPERTY, person.getName().fullName);
+                if (person.getEmail() != null) {
+                    lines.property("ATTENDEE;CN=\"" + person.getName().fullName + "\"",
+                            "mailto:" + person.getEmail().value);
+                }
+                lines.property("END", "VEVENT");
+            }
+        }
+        lines.property("END", "VCALENDAR");
+        out.flush();
+    }
+
+    /**
+     * Writes content lines, escaping text values and folding lines longer than 75 octets as RFC 5545 requires.
+     */
+    private static class ContentLineWriter {
+        private final Writer out;
+        private int lineOctets;
+
+        ContentLineWriter(Writer out) {
+            this.out = out;
+        }
+
+        /** Writes a property whose value needs no escaping. */
+        void property(String name, String value) throws IOException {
+            append(name, false);
+            append(":", false);
+            append(value, false);
+            endLine();
+        }
+
+        /** Writes a property whose value is escaped as TEXT. */
+        void text(String name, String value) throws IOException {
+            append(name, false);
+            append(":", false);
+            append(value, true);
+            endLine();
+        }
+
+        private void append(String value, boolean isText) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (isText && (c == '\\' || c == ';' || c == ',')) {
+                    appendChar('\\', 1);
+                    appendChar(c, 1);
+                } else if (isText && c == '\n') {
+                    appendChar('\\', 1);
+                    appendChar('n', 1);
+                } else if (isText && c == '\r') {
+                    continue;
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()) {
+                    // Keeps a surrogate pair on one line; it is 4 octets in UTF-8.
+                    fold(4);
+                    out.write(c);
+                    out.write(value.charAt(++i));
+                    lineOctets += 4;
+                } else {
+                    appendChar(c, c < 0x80 ? 1 : c < 0x800 ? 2 : 3);
+                }
+            }
+        }
+
+        private void appendChar(char c, int octets) throws IOException {
+            fold(octets);
+            out.write(c);
+            lineOctets += octets;
+        }
+
+        /**
+         * Starts a continuation line if {@code octets} more would not fit on the current one.
+         */
+        private void fold(int octets) throws IOException {
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                out.write(LINE_SEPARATOR);
+                out.write(' ');
+                lineOctets = 1;
+            }
+        }
+
+        private void endLine() throws IOException {
+            out.write(LINE_SEPARATOR);
+            lineOctets = 0;
+        }
+    }
+}
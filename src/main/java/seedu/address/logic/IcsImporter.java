@@ -0,0 +1,502 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.model.Model;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Imports the events of an iCalendar (RFC 5545) file as bookings of one person in a {@code Model}.
+ * <p>
+ * Each {@code VEVENT} becomes a booking at its {@code DTSTART}, for the client named by its {@code SUMMARY}, with its
+ * {@code DESCRIPTION}. Events are matched to the person's bookings by their {@code UID}, which the booking keeps, or
+ * for events and bookings without one, by the {@code UID} that {@link IcsExporter} derives from the start time. An
+ * event that matches a booking with the same details is skipped, one whose details have changed replaces the
+ * booking, and a cancelled one removes it. Other events are added, unless they clash with a booking, as in
+ * {@code book}. Events that are invalid or clash are recorded in the returned {@code Report} and skipped.
+ * <p>
+ * The file is read one event at a time, so it is never held in memory as text. The person is only updated, in a
+ * single change, if some event added, replaced or removed a booking; importing a file again leaves the model as it
+ * is.
+ */
+public class IcsImporter {
+
+    public static final String MESSAGE_NOT_A_CALENDAR = "The file is not an iCalendar file; "
+            + "expected it to begin with BEGIN:VCALENDAR.";
+    public static final String MESSAGE_INVALID_LINE = "Expected a line of the form NAME:VALUE but found '%1$s'.";
+    public static final String MESSAGE_MISSING_PROPERTY = "The event has no %1$s.";
+    public static final String MESSAGE_INVALID_START = "Invalid DTSTART '%1$s'; expected a date such as 20250918 "
+            + "or a date and time such as 20250918T140000.";
+    public static final String MESSAGE_UNKNOWN_TIME_ZONE = "Unknown time zone '%1$s'.";
+    public static final String MESSAGE_RECURRING_EVENT = "Recurring events cannot be imported.";
+    public static final String MESSAGE_UNTERMINATED_EVENT = "The event has no END:VEVENT.";
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final Logger logger = LogsCenter.getLogger(IcsImporter.class);
+
+    private final ZoneId zone;
+
+    /**
+     * Creates an {@code IcsImporter} that converts event times to the system time zone.
+     */
+    public IcsImporter() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates an {@code IcsImporter} that converts event times to {@code zone}. Events with local ("floating")
+     * times are taken to be in {@code zone} already.
+     */
+    public IcsImporter(ZoneId zone) {
+        requireNonNull(zone);
+        this.zone = zone;
+    }
+
+    /**
+     * Imports every valid event of {@code filePath} as a booking of the person named {@code personName}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if there is no such person, or the file is not a calendar. Nothing is imported
+     *     in that case.
+     */
+    public Report importFile(Path filePath, Name personName, Model model) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(personName);
+        requireNonNull(model);
+
+        Person person = model.getAddressBookSnapshot().findByName(personName).orElseThrow(() ->
+                new IllegalValueException(String.format(BookCommand.MESSAGE_PERSON_NOT_FOUND, personName)));
+        Merger merger = new Merger(person);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            EventReader events = new EventReader(reader);
+            Event event;
+            while ((event = events.next()) != null) {
+                merger.merge(event);
+            }
+        }
+
+        Report report = merger.applyTo(model);
+        logger.info(() -> String.format(
+                "Read %d event(s) from %s for %s: %d added, %d updated, %d removed, %d unchanged",
+                report.getEventCount(), filePath, personName, report.getAddedCount(), report.getUpdatedCount(),
+                report.getRemovedCount(), report.getUnchangedCount()));
+        return report;
+    }
+
+    /**
+     * Reads the events of a calendar one at a time, unfolding continuation lines as it goes.
+     */
+    private static class EventReader {
+        private final BufferedReader reader;
+        private String nextLine;
+        private int nextLineNumber;
+        private int lineNumber;
+
+        EventReader(BufferedReader reader) throws IOException, IllegalValueException {
+            this.reader = reader;
+            readPhysicalLine();
+            if (nextLine != null && nextLine.startsWith(BYTE_ORDER_MARK)) {
+                nextLine = nextLine.substring(BYTE_ORDER_MARK.length());
+            }
+            String first = readLine();
+            if (first == null || !first.trim().equalsIgnoreCase("BEGIN:VCALENDAR")) {
+                throw new IllegalValueException(MESSAGE_NOT_A_CALENDAR);
+            }
+        }
+
+        /**
+         * Returns the next event in the calendar, or null if there are no more.
+         */
+        Event next() throws IOException {
+            String line;
+            while ((line = readLine()) != null) {
+                if (line.equalsIgnoreCase("BEGIN:VEVENT")) {
+                    return readEvent();
+                }
+            }
+            return null;
+        }
+
+        private Event readEvent() throws IOException {
+            Event event = new Event(lineNumber);
+            int nestedDepth = 0;
+            String line;
+            while ((line = readLine()) != null) {
+                ContentLine contentLine = ContentLine.parse(line);
+                if (contentLine == null) {
+                    event.fail(String.format(MESSAGE_INVALID_LINE, line));
+                    continue;
+                }
+                if (contentLine.name.equals("BEGIN")) {
+                    nestedDepth++;
+                } else if (contentLine.name.equals("END") && nestedDepth > 0) {
+                    nestedDepth--;
+                } else if (contentLine.name.equals("END")) {
+                    if (!contentLine.value.trim().equalsIgnoreCase("VEVENT")) {
+                        event.fail(MESSAGE_UNTERMINATED_EVENT);
+                    }
+                    return event;
+                } else if (nestedDepth == 0) {
+                    event.set(contentLine);
+                }
+            }
+            event.fail(MESSAGE_UNTERMINATED_EVENT);
+            return event;
+        }
+
+        /**
+         * Returns the next non-empty line with its continuation lines joined on, or null at the end of the file.
+         * Sets {@code lineNumber} to the number of its first physical line.
+         */
+        private String readLine() throws IOException {
+            while (nextLine != null && nextLine.isEmpty()) {
+                readPhysicalLine();
+            }
+            if (nextLine == null) {
+                return null;
+            }
+            StringBuilder line = new StringBuilder(nextLine);
+            lineNumber = nextLineNumber;
+            readPhysicalLine();
+            while (nextLine != null && !nextLine.isEmpty()
+                    && (nextLine.charAt(0) == ' ' || nextLine.charAt(0) == '\t')) {
+                line.append(nextLine, 1, nextLine.length());
+                readPhysicalLine();
+            }
+            return line.toString();
+        }
+
+        private void readPhysicalLine() throws IOException {
+            nextLine = reader.readLine();
+            nextLineNumber++;
+        }
+    }
+
+    /**
+     * A property of an event: its upper-cased name, the parameters it uses, and its raw value.
+     */
+    private static class ContentLine {
+        final String name;
+        final String timeZoneId;
+        final boolean isDate;
+        final String value;
+
+        private ContentLine(String name, String timeZoneId, boolean isDate, String value) {
+            this.name = name;
+            this.timeZoneId = timeZoneId;
+            this.isDate = isDate;
+            this.value = value;
+        }
+
+        /**
+         * Parses {@code line}, or returns null if it is not of the form {@code NAME[;PARAM=VALUE...]:VALUE}.
+         */
+        static ContentLine parse(String line) {
+            int colon = -1;
+            boolean inQuotes = false;
+            for (int i = 0; i < line.length() && colon == -1; i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    inQuotes = !inQuotes;
+                } else if (c == ':' && !inQuotes) {
+                    colon = i;
+                }
+            }
+            if (colon <= 0) {
+                return null;
+            }
+
+            String[] nameAndParams = line.substring(0, colon).split(";");
+            String timeZoneId = null;
+            boolean isDate = false;
+            for (int i = 1; i < nameAndParams.length; i++) {
+                String param = nameAndParams[i];
+                int equals = param.indexOf('=');
+                String paramName = equals == -1 ? param : param.substring(0, equals);
+                String paramValue = equals == -1 ? "" : unquote(param.substring(equals + 1));
+                if (paramName.equalsIgnoreCase("TZID")) {
+                    timeZoneId = paramValue;
+                } else if (paramName.equalsIgnoreCase("VALUE")) {
+                    isDate = paramValue.equalsIgnoreCase("DATE");
+                }
+            }
+            return new ContentLine(nameAndParams[0].trim().toUpperCase(Locale.ROOT), timeZoneId, isDate,
+                    line.substring(colon + 1));
+        }
+
+        private static String unquote(String value) {
+            return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                    ? value.substring(1, value.length() - 1)
+                    : value;
+        }
+
+        /**
+         * Returns the value with the escapes of an RFC 5545 {@code TEXT} value undone. Line breaks become spaces,
+         * since booking details are single lines.
+         */
+        String textValue() {
+            StringBuilder text = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length()) {
+                    char escaped = value.charAt(++i);
+                    text.append(escaped == 'n' || escaped == 'N' ? ' ' : escaped);
+                } else {
+                    text.append(c);
+                }
+            }
+            return text.toString().trim();
+        }
+    }
+
+    /**
+     * The properties of one {@code VEVENT} that matter to a booking.
+     */
+    private static class Event {
+        final int lineNumber;
+        String uid;
+        ContentLine start;
+        String summary;
+        String description;
+        boolean isCancelled;
+        boolean isRecurring;
+        String error;
+
+        Event(int lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+
+        void set(ContentLine property) {
+            switch (property.name) {
+            case "UID":
+                uid = property.value.trim();
+                break;
+            case "DTSTART":
+                start = property;
+                break;
+            case "SUMMARY":
+                summary = property.textValue();
+                break;
+            case "DESCRIPTION":
+                description = property.textValue();
+                break;
+            case "STATUS":
+                isCancelled = property.value.trim().equalsIgnoreCase("CANCELLED");
+                break;
+            case "RRULE":
+            case "RDATE":
+            case "RECURRENCE-ID":
+                isRecurring = true;
+                break;
+            default:
+                break;
+            }
+        }
+
+        void fail(String message) {
+            if (error == null) {
+                error = message;
+            }
+        }
+
+        /**
+         * Returns the booking this event describes, with its start time in {@code zone}.
+         *
+         * @throws IllegalValueException if the event does not describe a valid booking.
+         */
+        Booking toBooking(ZoneId zone) throws IllegalValueException {
+            if (error != null) {
+                throw new IllegalValueException(error);
+            }
+            if (isRecurring) {
+                throw new IllegalValueException(MESSAGE_RECURRING_EVENT);
+            }
+            if (start == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_PROPERTY, "DTSTART"));
+            }
+            if (summary == null || summary.isEmpty()) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_PROPERTY, "SUMMARY"));
+            }
+            if (!Booking.isValidClientName(summary)) {
+                throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_CLIENT);
+            }
+            String bookingDescription = description == null || description.isEmpty()
+                    ? Booking.DEFAULT_DESCRIPTION
+                    : description;
+            if (!Booking.isValidDescription(bookingDescription)) {
+                throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_DESCRIPTION);
+            }
+            String eventUid = uid == null || !Booking.isValidEventUid(uid) ? null : uid;
+            return new Booking(summary, parseStart(zone), bookingDescription, eventUid);
+        }
+
+        private LocalDateTime parseStart(ZoneId zone) throws IllegalValueException {
+            String value = start.value.trim();
+            try {
+                if (start.isDate || value.length() == 8) {
+                    return LocalDate.parse(value, DATE_FORMAT).atStartOfDay();
+                }
+                boolean isUtc = value.endsWith("Z") || value.endsWith("z");
+                LocalDateTime dateTime = LocalDateTime.parse(isUtc ? value.substring(0, value.length() - 1) : value,
+                        DATETIME_FORMAT);
+                ZoneId from = isUtc ? ZoneOffset.UTC : start.timeZoneId == null ? null : zoneOf(start.timeZoneId);
+                if (from != null) {
+                    dateTime = dateTime.atZone(from).withZoneSameInstant(zone).toLocalDateTime();
+                }
+                return dateTime.truncatedTo(ChronoUnit.MINUTES);
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_START, value));
+            }
+        }
+
+        private static ZoneId zoneOf(String timeZoneId) throws IllegalValueException {
+            try {
+                return ZoneId.of(timeZoneId);
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TIME_ZONE, timeZoneId));
+            }
+        }
+    }
+
+    /**
+     * Merges events, in file order, into a working copy of one person's bookings.
+     */
+    private class Merger {
+        private final Person person;
+        private final Map<String, Booking> bookingsByUid = new LinkedHashMap<>();
+        private final Map<LocalDateTime, Booking> bookingsByTime = new HashMap<>();
+        private final Report report = new Report();
+
+        Merger(Person person) {
+            this.person = person;
+            for (Booking booking : person.getBookings()) {
+                String uid = IcsExporter.uidOf(person.getName(), booking);
+                // Keeps a booking whose UID is already taken, under a key that no event can match.
+                bookingsByUid.put(bookingsByUid.containsKey(uid) ? "\n" + bookingsByUid.size() : uid, booking);
+                bookingsByTime.put(booking.getDateTime(), booking);
+            }
+        }
+
+        void merge(Event event) {
+            report.eventCount++;
+            Booking incoming;
+            try {
+                incoming = event.toBooking(zone);
+            } catch (IllegalValueException ive) {
+                report.failures.add(new CsvImporter.Failure(event.lineNumber, ive.getMessage()));
+                return;
+            }
+
+            String uid = IcsExporter.uidOf(person.getName(), incoming);
+            Booking existing = bookingsByUid.get(uid);
+            if (event.isCancelled) {
+                if (existing == null) {
+                    report.unchangedCount++;
+                } else {
+                    bookingsByUid.remove(uid);
+                    bookingsByTime.remove(existing.getDateTime(), existing);
+                    report.removedCount++;
+                }
+                return;
+            }
+            if (existing != null && existing.hasSameDetails(incoming)) {
+                report.unchangedCount++;
+                return;
+            }
+
+            Booking clash = bookingsByTime.get(incoming.getDateTime());
+            if (clash != null && clash != existing) {
+                report.failures.add(new CsvImporter.Failure(event.lineNumber, String.format(
+                        BookCommand.MESSAGE_DOUBLE_BOOKING, person.getName(), clash.getDateTimeString(),
+                        clash.getClientName(), clash.getDescription())));
+                return;
+            }
+            if (existing == null) {
+                report.addedCount++;
+            } else {
+                bookingsByTime.remove(existing.getDateTime(), existing);
+                report.updatedCount++;
+            }
+            bookingsByUid.put(uid, incoming); // a replaced booking keeps its place
+            bookingsByTime.put(incoming.getDateTime(), incoming);
+        }
+
+        /**
+         * Replaces the person in {@code model} with one holding the merged bookings, if any of them changed.
+         */
+        Report applyTo(Model model) {
+            if (report.getAddedCount() + report.getUpdatedCount() + report.getRemovedCount() > 0) {
+                model.setPerson(person, new Person(person.getName(), person.getPhone(), person.getEmail(),
+                        person.getTags(), new ArrayList<>(bookingsByUid.values())));
+            }
+            return report;
+        }
+    }
+
+    /**
+     * Summary of a completed import.
+     */
+    public static class Report {
+        private final List<CsvImporter.Failure> failures = new ArrayList<>();
+        private int eventCount;
+        private int addedCount;
+        private int updatedCount;
+        private int removedCount;
+        private int unchangedCount;
+
+        public int getEventCount() {
+            return eventCount;
+        }
+
+        public int getAddedCount() {
+            return addedCount;
+        }
+
+        public int getUpdatedCount() {
+            return updatedCount;
+        }
+
+        public int getRemovedCount() {
+            return removedCount;
+        }
+
+        /** Returns the number of events that matched a booking with the same details, or cancelled no booking. */
+        public int getUnchangedCount() {
+            return unchangedCount;
+        }
+
+        public List<CsvImporter.Failure> getFailures() {
+            return Collections.unmodifiableList(failures);
+        }
+    }
+}
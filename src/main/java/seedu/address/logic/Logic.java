@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
 
 /**
  * API of the Logic component
@@ -23,6 +26,55 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs the commands in the file at {@code filePath}, one per line, as the run command does, and returns the
+     * result.
+     *
+     * @throws CommandException If the file cannot be read or the address book cannot be saved.
+     */
+    CommandResult runCommandFile(Path filePath) throws CommandException;
+
+    /**
+     * Merges in the changes that another program made to the data file since the app last read or wrote it, and
+     * returns a message describing them, or {@code Optional.empty()} if nothing else has changed the data file.
+     *
+     * @throws CommandException if the changed data file could not be read, or the merged data could not be saved.
+     */
+    Optional<String> reloadExternalChanges() throws CommandException;
+
+    /**
+     * Reads the changes that another program made to the data file since the app last read or wrote it, and merges
+     * them with the address book as it is now, without changing it. Unlike the other methods, this may be called
+     * from a background thread while commands are being executed, so that the UI need not wait for the data file
+     * to be read.
+     *
+     * @return the merged changes, to be applied with {@link #applyExternalChanges(ExternalChange)}, or
+     *     {@code Optional.empty()} if nothing else has changed the data file.
+     * @throws CommandException if the changed data file could not be read.
+     */
+    Optional<ExternalChange> readExternalChanges() throws CommandException;
+
+    /**
+     * Applies {@code change}, read with {@link #readExternalChanges()}, as {@link #reloadExternalChanges()} does,
+     * and returns a message describing it. If the address book has changed since {@code change} was read, it is
+     * merged again first. If a command has already merged it, or the data file has been changed again, the data
+     * file is read again instead, and {@code Optional.empty()} is returned if there is nothing left to merge.
+     *
+     * @throws CommandException if the data file could not be read again, or the merged data could not be saved.
+     */
+    Optional<String> applyExternalChanges(ExternalChange change) throws CommandException;
+
+    /**
+     * Sets what is done with the message of each export once it has been written in the background.
+     * {@code feedbackHandler} is called on the background thread.
+     */
+    void setExportFeedbackHandler(Consumer<String> feedbackHandler);
+
+    /**
+     * Waits for the exports being written in the background to finish. Later exports are written as they are run.
+     */
+    void stopExports();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,6 +82,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest snapshot of the persons in the AddressBook. Safe to call from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    PersonListSnapshot getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -3,19 +3,31 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataFileChangedException;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandContext;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListMerge;
+import seedu.address.model.person.PersonListSnapshot;
+import seedu.address.storage.DataFileChange;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,38 +39,235 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_EXTERNAL_CHANGE_MERGED =
+            "%1$s was changed by another program, and %2$d change(s) from it were applied.";
+    public static final String MESSAGE_EXTERNAL_CHANGE_CONFLICTS = " %1$d person(s) it changed were also changed "
+            + "here, so the versions here were kept. Both versions are in %2$s.";
+    public static final String MESSAGE_EXTERNAL_CHANGE_CONFLICTS_UNSAVED = " %1$d person(s) it changed were also "
+            + "changed here, so the versions here were kept, but the other versions could not be saved: %2$s";
+    public static final String MESSAGE_EXTERNAL_CHANGE_UNREADABLE =
+            "%1$s was changed by another program, but could not be read: %2$s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics metrics;
+    private final ExportWriter exportWriter = new ExportWriter();
+    private final CommandContext commandContext;
+    /** Version of the last address book snapshot that was saved, or -1 if none has been saved yet. */
+    private long savedVersion = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that records how long each command takes in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics metrics) {
         this.model = model;
         this.storage = storage;
+        this.metrics = metrics;
         addressBookParser = new AddressBookParser();
+        // Command files save checkpoints while running; the whole file is saved once more after them.
+        commandContext = new CommandContext(new BatchRunner(addressBookParser, model, storage), metrics,
+                exportWriter);
+    }
+
+    /**
+     * Executes the command. Synchronized with {@link #reloadExternalChanges()}, which may be called from another
+     * thread, so that a reload never runs in the middle of a command.
+     */
+    @Override
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        String commandWord = addressBookParser.findCommandWord(commandText)
+                .orElse(CommandMetrics.UNKNOWN_COMMAND_WORD);
+        CommandMetrics.Timer timer = metrics.startTimer();
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            timer.lap(commandWord, Phase.PARSE);
+            return execute(command, commandWord, timer);
+        } finally {
+            timer.stop(commandWord);
+        }
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+    public synchronized CommandResult runCommandFile(Path filePath) throws CommandException {
+        logger.info(() -> "----------------[COMMAND FILE][" + filePath + "]");
+
+        CommandMetrics.Timer timer = metrics.startTimer();
+        try {
+            return execute(new RunCommand(filePath, 0), RunCommand.COMMAND_WORD, timer);
+        } finally {
+            timer.stop(RunCommand.COMMAND_WORD);
+        }
+    }
+
+    /**
+     * Executes, commits and saves {@code command}, timing each phase with {@code timer}.
+     * Changes to the filtered person list are made as the model changes, so they are timed as part of execution.
+     */
+    private CommandResult execute(Command command, String commandWord, CommandMetrics.Timer timer)
+            throws CommandException {
+        CommandResult commandResult = command.execute(model, commandContext);
+        timer.lap(commandWord, Phase.EXECUTE);
+
+        model.commitAddressBook();
+        timer.lap(commandWord, Phase.COMMIT);
+
+        // Commands that change nothing, such as list or a repeated calendar import, do not rewrite the file.
+        long version = model.getAddressBookSnapshot().getVersion();
+        if (version == savedVersion) {
+            return commandResult;
+        }
+        try {
+            saveAddressBook();
+        } catch (DataFileChangedException e) {
+            // Merge in what the other program changed instead of overwriting it.
+            Optional<String> feedback = mergeExternalChange();
+            saveMergedAddressBook();
+            if (feedback.isPresent()) {
+                commandResult = new CommandResult(commandResult.getFeedbackToUser() + "\n" + feedback.get(),
+                        commandResult.isShowHelp(), commandResult.isExit());
+            }
+        }
+        timer.lap(commandWord, Phase.SAVE);
+
+        return commandResult;
+    }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    /**
+     * Reads what another program changed in the data file, applies the persons it added, removed or edited that
+     * were not also changed here as one undoable change, and saves the merged data over the data file. Persons that
+     * were changed on both sides keep the version here, and both versions are written to a conflicts file beside
+     * the data file, so neither is lost.
+     */
+    @Override
+    public synchronized Optional<String> reloadExternalChanges() throws CommandException {
+        Optional<String> feedback = mergeExternalChange();
+        if (feedback.isPresent()) {
+            saveMergedAddressBook();
+        }
+        return feedback;
+    }
 
+    /**
+     * Not synchronized, so that commands and the UI need not wait while the data file is read. The storage and
+     * the model's snapshot are both safe to use from any thread. Reading does not take the change as read, so
+     * commands executed before it is applied merge it themselves rather than overwrite it.
+     */
+    @Override
+    public Optional<ExternalChange> readExternalChanges() throws CommandException {
+        Optional<DataFileChange> change;
+        try {
+            change = storage.readExternalChange();
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_EXTERNAL_CHANGE_UNREADABLE,
+                    storage.getAddressBookFilePath(), e.getMessage()), e);
+        }
+        return change.map(dataFileChange -> ExternalChange.of(dataFileChange, model.getAddressBookSnapshot()));
+    }
+
+    @Override
+    public synchronized Optional<String> applyExternalChanges(ExternalChange change) throws CommandException {
+        Optional<String> feedback = storage.acceptExternalChange(change.getDataFileChange())
+                ? Optional.of(mergeExternalChange(change))
+                : mergeExternalChange();
+        if (feedback.isPresent()) {
+            saveMergedAddressBook();
+        }
+        return feedback;
+    }
+
+    /**
+     * Reads what another program changed in the data file and applies it to the model, reading it again if the
+     * data file was read or written once more before the change could be accepted.
+     */
+    private Optional<String> mergeExternalChange() throws CommandException {
+        Optional<ExternalChange> change = readExternalChanges();
+        while (change.isPresent() && !storage.acceptExternalChange(change.get().getDataFileChange())) {
+            change = readExternalChanges();
+        }
+        return change.isPresent() ? Optional.of(mergeExternalChange(change.get())) : Optional.empty();
+    }
+
+    /**
+     * Applies {@code change} to the model, merged again first if the model has changed since it was merged, and
+     * returns a message describing it.
+     */
+    private String mergeExternalChange(ExternalChange change) {
+        ExternalChange current = change.mergedWith(model.getAddressBookSnapshot());
+        PersonListMerge merge = current.getMerge();
+        for (PersonListMerge.Update update : merge.getUpdates()) {
+            if (update.getTarget() == null) {
+                model.addPerson(update.getEditedPerson());
+            } else if (update.getEditedPerson() == null) {
+                model.deletePerson(update.getTarget());
+            } else {
+                model.setPerson(update.getTarget(), update.getEditedPerson());
+            }
+        }
+        model.commitAddressBook();
+
+        DataFileChange dataFileChange = current.getDataFileChange();
+        String feedback = String.format(MESSAGE_EXTERNAL_CHANGE_MERGED, dataFileChange.getFilePath(),
+                merge.getUpdates().size());
+        if (!merge.getConflicts().isEmpty()) {
+            int conflictCount = merge.getConflicts().size();
+            try {
+                Path conflictsPath = dataFileChange.saveConflicts(merge.getConflicts(), LocalDateTime.now());
+                feedback += String.format(MESSAGE_EXTERNAL_CHANGE_CONFLICTS, conflictCount, conflictsPath);
+            } catch (IOException e) {
+                feedback += String.format(MESSAGE_EXTERNAL_CHANGE_CONFLICTS_UNSAVED, conflictCount, e.getMessage());
+            }
+        }
+        String loggedFeedback = feedback;
+        logger.warning(() -> loggedFeedback);
+        return feedback;
+    }
+
+    private void saveAddressBook() throws CommandException, DataFileChangedException {
+        long version = model.getAddressBookSnapshot().getVersion();
         try {
             storage.saveAddressBook(model.getAddressBook());
+            savedVersion = version;
+        } catch (DataFileChangedException e) {
+            throw e;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Saves straight after merging in an external change, which rewrites the whole data file. If the data file
+     * was changed yet again in between, the save fails rather than overwrite it, to be merged on the next save.
+     */
+    private void saveMergedAddressBook() throws CommandException {
+        try {
+            saveAddressBook();
+        } catch (DataFileChangedException e) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void setExportFeedbackHandler(Consumer<String> feedbackHandler) {
+        exportWriter.setFeedbackHandler(feedbackHandler);
+    }
+
+    @Override
+    public void stopExports() {
+        exportWriter.stop();
     }
 
     @Override
@@ -66,6 +275,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public PersonListSnapshot getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
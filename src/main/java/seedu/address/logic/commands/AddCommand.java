@@ -64,12 +64,13 @@ public class AddCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        logger.info(String.format("Executing AddCommand for person: %s", toAdd.getName()));
+        logger.info(() -> String.format("Executing AddCommand for person: %s", toAdd.getName()));
 
         // Check if person already exists
         if (model.hasPerson(toAdd)) {
 
-            logger.info(String.format("Person already exists: %s, adding tags to existing person", toAdd.getName()));
+            logger.info(() -> String.format("Person already exists: %s, adding tags to existing person",
+                    toAdd.getName()));
             // Find the existing person by name
             Person existingPerson = findPersonByName(model, toAdd.getName());
 
@@ -112,7 +113,7 @@ public class AddCommand extends Command {
         // If person doesn't exist, add as new person
         model.addPerson(toAdd);
 
-        logger.info(String.format("Successfully added person: %s", toAdd.getName()));
+        logger.info(() -> String.format("Successfully added person: %s", toAdd.getName()));
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
@@ -0,0 +1,152 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.ErrorMessage;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.storage.AddressBookBackups;
+import seedu.address.storage.AddressBookBackups.BackupSummary;
+
+/**
+ * Backs up the address book, lists its backups, or restores one of them.
+ */
+public class BackupCommand extends Command {
+
+    public static final String COMMAND_WORD = "backup";
+
+    public static final ErrorMessage MESSAGE_USAGE = new ErrorMessage(
+            "Backs up the address book to a folder beside the data file, lists the backups taken, "
+                    + "or replaces the address book with the backup numbered GENERATION. "
+                    + "A restore can be undone.",
+            "[list | restore GENERATION]",
+            COMMAND_WORD + " restore 3"
+    );
+
+    public static final String MESSAGE_SUCCESS =
+            "Backed up %1$d person(s) as backup %2$d, storing %3$d new record(s)";
+    public static final String MESSAGE_UNCHANGED = "Nothing has changed since backup %1$d";
+    public static final String MESSAGE_LIST = "Backups in %1$s:\n%2$s";
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups in %1$s";
+    public static final String MESSAGE_RESTORED = "Restored %1$d person(s) from backup %2$d";
+    public static final String MESSAGE_BACKUP_NOT_FOUND = "There is no backup %1$d";
+    public static final String MESSAGE_FILE_ERROR = "Could not use the backups in %1$s: %2$s";
+
+    /**
+     * What a backup command does.
+     */
+    public enum Action {
+        CREATE, LIST, RESTORE
+    }
+
+    private final Action action;
+    private final long generation;
+
+    /**
+     * Creates a BackupCommand that takes a backup or lists the backups.
+     */
+    public BackupCommand(Action action) {
+        this(action, 0);
+    }
+
+    /**
+     * Creates a BackupCommand that does {@code action}, restoring backup {@code generation} if it is a restore.
+     */
+    public BackupCommand(Action action, long generation) {
+        requireNonNull(action);
+        this.action = action;
+        this.generation = generation;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AddressBookBackups backups = AddressBookBackups.forDataFile(model.getAddressBookFilePath());
+        try {
+            switch (action) {
+            case LIST:
+                return list(backups);
+            case RESTORE:
+                return restore(backups, model);
+            default:
+                return create(backups, model);
+            }
+        } catch (IOException | DataLoadingException e) {
+            Throwable cause = e instanceof DataLoadingException && e.getCause() != null ? e.getCause() : e;
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, backups.getDirectory(),
+                    cause.getMessage()), e);
+        }
+    }
+
+    /**
+     * Backs up from the latest snapshot of the address book, which does not change while it is being written.
+     */
+    private CommandResult create(AddressBookBackups backups, Model model) throws IOException {
+        BackupSummary backup = backups.backUp(model.getAddressBookSnapshot().getPersons());
+        if (!backup.isNew()) {
+            return new CommandResult(String.format(MESSAGE_UNCHANGED, backup.getGeneration()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, backup.getPersonCount(), backup.getGeneration(),
+                backup.getNewRecordCount()));
+    }
+
+    private CommandResult list(AddressBookBackups backups) throws IOException {
+        List<BackupSummary> list = backups.list();
+        if (list.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_BACKUPS, backups.getDirectory()));
+        }
+        String lines = list.stream()
+                .map(backup -> backup.getGeneration() + ". " + backup.getCreatedAt())
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_LIST, backups.getDirectory(), lines));
+    }
+
+    private CommandResult restore(AddressBookBackups backups, Model model)
+            throws CommandException, DataLoadingException {
+        Optional<AddressBook> addressBook = backups.restore(generation);
+        if (addressBook.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_NOT_FOUND, generation));
+        }
+        model.setAddressBook(addressBook.get());
+        return new CommandResult(String.format(MESSAGE_RESTORED, addressBook.get().getPersonList().size(),
+                generation));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BackupCommand)) {
+            return false;
+        }
+
+        BackupCommand otherBackupCommand = (BackupCommand) other;
+        return action == otherBackupCommand.action
+                && generation == otherBackupCommand.generation;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(action, generation);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("action", action)
+                .add("generation", generation)
+                .toString();
+    }
+}
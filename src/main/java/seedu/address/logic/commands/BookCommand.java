@@ -73,7 +73,7 @@ public class BookCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        logger.info(String.format("Executing BookCommand for person: %s with client: %s at %s",
+        logger.info(() -> String.format("Executing BookCommand for person: %s with client: %s at %s",
                 personName, clientName, datetime));
 
         // Find the person by name
@@ -86,7 +86,7 @@ public class BookCommand extends Command {
         }
 
         if (personToBook == null) {
-            logger.warning(String.format("Person not found for booking: %s", personName));
+            logger.warning(() -> String.format("Person not found for booking: %s", personName));
             throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, personName));
         }
 
@@ -94,7 +94,7 @@ public class BookCommand extends Command {
         Booking newBooking = new Booking(clientName, datetime, description);
         for (Booking existingBooking : personToBook.getBookings()) {
             if (existingBooking.conflictsWith(newBooking)) {
-                logger.warning(String.format("Double booking detected for %s at %s", personName, datetime));
+                logger.warning(() -> String.format("Double booking detected for %s at %s", personName, datetime));
                 throw new CommandException(String.format(MESSAGE_DOUBLE_BOOKING,
                         personName,
                         existingBooking.getDateTimeString(),
@@ -117,7 +117,7 @@ public class BookCommand extends Command {
 
         model.setPerson(personToBook, updatedPerson);
 
-        logger.info(String.format("Successfully booked appointment for %s with %s at %s",
+        logger.info(() -> String.format("Successfully booked appointment for %s with %s at %s",
                 personName, clientName, datetime));
 
         // Check if booking is in the past
@@ -43,7 +43,7 @@ public class ClearCommand extends Command {
 
         // Log the number of persons being deleted for audit trail
         int personCount = model.getAddressBook().getPersonList().size();
-        logger.info(String.format("Clearing address book with %d persons", personCount));
+        logger.info(() -> String.format("Clearing address book with %d persons", personCount));
 
         model.setAddressBook(new AddressBook());
 
@@ -17,4 +17,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command with {@code context}, for commands that need more than the model.
+     * Executes {@link #execute(Model)} unless overridden.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param context what the command may use besides the model.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, CommandContext context) throws CommandException {
+        return execute(model);
+    }
+
 }
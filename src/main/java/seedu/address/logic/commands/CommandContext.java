@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.ExportWriter;
+import seedu.address.logic.metrics.CommandMetrics;
+
+/**
+ * What a command may use besides the model, which {@code LogicManager} gives to every command it executes.
+ */
+public class CommandContext {
+
+    private final BatchRunner batchRunner;
+    private final CommandMetrics metrics;
+    private final ExportWriter exportWriter;
+
+    /**
+     * Creates a {@code CommandContext} that runs command files with {@code batchRunner}, reports the statistics
+     * in {@code metrics} and writes exports with {@code exportWriter}.
+     */
+    public CommandContext(BatchRunner batchRunner, CommandMetrics metrics, ExportWriter exportWriter) {
+        requireNonNull(batchRunner);
+        requireNonNull(metrics);
+        requireNonNull(exportWriter);
+        this.batchRunner = batchRunner;
+        this.metrics = metrics;
+        this.exportWriter = exportWriter;
+    }
+
+    /**
+     * Returns the runner for command files, which saves the address book at each checkpoint.
+     */
+    public BatchRunner getBatchRunner() {
+        return batchRunner;
+    }
+
+    /**
+     * Returns the statistics collected for every command handled so far.
+     */
+    public CommandMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the writer that exports in the background and reports when each export has finished.
+     */
+    public ExportWriter getExportWriter() {
+        return exportWriter;
+    }
+}
@@ -108,7 +108,7 @@ public class DeleteCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        logger.info(String.format("Executing DeleteCommand for person: %s", targetName.fullName));
+        logger.info(() -> String.format("Executing DeleteCommand for person: %s", targetName.fullName));
 
         List<Person> lastShownList = model.getFilteredPersonList();
 
@@ -167,16 +167,16 @@ public class DeleteCommand extends Command {
 
         if (tags.isEmpty()) {
             // Full person deletion
-            logger.info(String.format("Deleting entire person: %s", personToDelete.getName()));
+            logger.info(() -> String.format("Deleting entire person: %s", personToDelete.getName()));
             model.deletePerson(personToDelete);
 
-            logger.info(String.format("Successfully deleted person: %s", personToDelete.getName()));
+            logger.info(() -> String.format("Successfully deleted person: %s", personToDelete.getName()));
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         }
 
         // Partial deletion (tags only)
         Set<Tag> tagsToRemove = tags.get();
-        logger.info(String.format("Removing tags %s from person: %s", tagsToRemove, personToDelete.getName()));
+        logger.info(() -> String.format("Removing tags %s from person: %s", tagsToRemove, personToDelete.getName()));
 
         Set<Tag> curr = new LinkedHashSet<>(personToDelete.getTags());
 
@@ -192,7 +192,7 @@ public class DeleteCommand extends Command {
         }
 
         if (present.isEmpty()) {
-            logger.warning(String.format("No tags found to remove from person: %s", personToDelete.getName()));
+            logger.warning(() -> String.format("No tags found to remove from person: %s", personToDelete.getName()));
             throw new CommandException(String.format(MESSAGE_DELETE_TAG_NOT_FOUND,
                     personToDelete.getName().fullName, missing));
         }
@@ -211,7 +211,8 @@ public class DeleteCommand extends Command {
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
         String removed = present.stream().map(Tag::toString).collect(Collectors.joining(", "));
-        logger.info(String.format("Successfully removed tags %s from person: %s", removed, personToDelete.getName()));
+        logger.info(() -> String.format("Successfully removed tags %s from person: %s", removed,
+                personToDelete.getName()));
 
         if (!missing.isEmpty()) {
             return new CommandResult(String.format(MESSAGE_DELETE_TAG_PARTIAL, present,
@@ -271,11 +272,11 @@ public class DeleteCommand extends Command {
                         .equals(queryName))
                 .toList();
         if (exactMatch.size() == 1) {
-            logger.fine(String.format("Found exact match for person: %s", targetName.fullName));
+            logger.fine(() -> String.format("Found exact match for person: %s", targetName.fullName));
             return exactMatch.get(0);
         }
         if (exactMatch.size() > 1) {
-            logger.warning(String.format("Multiple exact matches found for person: %s", targetName.fullName));
+            logger.warning(() -> String.format("Multiple exact matches found for person: %s", targetName.fullName));
             String allMatches = exactMatch.stream()
                     .map(Messages::format)
                     .collect(Collectors.joining("\n"));
@@ -288,17 +289,17 @@ public class DeleteCommand extends Command {
                         .contains(queryName))
                 .toList();
         if (contains.size() == 1) {
-            logger.fine(String.format("Found partial match for person: %s", targetName.fullName));
+            logger.fine(() -> String.format("Found partial match for person: %s", targetName.fullName));
             throw new CommandException(
                     String.format(MESSAGE_DELETE_PERSON_PARTIAL_FOUND, queryName, contains.get(0).getName()));
         }
 
         if (contains.isEmpty()) {
-            logger.warning(String.format("No person found matching: %s", targetName.fullName));
+            logger.warning(() -> String.format("No person found matching: %s", targetName.fullName));
             throw new CommandException(String.format(MESSAGE_DELETE_PERSON_NOT_FOUND, targetName.fullName));
         }
 
-        logger.warning(String.format("Multiple partial matches found for person: %s", targetName.fullName));
+        logger.warning(() -> String.format("Multiple partial matches found for person: %s", targetName.fullName));
         String containsMultiple = contains.stream()
                 .map(Messages::format)
                 .collect(Collectors.joining("\n"));
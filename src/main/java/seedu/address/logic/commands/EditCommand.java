@@ -88,13 +88,13 @@ public class EditCommand extends Command {
         List<Person> lastShownList = model.getFilteredPersonList();
         assert lastShownList != null : "Filtered person list should not be null";
 
-        logger.info(String.format("Executing EditCommand for Person: %s", oldName.fullName));
+        logger.info(() -> String.format("Executing EditCommand for Person: %s", oldName.fullName));
 
         Person personToEdit = lastShownList.stream()
                 .filter(person -> person.getName().equals(oldName))
                 .findFirst()
                 .orElseThrow(() -> {
-                    logger.warning(String.format(
+                    logger.warning(() -> String.format(
                         "Invalid name provided, Person not found: %s", oldName.fullName));
                     return new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, oldName.fullName));
                 });
@@ -103,7 +103,7 @@ public class EditCommand extends Command {
         assert editedPerson != null : "Edited person should not be null";
 
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
-            logger.warning(String.format("Attempted to edit person %s to duplicate: %s",
+            logger.warning(() -> String.format("Attempted to edit person %s to duplicate: %s",
                     personToEdit.getName(), editedPerson.getName()));
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
@@ -111,7 +111,7 @@ public class EditCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        logger.info(String.format("Successfully edited person: %s", editedPerson.getName()));
+        logger.info(() -> String.format("Successfully edited person: %s", editedPerson.getName()));
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -0,0 +1,184 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.ErrorMessage;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.CsvExporter;
+import seedu.address.logic.IcsExporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
+
+/**
+ * Exports persons and bookings to a CSV or iCalendar file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final ErrorMessage MESSAGE_USAGE = new ErrorMessage(
+            "Exports persons and their bookings to a CSV file that the import command can read, "
+                    + "or exports bookings to an iCalendar (.ics) file. "
+                    + "Exports the whole team, or only the person named with " + PREFIX_NAME + ".",
+            "FORMAT (csv or ics) FILE [" + PREFIX_NAME + "NAME]",
+            COMMAND_WORD + " ics data/alice.ics " + PREFIX_NAME + "Alice Tan"
+    );
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d person(s) to %2$s in the background...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d person(s) and %2$d booking(s) to %3$s";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "Cannot find team member '%1$s' in your address book.";
+    public static final String MESSAGE_FILE_ERROR = "Could not export to %1$s: %2$s";
+
+    /**
+     * A file format that persons can be exported to.
+     */
+    public enum Format {
+        CSV, ICS;
+
+        /**
+         * Returns the format called {@code name}, ignoring case, if there is one.
+         */
+        public static Optional<Format> of(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Writes {@code persons} to {@code out} in this format.
+         */
+        public void write(List<Person> persons, Writer out) throws IOException {
+            if (this == CSV) {
+                CsvExporter.write(persons, out);
+            } else {
+                new IcsExporter().write(persons, out);
+            }
+        }
+    }
+
+    private final Format format;
+    private final Path filePath;
+    private final Name personName;
+
+    /**
+     * Creates an ExportCommand that writes {@code format} to {@code filePath}, for the person named
+     * {@code personName}, or for everyone if {@code personName} is null.
+     */
+    public ExportCommand(Format format, Path filePath, Name personName) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        this.format = format;
+        this.filePath = filePath;
+        this.personName = personName;
+    }
+
+    /**
+     * Writes the file before returning. Used where there is no background writer, such as in command files.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> persons = getPersons(model);
+        try {
+            write(persons);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(getSuccessMessage(persons));
+    }
+
+    /**
+     * Hands the latest snapshot of the address book to the context's {@code ExportWriter}, which writes it on a
+     * background thread and reports when it has finished. A snapshot never changes, so the export neither holds up
+     * the UI nor stops later commands from changing the address book while it is written.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandContext context) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(context);
+
+        List<Person> persons = getPersons(model);
+        context.getExportWriter().submit(() -> {
+            try {
+                write(persons);
+                return getSuccessMessage(persons);
+            } catch (IOException ioe) {
+                return String.format(MESSAGE_FILE_ERROR, filePath, ioe.getMessage());
+            }
+        });
+        return new CommandResult(String.format(MESSAGE_STARTED, persons.size(), filePath));
+    }
+
+    /**
+     * Returns the persons to export from the latest snapshot of the address book in {@code model}.
+     */
+    private List<Person> getPersons(Model model) throws CommandException {
+        PersonListSnapshot snapshot = model.getAddressBookSnapshot();
+        if (personName == null) {
+            return snapshot.getPersons();
+        }
+        return snapshot.findByName(personName).map(List::of)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, personName)));
+    }
+
+    private void write(List<Person> persons) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        try (Writer out = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            format.write(persons, out);
+        }
+    }
+
+    private String getSuccessMessage(List<Person> persons) {
+        int bookingCount = persons.stream().mapToInt(person -> person.getBookings().size()).sum();
+        return String.format(MESSAGE_SUCCESS, persons.size(), bookingCount, filePath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return format == otherExportCommand.format
+                && filePath.equals(otherExportCommand.filePath)
+                && Objects.equals(personName, otherExportCommand.personName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(format, filePath, personName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("format", format)
+                .add("filePath", filePath)
+                .add("personName", personName)
+                .toString();
+    }
+}
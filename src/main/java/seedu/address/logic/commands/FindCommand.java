@@ -43,6 +43,13 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Returns the predicate that persons found by this command satisfy.
+     */
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
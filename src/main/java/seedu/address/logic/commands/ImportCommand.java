@@ -0,0 +1,172 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.ErrorMessage;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.CsvImporter;
+import seedu.address.logic.IcsImporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+
+/**
+ * Imports persons and bookings from a CSV file, or one person's bookings from an iCalendar file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final ErrorMessage MESSAGE_USAGE = new ErrorMessage(
+            "Imports persons and bookings from a CSV file whose first line names the columns, out of: "
+                    + String.join(", ", CsvImporter.COLUMNS) + ". "
+                    + "Tags are separated by '" + CsvImporter.TAG_SEPARATOR + "'. "
+                    + "Rows that fail are reported and skipped. "
+                    + "Alternatively, imports the events of an iCalendar (.ics) file as bookings of the person "
+                    + "named with " + PREFIX_NAME + ", updating the bookings imported from it before.",
+            "FILE [" + PREFIX_NAME + "NAME]",
+            COMMAND_WORD + " data/team.csv"
+    );
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d row(s) from %3$s: "
+            + "%4$d new person(s), %5$d existing person(s) updated, %6$d booking(s) added.";
+    public static final String MESSAGE_CALENDAR_SUCCESS = "Read %1$d event(s) from %2$s for %3$s: "
+            + "%4$d booking(s) added, %5$d updated, %6$d removed, %7$d unchanged.";
+    public static final String MESSAGE_FAILED_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more failure(s).";
+    public static final String MESSAGE_FAILURE_REPORT = "Every failed row is listed in %1$s";
+    public static final String MESSAGE_FILE_ERROR = "Could not import from %1$s: %2$s";
+
+    /** Suffix added to the name of the imported file to name its failure report. */
+    public static final String FAILURE_REPORT_SUFFIX = ".errors.csv";
+    /** Extension of the files that are imported as calendars. */
+    public static final String CALENDAR_EXTENSION = ".ics";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+    private final Name personName;
+
+    /**
+     * Creates an ImportCommand for the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates an ImportCommand for the calendar file at {@code filePath}, whose events become bookings of the
+     * person named {@code personName}. If {@code personName} is null, the file is imported as CSV instead.
+     */
+    public ImportCommand(Path filePath, Name personName) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.personName = personName;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a calendar file, which is imported for one person.
+     */
+    public static boolean isCalendarFile(Path filePath) {
+        return filePath.getFileName() != null
+                && filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(CALENDAR_EXTENSION);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        StringBuilder feedback = new StringBuilder();
+        List<CsvImporter.Failure> failures;
+        try {
+            if (personName == null) {
+                CsvImporter.Report report = new CsvImporter().importFile(filePath, model);
+                feedback.append(String.format(MESSAGE_SUCCESS, report.getImportedCount(), report.getRowCount(),
+                        filePath, report.getNewPersonCount(), report.getUpdatedPersonCount(),
+                        report.getBookingCount()));
+                failures = report.getFailures();
+            } else {
+                IcsImporter.Report report = new IcsImporter().importFile(filePath, personName, model);
+                feedback.append(String.format(MESSAGE_CALENDAR_SUCCESS, report.getEventCount(), filePath,
+                        personName, report.getAddedCount(), report.getUpdatedCount(), report.getRemovedCount(),
+                        report.getUnchangedCount()));
+                failures = report.getFailures();
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, e.getMessage()), e);
+        }
+
+        for (int i = 0; i < Math.min(failures.size(), RunCommand.MAX_FAILURES_SHOWN); i++) {
+            CsvImporter.Failure failure = failures.get(i);
+            feedback.append('\n').append(String.format(MESSAGE_FAILED_ROW,
+                    failure.getLineNumber(), firstLineOf(failure.getMessage())));
+        }
+        if (failures.size() > RunCommand.MAX_FAILURES_SHOWN) {
+            feedback.append('\n').append(String.format(MESSAGE_MORE_FAILURES,
+                    failures.size() - RunCommand.MAX_FAILURES_SHOWN));
+        }
+        if (!failures.isEmpty()) {
+            Path reportPath = getFailureReportPath();
+            try {
+                CsvImporter.writeFailures(failures, reportPath);
+                feedback.append('\n').append(String.format(MESSAGE_FAILURE_REPORT, reportPath));
+            } catch (IOException ioe) {
+                // The rows have been imported already; a missing report should not hide that.
+                logger.warning(() -> "Could not write import failure report to " + reportPath + ": "
+                        + ioe.getMessage());
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns where the failures of this import are written: next to the imported file.
+     */
+    public Path getFailureReportPath() {
+        return filePath.resolveSibling(filePath.getFileName() + FAILURE_REPORT_SUFFIX);
+    }
+
+    private static String firstLineOf(String message) {
+        int newline = message.indexOf('\n');
+        return newline == -1 ? message : message.substring(0, newline);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && Objects.equals(personName, otherImportCommand.personName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filePath, personName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("personName", personName)
+                .toString();
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.ErrorMessage;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.storage.SqlAddressBookStorage;
+
+/**
+ * Copies the address book into a new SQLite database, which the app can then be pointed at.
+ */
+public class MigrateCommand extends Command {
+
+    public static final String COMMAND_WORD = "migrate";
+
+    public static final ErrorMessage MESSAGE_USAGE = new ErrorMessage(
+            "Copies the address book into a new database at FILE, whose name must end with "
+                    + SqlAddressBookStorage.FILE_EXTENSION + ", and checks that the database reads back "
+                    + "the same persons. The current data file is left as it is.",
+            "FILE",
+            COMMAND_WORD + " data/addressbook" + SqlAddressBookStorage.FILE_EXTENSION
+    );
+
+    public static final String MESSAGE_SUCCESS = "Copied %1$d person(s) to %2$s and checked them. "
+            + "To use the database, exit, set \"addressBookFilePath\" in preferences.json to \"%2$s\", "
+            + "and start the app again.";
+    public static final String MESSAGE_NOT_DATABASE = "The database's name must end with "
+            + SqlAddressBookStorage.FILE_EXTENSION + ": %1$s";
+    public static final String MESSAGE_FILE_EXISTS = "Not overwriting the existing file %1$s";
+    public static final String MESSAGE_FILE_ERROR = "Could not migrate to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates a MigrateCommand that copies the address book into a new database at {@code filePath}.
+     */
+    public MigrateCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Copies the latest snapshot of the address book, which already has the journal replayed onto it.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!SqlAddressBookStorage.isDatabaseFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_NOT_DATABASE, filePath));
+        }
+        if (Files.exists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_EXISTS, filePath));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(model.getAddressBookSnapshot().getPersons());
+        try {
+            SqlAddressBookStorage.copyToDatabase(addressBook, filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.getPersonList().size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MigrateCommand)) {
+            return false;
+        }
+
+        MigrateCommand otherMigrateCommand = (MigrateCommand) other;
+        return filePath.equals(otherMigrateCommand.filePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SAVE_EVERY;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.ErrorMessage;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands listed in a file, one per line.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final ErrorMessage MESSAGE_USAGE = new ErrorMessage(
+            "Runs the commands in a text file, one command per line. "
+                    + "Lines that fail are reported and skipped. "
+                    + "The address book is saved once at the end, or every N commands if "
+                    + PREFIX_SAVE_EVERY + " is given.",
+            "FILE [" + PREFIX_SAVE_EVERY + "N]",
+            COMMAND_WORD + " data/import.txt " + PREFIX_SAVE_EVERY + "500"
+    );
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s: %3$d succeeded, %4$d failed.";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more failure(s).";
+    public static final String MESSAGE_FILE_ERROR = "Could not run commands from %1$s: %2$s";
+
+    /** Number of failures listed in the feedback to the user; the rest are only counted. */
+    public static final int MAX_FAILURES_SHOWN = 20;
+
+    private final Path filePath;
+    private final int saveInterval;
+
+    /**
+     * Creates a RunCommand for the commands in {@code filePath}, saving every {@code saveInterval} successful
+     * commands, or only at the end if {@code saveInterval} is zero.
+     */
+    public RunCommand(Path filePath, int saveInterval) {
+        requireNonNull(filePath);
+        assert saveInterval >= 0;
+        this.filePath = filePath;
+        this.saveInterval = saveInterval;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    /**
+     * Runs the file without any intermediate saves, executing its commands with only the model.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        return execute(new BatchRunner(new AddressBookParser(), model), null);
+    }
+
+    /**
+     * Runs the file with the context's batch runner, which saves checkpoints, executing its commands with
+     * {@code context}.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandContext context) throws CommandException {
+        requireNonNull(context);
+        return execute(context.getBatchRunner(), context);
+    }
+
+    /**
+     * Runs the file with {@code batchRunner}, executing its commands with {@code context} if it is not null.
+     */
+    private CommandResult execute(BatchRunner batchRunner, CommandContext context) throws CommandException {
+        BatchRunner.Report report;
+        try {
+            report = batchRunner.run(filePath, saveInterval, context);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(formatReport(report));
+    }
+
+    private String formatReport(BatchRunner.Report report) {
+        List<BatchRunner.Failure> failures = report.getFailures();
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS,
+                report.getCommandCount(), filePath, report.getSuccessCount(), failures.size()));
+        for (int i = 0; i < Math.min(failures.size(), MAX_FAILURES_SHOWN); i++) {
+            BatchRunner.Failure failure = failures.get(i);
+            builder.append('\n').append(String.format(MESSAGE_FAILED_LINE,
+                    failure.getLineNumber(), firstLineOf(failure.getMessage())));
+        }
+        if (failures.size() > MAX_FAILURES_SHOWN) {
+            builder.append('\n').append(String.format(MESSAGE_MORE_FAILURES, failures.size() - MAX_FAILURES_SHOWN));
+        }
+        return builder.toString();
+    }
+
+    private static String firstLineOf(String message) {
+        int newline = message.indexOf('\n');
+        return newline == -1 ? message : message.substring(0, newline);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath)
+                && saveInterval == otherRunCommand.saveInterval;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filePath, saveInterval);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("saveInterval", saveInterval)
+                .toString();
+    }
+}
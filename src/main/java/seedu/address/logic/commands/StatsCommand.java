@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each kind of command has taken to parse, execute, commit and save, and how much memory it
+ * allocated, since the application started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_HEADER = "Time taken in ms (p50 / p90 / p99 / max) "
+            + "and memory allocated (p50), per command:";
+    public static final String MESSAGE_COMMAND = "%1$s: %2$d run(s)";
+    public static final String MESSAGE_PHASE = "  %1$s: %2$s / %3$s / %4$s / %5$s ms, %6$s";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been timed yet.";
+    public static final String MESSAGE_NOT_COLLECTED = "Command statistics are not being collected.";
+
+    private static final String NOT_MEASURED = "n/a";
+
+    /**
+     * Throws, since the statistics are only given to a command in its {@link CommandContext}.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_NOT_COLLECTED);
+    }
+
+    /**
+     * Shows the statistics collected in the context's metrics.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandContext context) {
+        requireNonNull(context);
+        return execute(context.getMetrics());
+    }
+
+    /**
+     * Shows the statistics collected in {@code metrics}.
+     */
+    public CommandResult execute(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        List<CommandMetrics.Summary> summaries = metrics.getSummaries();
+        if (summaries.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_COMMANDS);
+        }
+
+        StringBuilder feedback = new StringBuilder(MESSAGE_HEADER);
+        String commandWord = null;
+        for (CommandMetrics.Summary summary : summaries) {
+            if (!summary.getCommandWord().equals(commandWord)) {
+                commandWord = summary.getCommandWord();
+                feedback.append('\n').append(String.format(MESSAGE_COMMAND, commandWord, countOf(summaries,
+                        commandWord)));
+            }
+            feedback.append('\n').append(String.format(MESSAGE_PHASE,
+                    summary.getPhase().name().toLowerCase(Locale.ROOT),
+                    formatMillis(summary.getP50Nanos()), formatMillis(summary.getP90Nanos()),
+                    formatMillis(summary.getP99Nanos()), formatMillis(summary.getMaxNanos()),
+                    formatBytes(summary.getP50AllocatedBytes())));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns how many times {@code commandWord} was handled, which is how many totals were recorded for it.
+     */
+    private static long countOf(List<CommandMetrics.Summary> summaries, String commandWord) {
+        return summaries.stream()
+                .filter(summary -> summary.getCommandWord().equals(commandWord)
+                        && summary.getPhase() == CommandMetrics.Phase.TOTAL)
+                .mapToLong(CommandMetrics.Summary::getCount)
+                .sum();
+    }
+
+    static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 0) {
+            return NOT_MEASURED;
+        } else if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024));
+    }
+}
@@ -0,0 +1,278 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Collects how long each phase of handling a command takes, and how much memory the handling thread allocates
+ * during it, in a {@link Histogram} per command word and phase.
+ * <p>
+ * Allocation is measured with {@code com.sun.management.ThreadMXBean}. On a JVM that does not support it, only
+ * latencies are collected. Recording and reading are thread-safe.
+ */
+public class CommandMetrics {
+
+    /**
+     * A phase of {@code LogicManager#execute}. {@code TOTAL} covers all of the others.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, COMMIT, SAVE, TOTAL
+    }
+
+    /** Command word under which input that names no command is recorded. */
+    public static final String UNKNOWN_COMMAND_WORD = "(unknown)";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final ThreadMXBean THREAD_BEAN = initThreadBean();
+
+    private final Map<String, Map<Phase, PhaseStats>> statsByCommandWord = new ConcurrentHashMap<>();
+
+    /**
+     * Returns true if allocated bytes can be measured on this JVM.
+     */
+    public static boolean isAllocationSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far, or -1 if that cannot be measured.
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_BEAN == null ? -1 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns a timer that starts measuring now, on the current thread.
+     */
+    public Timer startTimer() {
+        return new Timer();
+    }
+
+    /**
+     * Records that {@code phase} of {@code commandWord} took {@code nanos} nanoseconds and allocated
+     * {@code allocatedBytes} bytes. A negative {@code allocatedBytes} means it was not measured.
+     */
+    public void record(String commandWord, Phase phase, long nanos, long allocatedBytes) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        PhaseStats stats = statsByCommandWord
+                .computeIfAbsent(commandWord, word -> Collections.synchronizedMap(new EnumMap<>(Phase.class)))
+                .computeIfAbsent(phase, unused -> new PhaseStats());
+        stats.record(nanos, allocatedBytes);
+    }
+
+    /**
+     * Returns a summary of everything recorded so far, ordered by command word and phase.
+     */
+    public List<Summary> getSummaries() {
+        List<Summary> summaries = new ArrayList<>();
+        List<String> commandWords = new ArrayList<>(statsByCommandWord.keySet());
+        Collections.sort(commandWords);
+        for (String commandWord : commandWords) {
+            Map<Phase, PhaseStats> statsByPhase = statsByCommandWord.get(commandWord);
+            if (statsByPhase == null) {
+                continue; // cleared in the meantime
+            }
+            for (Phase phase : Phase.values()) {
+                PhaseStats stats = statsByPhase.get(phase);
+                if (stats != null) {
+                    summaries.add(stats.summarize(commandWord, phase));
+                }
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public void clear() {
+        statsByCommandWord.clear();
+    }
+
+    private static ThreadMXBean initThreadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean) {
+                ThreadMXBean bean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+                if (bean.isThreadAllocatedMemorySupported()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                    return bean;
+                }
+            }
+        } catch (UnsupportedOperationException | LinkageError e) {
+            logger.info("Allocated bytes per command will not be measured: " + e);
+        }
+        return null;
+    }
+
+    /**
+     * Measures successive phases on one thread. Each call to {@link #lap} records the time and allocation since
+     * the previous one, or since the timer was started.
+     * <p>
+     * Each phase, and the total, is also emitted as a {@link CommandPhaseEvent} for Flight Recorder.
+     */
+    public class Timer {
+        private final long startNanos;
+        private final long startBytes;
+        private final CommandPhaseEvent totalEvent = new CommandPhaseEvent();
+        private long lapNanos;
+        private long lapBytes;
+        private CommandPhaseEvent lapEvent = new CommandPhaseEvent();
+
+        private Timer() {
+            startNanos = System.nanoTime();
+            startBytes = currentThreadAllocatedBytes();
+            lapNanos = startNanos;
+            lapBytes = startBytes;
+            totalEvent.begin();
+            lapEvent.begin();
+        }
+
+        /**
+         * Records the time and allocation since the last lap as {@code phase} of {@code commandWord}.
+         */
+        public void lap(String commandWord, Phase phase) {
+            long nowNanos = System.nanoTime();
+            long nowBytes = currentThreadAllocatedBytes();
+            long allocatedBytes = allocatedSince(lapBytes, nowBytes);
+            record(commandWord, phase, nowNanos - lapNanos, allocatedBytes);
+            commit(lapEvent, commandWord, phase, allocatedBytes);
+            lapNanos = nowNanos;
+            lapBytes = nowBytes;
+            lapEvent = new CommandPhaseEvent();
+            lapEvent.begin();
+        }
+
+        /**
+         * Records the time and allocation since the timer was started as the {@code TOTAL} of {@code commandWord}.
+         */
+        public void stop(String commandWord) {
+            long nowBytes = currentThreadAllocatedBytes();
+            long allocatedBytes = allocatedSince(startBytes, nowBytes);
+            record(commandWord, Phase.TOTAL, System.nanoTime() - startNanos, allocatedBytes);
+            commit(totalEvent, commandWord, Phase.TOTAL, allocatedBytes);
+        }
+
+        private long allocatedSince(long before, long now) {
+            return before < 0 || now < 0 ? -1 : now - before;
+        }
+
+        private void commit(CommandPhaseEvent event, String commandWord, Phase phase, long allocatedBytes) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commandWord = commandWord;
+                event.phase = phase.name();
+                event.allocatedBytes = allocatedBytes;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * The histograms of one phase of one command word.
+     */
+    private static class PhaseStats {
+        private final Histogram nanos = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+
+        synchronized void record(long phaseNanos, long phaseAllocatedBytes) {
+            nanos.record(Math.max(0, phaseNanos));
+            if (phaseAllocatedBytes >= 0) {
+                allocatedBytes.record(phaseAllocatedBytes);
+            }
+        }
+
+        synchronized Summary summarize(String commandWord, Phase phase) {
+            return new Summary(commandWord, phase, nanos.getCount(),
+                    nanos.getValueAtPercentile(50), nanos.getValueAtPercentile(90),
+                    nanos.getValueAtPercentile(99), nanos.getMax(), (long) nanos.getMean(),
+                    allocatedBytes.getCount() == 0 ? -1 : allocatedBytes.getValueAtPercentile(50),
+                    allocatedBytes.getCount() == 0 ? -1 : allocatedBytes.getMax());
+        }
+    }
+
+    /**
+     * Statistics of one phase of one command word at some point in time. Allocations are -1 if not measured.
+     */
+    public static class Summary {
+        private final String commandWord;
+        private final Phase phase;
+        private final long count;
+        private final long p50Nanos;
+        private final long p90Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+        private final long meanNanos;
+        private final long p50AllocatedBytes;
+        private final long maxAllocatedBytes;
+
+        /**
+         * Creates a {@code Summary} with the given statistics.
+         */
+        public Summary(String commandWord, Phase phase, long count, long p50Nanos, long p90Nanos, long p99Nanos,
+                long maxNanos, long meanNanos, long p50AllocatedBytes, long maxAllocatedBytes) {
+            this.commandWord = commandWord;
+            this.phase = phase;
+            this.count = count;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+            this.meanNanos = meanNanos;
+            this.p50AllocatedBytes = p50AllocatedBytes;
+            this.maxAllocatedBytes = maxAllocatedBytes;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP90Nanos() {
+            return p90Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getMeanNanos() {
+            return meanNanos;
+        }
+
+        public long getP50AllocatedBytes() {
+            return p50AllocatedBytes;
+        }
+
+        public long getMaxAllocatedBytes() {
+            return maxAllocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one phase of handling a command, emitted by {@link CommandMetrics.Timer}.
+ */
+@Name(CommandPhaseEvent.NAME)
+@Label("Command Phase")
+@Category({"FirstImpressions", "Logic"})
+@Description("Parsing, executing, committing or saving one command, or all of it")
+class CommandPhaseEvent extends Event {
+
+    static final String NAME = "seedu.address.CommandPhase";
+
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the thread during the phase, or -1 if not measured")
+    @DataAmount
+    long allocatedBytes;
+}
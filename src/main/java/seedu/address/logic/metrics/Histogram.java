@@ -0,0 +1,106 @@
+package seedu.address.logic.metrics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts non-negative values in buckets whose width grows with the value, in the manner of an HDR histogram, so that
+ * any recorded value can be recovered to within about 3% whatever its magnitude, in a fixed amount of memory.
+ * <p>
+ * Values below {@code 2 * SUB_BUCKET_COUNT} each have a bucket of their own. Above that, every power of two is split
+ * into {@code SUB_BUCKET_COUNT} equal buckets. Values above {@link #MAX_TRACKABLE_VALUE} are counted as that value.
+ * <p>
+ * Not thread-safe; callers must synchronize.
+ */
+public class Histogram {
+
+    /** Largest value that is told apart from larger ones: about 18 minutes in nanoseconds, or 1 TiB in bytes. */
+    public static final long MAX_TRACKABLE_VALUE = (1L << 40) - 1;
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Records one occurrence of {@code value}.
+     */
+    public void record(long value) {
+        checkArgument(value >= 0, "Histogram values must not be negative.");
+        counts[indexOf(Math.min(value, MAX_TRACKABLE_VALUE))]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the smallest recorded value, or 0 if nothing has been recorded.
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if nothing has been recorded.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns a value that {@code percentile} percent of the recorded values are at or below, to within the width
+     * of a bucket, or 0 if nothing has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentiles must be between 0 and 100.");
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, highestValueIn(i)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the bucket that holds {@code value}.
+     */
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the largest value that falls in bucket {@code index}.
+     */
+    static long highestValueIn(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
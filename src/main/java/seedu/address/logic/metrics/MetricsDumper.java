@@ -0,0 +1,125 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes the statistics in a {@link CommandMetrics} to a JSON file at a fixed interval, on a background thread, so
+ * that they can be collected from a running application.
+ * <p>
+ * Each dump replaces the previous one. It is written to a temporary file first and then moved into place, so a
+ * reader never sees a partly written file.
+ */
+public class MetricsDumper {
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsDumper.class);
+
+    private final CommandMetrics metrics;
+    private final Path filePath;
+    private final long intervalSeconds;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a {@code MetricsDumper} that writes {@code metrics} to {@code filePath} every
+     * {@code intervalSeconds} seconds once started.
+     */
+    public MetricsDumper(CommandMetrics metrics, Path filePath, long intervalSeconds) {
+        this(metrics, filePath, intervalSeconds, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a {@code MetricsDumper} that stamps each dump with the time given by {@code clock}.
+     */
+    public MetricsDumper(CommandMetrics metrics, Path filePath, long intervalSeconds, Clock clock) {
+        requireNonNull(metrics);
+        requireNonNull(filePath);
+        requireNonNull(clock);
+        checkArgument(intervalSeconds > 0, "The metrics dump interval must be positive.");
+        this.metrics = metrics;
+        this.filePath = filePath;
+        this.intervalSeconds = intervalSeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts dumping on a daemon thread, every interval from now.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dumper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::dumpQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Dumping command metrics to " + filePath + " every " + intervalSeconds + " second(s)");
+    }
+
+    /**
+     * Stops dumping, after writing one last dump.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        dumpQuietly();
+    }
+
+    /**
+     * Writes the current statistics to the file now.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public void dump() throws IOException {
+        Path temporaryFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new Dump(Instant.now(clock), metrics.getSummaries()), temporaryFile);
+        Files.move(temporaryFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException | RuntimeException e) {
+            // A failed dump must not stop later ones.
+            logger.warning("Could not dump command metrics to " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Jackson-friendly contents of a dump.
+     */
+    private static class Dump {
+        private final String generatedAt;
+        private final boolean isAllocationMeasured;
+        private final List<CommandMetrics.Summary> commands;
+
+        Dump(Instant generatedAt, List<CommandMetrics.Summary> commands) {
+            this.generatedAt = generatedAt.toString();
+            this.isAllocationMeasured = CommandMetrics.isAllocationSupported();
+            this.commands = commands;
+        }
+    }
+}
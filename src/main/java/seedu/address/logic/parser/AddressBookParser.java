@@ -1,23 +1,15 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.BookCommand;
-import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -25,11 +17,24 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry registry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser that recognizes all the commands built into the application.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(CommandRegistry.createDefault());
+    }
+
+    /**
+     * Creates a parser that recognizes the commands in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -39,53 +44,47 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE.toString()));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        // The command word runs up to the first whitespace; the arguments keep their leading whitespace
+        // so that a prefix directly after the command word is still recognized by ArgumentTokenizer.
+        final int commandWordEnd = commandWordEndOf(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case BookCommand.COMMAND_WORD:
-            return new BookCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+        Parser<?> parser = registry.getParser(commandWord).orElse(null);
+        if (parser == null) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Returns the command word that {@code userInput} starts with, if it is one that this parser recognizes.
+     */
+    public Optional<String> findCommandWord(String userInput) {
+        final String trimmedInput = userInput.trim();
+        final String commandWord = trimmedInput.substring(0, commandWordEndOf(trimmedInput));
+        return registry.getParser(commandWord).map(parser -> commandWord);
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    private static int commandWordEndOf(String trimmedInput) {
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
         }
+        return commandWordEnd;
     }
 
 }
@@ -1,9 +1,6 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +9,56 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * All registered prefixes are compiled into a single character trie, so the arguments string is scanned once from
+ * left to right regardless of how many prefixes are registered. Parsers that tokenize with the same prefixes on every
+ * call should hold on to an instance created with {@link #ArgumentTokenizer(Prefix...)} and call {@link #scan(String)}
+ * instead of {@link #tokenize(String, Prefix...)}, which compiles the prefixes afresh each time.
  */
 public class ArgumentTokenizer {
 
+    private static final int NO_PREFIX = -1;
+    private static final int ROOT = 0;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Prefix[] prefixes;
+    private final int[] prefixLengths;
+
+    // Trie over the prefix strings, stored as parallel arrays indexed by state.
+    // Each state keeps its outgoing edges as a singly linked list of siblings.
+    private final char[] edgeChar;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final int[] acceptedPrefix;
+    private int stateCount;
+
+    /**
+     * Creates a tokenizer that recognizes exactly the given {@code prefixes}.
+     * Empty and repeated prefixes are ignored.
+     */
+    public ArgumentTokenizer(Prefix... prefixes) {
+        this.prefixes = Arrays.stream(prefixes)
+                .filter(prefix -> !prefix.getPrefix().isEmpty())
+                .distinct()
+                .toArray(Prefix[]::new);
+        this.prefixLengths = new int[this.prefixes.length];
+
+        int maxStates = 1;
+        for (Prefix prefix : this.prefixes) {
+            maxStates += prefix.getPrefix().length();
+        }
+        edgeChar = new char[maxStates];
+        firstChild = new int[maxStates];
+        nextSibling = new int[maxStates];
+        acceptedPrefix = new int[maxStates];
+        newState('\0');
+
+        for (int i = 0; i < this.prefixes.length; i++) {
+            prefixLengths[i] = this.prefixes[i].getPrefix().length();
+            insert(this.prefixes[i].getPrefix(), i);
+        }
+    }
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,125 +68,114 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        return new ArgumentTokenizer(prefixes).scan(argsString);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps the prefixes of this
+     * tokenizer to their respective argument values.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    public ArgumentMultimap scan(String argsString) {
+        int[] starts = new int[INITIAL_CAPACITY];
+        int[] matched = new int[INITIAL_CAPACITY];
+        int count = 0;
+
+        // A prefix is only recognized when it directly follows a space, so position 0 is never a candidate.
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            int prefixIndex = longestPrefixAt(argsString, i);
+            if (prefixIndex == NO_PREFIX) {
+                continue;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                matched = Arrays.copyOf(matched, count * 2);
+            }
+            starts[count] = i;
+            matched[count] = prefixIndex;
+            count++;
         }
 
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        int preambleEnd = count == 0 ? argsString.length() : starts[0];
+        argMultimap.put(ArgumentMultimap.PREAMBLE, trimmedSubstring(argsString, 0, preambleEnd));
+        for (int k = 0; k < count; k++) {
+            int valueStart = starts[k] + prefixLengths[matched[k]];
+            int valueEnd = k + 1 < count ? starts[k + 1] : argsString.length();
+            argMultimap.put(prefixes[matched[k]], trimmedSubstring(argsString, valueStart, valueEnd));
         }
-
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the index of the longest prefix that occurs in {@code argsString} at {@code start},
+     * or {@code NO_PREFIX} if none of the prefixes occur there.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private int longestPrefixAt(String argsString, int start) {
+        int state = ROOT;
+        int longest = NO_PREFIX;
+        for (int i = start; i < argsString.length(); i++) {
+            state = childOf(state, argsString.charAt(i));
+            if (state == NO_PREFIX) {
+                break;
+            }
+            if (acceptedPrefix[state] != NO_PREFIX) {
+                longest = acceptedPrefix[state];
+            }
+        }
+        return longest;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the value between {@code start} and {@code end} with leading and trailing whitespace removed,
+     * allocating only the final string.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static String trimmedSubstring(String argsString, int start, int end) {
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
         }
+        return argsString.substring(start, end);
+    }
 
-        int getStartPosition() {
-            return startPosition;
+    private void insert(String prefix, int prefixIndex) {
+        int state = ROOT;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            int child = childOf(state, c);
+            if (child == NO_PREFIX) {
+                child = newState(c);
+                nextSibling[child] = firstChild[state];
+                firstChild[state] = child;
+            }
+            state = child;
         }
+        acceptedPrefix[state] = prefixIndex;
+    }
 
-        Prefix getPrefix() {
-            return prefix;
+    private int childOf(int state, char c) {
+        for (int child = firstChild[state]; child != NO_PREFIX; child = nextSibling[child]) {
+            if (edgeChar[child] == c) {
+                return child;
+            }
         }
+        return NO_PREFIX;
+    }
+
+    private int newState(char c) {
+        int state = stateCount++;
+        edgeChar[state] = c;
+        firstChild[state] = NO_PREFIX;
+        nextSibling[state] = NO_PREFIX;
+        acceptedPrefix[state] = NO_PREFIX;
+        return state;
     }
 
 }
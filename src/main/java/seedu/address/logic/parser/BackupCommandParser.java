@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.BackupCommand;
+import seedu.address.logic.commands.BackupCommand.Action;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BackupCommand object
+ */
+public class BackupCommandParser implements Parser<BackupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BackupCommand
+     * and returns a BackupCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BackupCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new BackupCommand(Action.CREATE);
+        }
+        String[] actionAndGeneration = trimmedArgs.split("\\s+");
+        if (actionAndGeneration.length == 1 && actionAndGeneration[0].equalsIgnoreCase("list")) {
+            return new BackupCommand(Action.LIST);
+        }
+        if (actionAndGeneration.length == 2 && actionAndGeneration[0].equalsIgnoreCase("restore")
+                && actionAndGeneration[1].matches("[1-9]\\d{0,17}")) {
+            return new BackupCommand(Action.RESTORE, Long.parseLong(actionAndGeneration[1]));
+        }
+        throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, BackupCommand.MESSAGE_USAGE.toString()));
+    }
+
+}
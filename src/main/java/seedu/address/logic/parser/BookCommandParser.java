@@ -19,6 +19,9 @@ import seedu.address.model.person.Name;
  */
 public class BookCommandParser implements Parser<BookCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_DATETIME, PREFIX_CLIENT, PREFIX_NAME, PREFIX_DESCRIPTION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the BookCommand
      * and returns a BookCommand object for execution.
@@ -26,8 +29,7 @@ public class BookCommandParser implements Parser<BookCommand> {
      */
     @Override
     public BookCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_CLIENT, PREFIX_NAME, PREFIX_DESCRIPTION);
+        ArgumentMultimap argMultimap = TOKENIZER.scan(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_DATETIME, PREFIX_CLIENT, PREFIX_NAME)
                 || !argMultimap.getPreamble().isEmpty()) {
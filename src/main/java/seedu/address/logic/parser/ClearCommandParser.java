@@ -10,6 +10,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ClearCommandParser implements Parser<ClearCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_FORCE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ClearCommand
      * and returns a ClearCommand object for execution.
@@ -17,7 +19,7 @@ public class ClearCommandParser implements Parser<ClearCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ClearCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FORCE);
+        ArgumentMultimap argMultimap = TOKENIZER.scan(args);
 
         boolean isForced = argMultimap.getValue(PREFIX_FORCE).isPresent();
 
@@ -17,5 +17,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_DESCRIPTION = new Prefix("desc/");
     public static final Prefix PREFIX_BOOKING = new Prefix("b/");
     public static final Prefix PREFIX_FORCE = new Prefix("f/");
+    public static final Prefix PREFIX_SAVE_EVERY = new Prefix("every/");
 
 }
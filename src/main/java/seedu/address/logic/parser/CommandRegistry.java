@@ -0,0 +1,121 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BackupCommand;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MigrateCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+
+/**
+ * Maps command words (and their aliases) to the {@code Parser} that handles them.
+ * <p>
+ * Registered parsers must be stateless, as a single instance is reused for every command with that word.
+ * New commands are made available to {@code AddressBookParser} by registering them here.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word is already registered: %1$s";
+    public static final String MESSAGE_INVALID_COMMAND_WORD = "Command word must be non-empty and contain no spaces";
+
+    private final Map<String, Parser<?>> parsers = new HashMap<>();
+
+    /**
+     * Returns a registry containing all the commands built into the application.
+     */
+    public static CommandRegistry createDefault() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(BookCommand.COMMAND_WORD, new BookCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, new ClearCommandParser());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(RunCommand.COMMAND_WORD, new RunCommandParser());
+        registry.register(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        registry.register(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        registry.register(BackupCommand.COMMAND_WORD, new BackupCommandParser());
+        registry.register(MigrateCommand.COMMAND_WORD, new MigrateCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, args -> new ListCommand());
+        registry.register(StatsCommand.COMMAND_WORD, args -> new StatsCommand());
+        registry.register(UndoCommand.COMMAND_WORD, args -> new UndoCommand());
+        registry.register(RedoCommand.COMMAND_WORD, args -> new RedoCommand());
+        registry.register(ExitCommand.COMMAND_WORD, args -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, args -> new HelpCommand());
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} under {@code commandWord} and every one of {@code aliases}.
+     *
+     * @throws IllegalArgumentException if any of the words is blank, contains whitespace, is already registered
+     *     or is given more than once.
+     */
+    public void register(String commandWord, Parser<?> parser, String... aliases) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        requireNonNull(aliases);
+
+        String[] words = new String[aliases.length + 1];
+        words[0] = commandWord;
+        System.arraycopy(aliases, 0, words, 1, aliases.length);
+        Set<String> seen = new HashSet<>();
+        for (String word : words) {
+            checkArgument(isValidCommandWord(word), MESSAGE_INVALID_COMMAND_WORD);
+            checkArgument(!parsers.containsKey(word) && seen.add(word),
+                    String.format(MESSAGE_DUPLICATE_COMMAND_WORD, word));
+        }
+        for (String word : words) {
+            parsers.put(word, parser);
+        }
+    }
+
+    /**
+     * Returns the parser registered under {@code commandWord}, if any.
+     */
+    public Optional<Parser<?>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    /**
+     * Returns an unmodifiable view of every registered command word, including aliases.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(parsers.keySet());
+    }
+
+    private static boolean isValidCommandWord(String word) {
+        if (word == null || word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isWhitespace(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -20,6 +20,9 @@ import seedu.address.model.tag.Tag;
  */
 public class DeleteCommandParser implements Parser<DeleteCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_TAG, PREFIX_BOOKING);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
      * and returns a DeleteCommand object for execution.
@@ -27,7 +30,7 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         try {
-            ArgumentMultimap multimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_BOOKING);
+            ArgumentMultimap multimap = TOKENIZER.scan(args);
             String name = multimap.getValue(PREFIX_NAME).orElse("").trim();
             List<String> allTags = multimap.getAllValues(PREFIX_TAG);
 
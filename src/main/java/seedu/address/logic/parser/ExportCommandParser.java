@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.scan(args);
+        String[] formatAndFile = argMultimap.getPreamble().split("\\s+", 2);
+        Optional<ExportCommand.Format> format = ExportCommand.Format.of(formatAndFile[0]);
+        if (format.isEmpty() || formatAndFile.length < 2 || !FileUtil.isValidPath(formatAndFile[1])) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE.toString()));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+        Optional<String> name = argMultimap.getValue(PREFIX_NAME);
+        Name personName = name.isPresent() ? ParserUtil.parseName(name.get()) : null;
+
+        return new ExportCommand(format.get(), Paths.get(formatAndFile[1]), personName);
+    }
+
+}
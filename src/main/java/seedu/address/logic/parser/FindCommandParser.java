@@ -18,6 +18,8 @@ public class FindCommandParser implements Parser<FindCommand> {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_TAG, PREFIX_DATE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * FindCommand and returns a FindCommand object for execution.
@@ -28,7 +30,7 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         assert args != null : "args must not be null";
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_DATE);
+        ArgumentMultimap argMultimap = TOKENIZER.scan(args);
 
         Map<String, List<String>> searchCriteria = new HashMap<>();
 
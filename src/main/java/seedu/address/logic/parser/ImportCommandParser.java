@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.scan(args);
+        String filePath = argMultimap.getPreamble();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE.toString()));
+        }
+
+        // A calendar holds one person's bookings, so it needs a name; a CSV file names its own persons.
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+        Path path = Paths.get(filePath);
+        Optional<String> name = argMultimap.getValue(PREFIX_NAME);
+        if (ImportCommand.isCalendarFile(path) != name.isPresent()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE.toString()));
+        }
+        if (name.isEmpty()) {
+            return new ImportCommand(path);
+        }
+        return new ImportCommand(path, ParserUtil.parseName(name.get()));
+    }
+
+}
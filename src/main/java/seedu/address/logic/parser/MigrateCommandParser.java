@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.MigrateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MigrateCommand object
+ */
+public class MigrateCommandParser implements Parser<MigrateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MigrateCommand
+     * and returns a MigrateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MigrateCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MigrateCommand.MESSAGE_USAGE.toString()));
+        }
+        return new MigrateCommand(Paths.get(filePath));
+    }
+
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SAVE_EVERY;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_SAVE_INTERVAL = "The number of commands between saves ("
+            + PREFIX_SAVE_EVERY + ") must be a positive integer.";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_SAVE_EVERY);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.scan(args);
+        String filePath = argMultimap.getPreamble();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE.toString()));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SAVE_EVERY);
+        Optional<String> saveInterval = argMultimap.getValue(PREFIX_SAVE_EVERY);
+        if (saveInterval.isPresent() && !StringUtil.isNonZeroUnsignedInteger(saveInterval.get())) {
+            throw new ParseException(MESSAGE_INVALID_SAVE_INTERVAL);
+        }
+
+        return new RunCommand(Paths.get(filePath), saveInterval.map(Integer::parseInt).orElse(0));
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -108,6 +109,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an immutable snapshot of the persons in this address book, which may be read from any thread.
+     */
+    public PersonListSnapshot getSnapshot() {
+        return persons.getSnapshot();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
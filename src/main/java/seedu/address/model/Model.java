@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
 
 /**
  * The API of the Model component.
@@ -52,6 +53,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest published snapshot of the persons in the address book.
+     * Unlike {@link #getAddressBook()}, this may be called from any thread.
+     */
+    PersonListSnapshot getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -76,6 +83,29 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Records the changes made to the address book since the last commit as one step that can be undone.
+     * Does nothing if there have been no changes.
+     */
+    void commitAddressBook();
+
+    /** Returns true if there is a committed change to the address book that can be undone. */
+    boolean canUndoAddressBook();
+
+    /** Returns true if there is an undone change to the address book that can be redone. */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the latest committed change.
+     * Changes that have not been committed are committed first.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state after the latest undone change.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
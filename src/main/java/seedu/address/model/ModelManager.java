@@ -12,14 +12,16 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
 
 /**
  * Represents the in-memory model of the address book data.
+ * Changes to the address book and refreshes of the filtered person list are emitted as Flight Recorder events.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
 
@@ -29,9 +31,9 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryBytes());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
     }
@@ -79,7 +81,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        mutate("setAddressBook", () -> this.addressBook.resetData(addressBook));
     }
 
     @Override
@@ -87,6 +89,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public PersonListSnapshot getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -95,20 +102,63 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        mutate("deletePerson", () -> addressBook.removePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        mutate("addPerson", () -> {
+            addressBook.addPerson(person);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        });
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        mutate("setPerson", () -> addressBook.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        mutate("undo", addressBook::undo);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        mutate("redo", addressBook::redo);
+    }
+
+    /**
+     * Runs {@code mutation}, timing it as a {@code ModelMutationEvent} named {@code operation}.
+     * The event costs nothing unless Flight Recorder is recording it.
+     */
+    private void mutate(String operation, Runnable mutation) {
+        ModelMutationEvent event = new ModelMutationEvent();
+        event.begin();
+        mutation.run();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.personCount = addressBook.getPersonList().size();
+            event.commit();
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -125,7 +175,16 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        // The UI's list listens to filteredPersons, so the event also covers updating it.
+        PersonListRefreshEvent event = new PersonListRefreshEvent();
+        event.begin();
         filteredPersons.setPredicate(predicate);
+        event.end();
+        if (event.shouldCommit()) {
+            event.shownPersonCount = filteredPersons.size();
+            event.personCount = addressBook.getPersonList().size();
+            event.commit();
+        }
     }
 
     @Override
@@ -0,0 +1,26 @@
+package seedu.address.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a change to the address book made through {@link ModelManager}.
+ */
+@Name(ModelMutationEvent.NAME)
+@Label("Model Mutation")
+@Category({"FirstImpressions", "Model"})
+@Description("A change to the address book, including updating the filtered person list and the UI showing it")
+class ModelMutationEvent extends Event {
+
+    static final String NAME = "seedu.address.ModelMutation";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Persons")
+    @Description("Number of persons in the address book afterwards")
+    int personCount;
+}
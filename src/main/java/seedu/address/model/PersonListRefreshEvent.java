@@ -0,0 +1,27 @@
+package seedu.address.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for filtering the person list anew, which also updates the UI list showing it.
+ */
+@Name(PersonListRefreshEvent.NAME)
+@Label("Person List Refresh")
+@Category({"FirstImpressions", "Model"})
+@Description("Applying a new filter to the person list, including updating the UI list showing it")
+class PersonListRefreshEvent extends Event {
+
+    static final String NAME = "seedu.address.PersonListRefresh";
+
+    @Label("Shown Persons")
+    @Description("Number of persons in the filtered person list afterwards")
+    int shownPersonCount;
+
+    @Label("Persons")
+    @Description("Number of persons in the address book")
+    int personCount;
+}
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    long getUndoHistoryBytes();
+
+    int getDataFileCompressionLevel();
+
+    long getBackupIntervalMinutes();
+
 }
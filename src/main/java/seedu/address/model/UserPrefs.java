@@ -1,20 +1,27 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.JsonUtil;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_BACKUP_INTERVAL_CONSTRAINTS = "The backup interval cannot be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private long undoHistoryBytes = VersionedAddressBook.DEFAULT_HISTORY_BYTES;
+    private int dataFileCompressionLevel = JsonUtil.DEFAULT_COMPRESSION_LEVEL;
+    private long backupIntervalMinutes = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryBytes(newUserPrefs.getUndoHistoryBytes());
+        setDataFileCompressionLevel(newUserPrefs.getDataFileCompressionLevel());
+        setBackupIntervalMinutes(newUserPrefs.getBackupIntervalMinutes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,44 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getUndoHistoryBytes() {
+        return undoHistoryBytes;
+    }
+
+    /**
+     * Sets the estimated number of bytes the undo history may hold on to. Zero turns undo off.
+     */
+    public void setUndoHistoryBytes(long undoHistoryBytes) {
+        checkArgument(undoHistoryBytes >= 0, VersionedAddressBook.MESSAGE_CONSTRAINTS);
+        this.undoHistoryBytes = undoHistoryBytes;
+    }
+
+    public int getDataFileCompressionLevel() {
+        return dataFileCompressionLevel;
+    }
+
+    /**
+     * Sets how hard a data file whose name ends with {@code .gz} is compressed, from 0 for not at all to 9 for the
+     * smallest file.
+     */
+    public void setDataFileCompressionLevel(int dataFileCompressionLevel) {
+        checkArgument(JsonUtil.isValidCompressionLevel(dataFileCompressionLevel),
+                JsonUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.dataFileCompressionLevel = dataFileCompressionLevel;
+    }
+
+    public long getBackupIntervalMinutes() {
+        return backupIntervalMinutes;
+    }
+
+    /**
+     * Sets how many minutes apart the address book is backed up automatically. Zero turns automatic backups off.
+     */
+    public void setBackupIntervalMinutes(long backupIntervalMinutes) {
+        checkArgument(backupIntervalMinutes >= 0, MESSAGE_BACKUP_INTERVAL_CONSTRAINTS);
+        this.backupIntervalMinutes = backupIntervalMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +117,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryBytes == otherUserPrefs.undoHistoryBytes
+                && dataFileCompressionLevel == otherUserPrefs.dataFileCompressionLevel
+                && backupIntervalMinutes == otherUserPrefs.backupIntervalMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryBytes, dataFileCompressionLevel,
+                backupIntervalMinutes);
     }
 
     @Override
@@ -82,6 +134,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history budget (bytes) : " + undoHistoryBytes);
+        sb.append("\nData file compression level : " + dataFileCompressionLevel);
+        sb.append("\nBackup interval (minutes) : " + backupIntervalMinutes);
         return sb.toString();
     }
 
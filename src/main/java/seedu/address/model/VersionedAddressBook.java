@@ -0,0 +1,163 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.PersonListSnapshot;
+
+/**
+ * An {@code AddressBook} that remembers its committed states so that changes can be undone and redone.
+ * <p>
+ * The history does not hold copies of the address book. Persons are immutable, so each step only records the
+ * contiguous run of persons that the step replaced and the run that replaced it, as a {@link PersonListChange}
+ * between the previous and current {@link PersonListSnapshot}. Undoing or redoing a step swaps the two runs back.
+ * A step therefore costs memory in proportion to what it changed, not to the size of the address book.
+ * <p>
+ * The history is kept within an estimated byte budget; the oldest steps are forgotten first, but the newest
+ * step is kept even if it alone is over the budget. A budget of zero keeps no history at all.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    public static final long DEFAULT_HISTORY_BYTES = 16L * 1024 * 1024;
+    public static final String MESSAGE_CONSTRAINTS = "The undo history budget must not be negative.";
+
+    /** Rough cost of a reference held in the history. */
+    static final long REFERENCE_BYTES = 8;
+    /** Rough cost of a person that may be kept alive only by the history. */
+    static final long PERSON_BYTES = 512;
+    /** Rough fixed cost of a step. */
+    static final long STEP_BYTES = 64;
+
+    private final long historyBudget;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private long historyBytes;
+    private PersonListSnapshot committed;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the data in {@code initialState} as its only committed state,
+     * and a history of at most about {@code historyBudget} bytes.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, long historyBudget) {
+        super(initialState);
+        checkArgument(historyBudget >= 0, MESSAGE_CONSTRAINTS);
+        this.historyBudget = historyBudget;
+        this.committed = getSnapshot();
+    }
+
+    /**
+     * Records the changes made since the last commit as one step in the history, and forgets the steps that had
+     * been undone. Does nothing if there have been no changes.
+     */
+    public void commit() {
+        PersonListSnapshot current = getSnapshot();
+        if (current == committed) {
+            return;
+        }
+        Step step = Step.between(committed, current);
+        committed = current;
+        if (step == null) {
+            return;
+        }
+
+        while (!redoSteps.isEmpty()) {
+            historyBytes -= redoSteps.pop().estimateBytes();
+        }
+        undoSteps.push(step);
+        historyBytes += step.estimateBytes();
+        // Unless undo is turned off, the newest step is kept even if it alone is over budget, so that the last
+        // command can always be undone.
+        int stepsToKeep = historyBudget == 0 ? 0 : 1;
+        while (historyBytes > historyBudget && undoSteps.size() > stepsToKeep) {
+            historyBytes -= undoSteps.removeLast().estimateBytes();
+        }
+    }
+
+    /**
+     * Returns true if there is a committed step that can be undone.
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Restores the address book to the state before the latest step.
+     * Changes that have not been committed yet are committed first, so they are what gets undone.
+     */
+    public void undo() {
+        commit();
+        checkArgument(canUndo(), "There is nothing to undo.");
+        Step step = undoSteps.pop();
+        restore(step.revert(getSnapshot().getPersons()));
+        redoSteps.push(step);
+    }
+
+    /**
+     * Restores the address book to the state after the latest undone step.
+     */
+    public void redo() {
+        checkArgument(canRedo(), "There is nothing to redo.");
+        Step step = redoSteps.pop();
+        restore(step.apply(getSnapshot().getPersons()));
+        undoSteps.push(step);
+    }
+
+    /**
+     * Returns the estimated number of bytes the history currently holds on to.
+     */
+    public long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    private void restore(List<Person> persons) {
+        setPersons(persons);
+        committed = getSnapshot();
+    }
+
+    /**
+     * One step in the history: a committed change, and a rough estimate of the memory it keeps alive.
+     */
+    private static class Step {
+        private final PersonListChange change;
+
+        private Step(PersonListChange change) {
+            this.change = change;
+        }
+
+        /**
+         * Returns the step that turns {@code previous} into {@code next}, or null if they hold the same persons.
+         * A step of a single edit is taken from {@code next} as it is, without comparing the lists.
+         */
+        static Step between(PersonListSnapshot previous, PersonListSnapshot next) {
+            PersonListChange change = next.getChangeFrom(previous)
+                    .orElseGet(() -> PersonListChange.between(previous.getPersons(), next.getPersons()));
+            return change == null ? null : new Step(change);
+        }
+
+        List<Person> apply(List<Person> persons) {
+            return change.apply(persons);
+        }
+
+        List<Person> revert(List<Person> persons) {
+            return change.revert(persons);
+        }
+
+        /**
+         * Returns a rough estimate of the memory this step keeps alive. Persons on either side of the step may be
+         * referenced by nothing else, so each is counted in full.
+         */
+        long estimateBytes() {
+            return STEP_BYTES + (REFERENCE_BYTES + PERSON_BYTES)
+                    * (change.getBefore().size() + change.getAfter().size());
+        }
+    }
+}
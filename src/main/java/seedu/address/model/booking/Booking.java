@@ -3,6 +3,7 @@ package seedu.address.model.booking;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -26,6 +27,9 @@ public class Booking {
             + "Examples: 'John Doe', 'Mary-Jane O'Brien', 'Ahmad S/O Rahman'";
     public static final String MESSAGE_CONSTRAINTS_DESCRIPTION =
             "Booking description must be between 1 and 500 characters long.";
+    public static final String MESSAGE_CONSTRAINTS_EVENT_UID =
+            "A booking's calendar event UID must not be blank or span more than one line.";
+    public static final String DEFAULT_DESCRIPTION = "No description provided";
 
     public static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
             .withResolverStyle(ResolverStyle.STRICT);
@@ -36,6 +40,7 @@ public class Booking {
     private final String clientName;
     private final LocalDateTime datetime;
     private final String description;
+    private final String eventUid;
 
     /**
      * Constructs a {@code Booking}.
@@ -45,16 +50,47 @@ public class Booking {
      * @param description Description of the booking.
      */
     public Booking(String clientName, LocalDateTime datetime, String description) {
+        this(clientName, datetime, description, null);
+    }
+
+    /**
+     * Constructs a {@code Booking} that was imported from a calendar event.
+     *
+     * @param clientName Client name for the booking.
+     * @param datetime DateTime of the booking.
+     * @param description Description of the booking.
+     * @param eventUid UID of the calendar event the booking was imported from, or null if it was not imported.
+     */
+    public Booking(String clientName, LocalDateTime datetime, String description, String eventUid) {
+        this(clientName, datetime, description, eventUid, false);
+    }
+
+    private Booking(String clientName, LocalDateTime datetime, String description, String eventUid,
+            boolean isTrusted) {
         requireNonNull(clientName);
         requireNonNull(datetime);
         requireNonNull(description);
 
-        checkArgument(isValidClientName(clientName), MESSAGE_CONSTRAINTS_CLIENT);
-        checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS_DESCRIPTION);
-
-        this.clientName = clientName.trim().replaceAll("\\s+", " "); // Normalize spaces
+        if (isTrusted) {
+            this.clientName = clientName;
+            this.description = description;
+        } else {
+            checkArgument(isValidClientName(clientName), MESSAGE_CONSTRAINTS_CLIENT);
+            checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS_DESCRIPTION);
+            checkArgument(eventUid == null || isValidEventUid(eventUid), MESSAGE_CONSTRAINTS_EVENT_UID);
+            this.clientName = clientName.trim().replaceAll("\\s+", " "); // Normalize spaces
+            this.description = description.trim();
+        }
         this.datetime = datetime;
-        this.description = description.trim();
+        this.eventUid = eventUid;
+    }
+
+    /**
+     * Returns a {@code Booking} without checking or normalizing its fields, which must already be known to be
+     * valid and normalized, such as those of a booking read back from a data file that this app wrote.
+     */
+    public static Booking ofTrusted(String clientName, LocalDateTime datetime, String description, String eventUid) {
+        return new Booking(clientName, datetime, description, eventUid, true);
     }
 
     /**
@@ -86,6 +122,13 @@ public class Booking {
         return trimmed.length() >= 1 && trimmed.length() <= 500;
     }
 
+    /**
+     * Returns true if the given string is a valid calendar event UID.
+     */
+    public static boolean isValidEventUid(String test) {
+        return test != null && !test.isBlank() && test.indexOf('\n') == -1 && test.indexOf('\r') == -1;
+    }
+
     /**
      * Parses a datetime string in the format YYYY-MM-DD HH:MM.
      * Returns null if parsing fails.
@@ -98,6 +141,25 @@ public class Booking {
         }
     }
 
+    /**
+     * Parses a datetime string that {@link #DATETIME_FORMATTER} wrote, reading its fields at their fixed positions
+     * instead of going through the formatter. Falls back to {@link #parseDateTime(String)} if it is not in the
+     * fixed-width form. Returns null if parsing fails.
+     */
+    public static LocalDateTime parseTrustedDateTime(String datetimeStr) {
+        if (datetimeStr.length() != 16 || datetimeStr.charAt(4) != '-' || datetimeStr.charAt(7) != '-'
+                || datetimeStr.charAt(10) != ' ' || datetimeStr.charAt(13) != ':') {
+            return parseDateTime(datetimeStr);
+        }
+        try {
+            return LocalDateTime.of(Integer.parseInt(datetimeStr, 0, 4, 10),
+                    Integer.parseInt(datetimeStr, 5, 7, 10), Integer.parseInt(datetimeStr, 8, 10, 10),
+                    Integer.parseInt(datetimeStr, 11, 13, 10), Integer.parseInt(datetimeStr, 14, 16, 10));
+        } catch (NumberFormatException | DateTimeException e) {
+            return parseDateTime(datetimeStr);
+        }
+    }
+
     /**
      * Validates a datetime string and returns a specific error message if invalid.
      * Returns null if the datetime string is valid.
@@ -182,6 +244,13 @@ public class Booking {
         return description;
     }
 
+    /**
+     * Returns the UID of the calendar event this booking was imported from, or null if it was not imported.
+     */
+    public String getEventUid() {
+        return eventUid;
+    }
+
     public String getDateTimeString() {
         return datetime.format(DATETIME_FORMATTER);
     }
@@ -206,12 +275,23 @@ public class Booking {
         Booking otherBooking = (Booking) other;
         return clientName.equals(otherBooking.clientName)
                 && datetime.equals(otherBooking.datetime)
-                && description.equals(otherBooking.description);
+                && description.equals(otherBooking.description)
+                && Objects.equals(eventUid, otherBooking.eventUid);
+    }
+
+    /**
+     * Returns true if both bookings are for the same client at the same time with the same description,
+     * whichever calendar events they came from.
+     */
+    public boolean hasSameDetails(Booking other) {
+        return clientName.equals(other.clientName)
+                && datetime.equals(other.datetime)
+                && description.equals(other.description);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(clientName, datetime, description);
+        return Objects.hash(clientName, datetime, description, eventUid);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -13,9 +14,18 @@ import java.util.function.Predicate;
 public class ClientContainsKeywordsPredicate implements Predicate<Person> {
 
     private final Map<String, List<String>> searchCriteria;
+    /** {@code searchCriteria} with its name and tag keywords in lower case, to match {@link PersonSearchKeys}. */
+    private final Map<String, List<String>> matchCriteria;
 
+    /**
+     * Creates a predicate that matches persons meeting any of {@code searchCriteria}.
+     */
     public ClientContainsKeywordsPredicate(Map<String, List<String>> searchCriteria) {
         this.searchCriteria = searchCriteria;
+        this.matchCriteria = new LinkedHashMap<>();
+        searchCriteria.forEach((fieldType, keywords) -> matchCriteria.put(fieldType, fieldType.equals("date")
+                ? keywords
+                : keywords.stream().map(String::toLowerCase).toList()));
     }
 
     @Override
@@ -26,7 +36,8 @@ public class ClientContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         // Otherwise, check each field
-        return searchCriteria.entrySet().stream().anyMatch(entry -> {
+        PersonSearchKeys keys = person.getSearchKeys();
+        return matchCriteria.entrySet().stream().anyMatch(entry -> {
             String fieldType = entry.getKey();
             List<String> keywords = entry.getValue();
 
@@ -36,29 +47,25 @@ public class ClientContainsKeywordsPredicate implements Predicate<Person> {
             }
 
             return switch (fieldType) {
-            case "name" -> matchesName(person, keywords);
-            case "tag" -> matchesTag(person, keywords);
-            case "date" -> matchesDate(person, keywords);
+            case "name" -> matchesName(keys, keywords);
+            case "tag" -> matchesTag(keys, keywords);
+            case "date" -> matchesDate(keys, keywords);
             default -> false;
             };
         });
     }
 
-    private boolean matchesName(Person person, List<String> keywords) {
-        String fullName = person.getName().fullName.toLowerCase();
-        return keywords.stream().map(String::toLowerCase).anyMatch(fullName::contains);
+    private boolean matchesName(PersonSearchKeys keys, List<String> keywords) {
+        return keywords.stream().anyMatch(keys.getName()::contains);
     }
 
-    private boolean matchesTag(Person person, List<String> keywords) {
-        return keywords.stream().map(String::toLowerCase).anyMatch(kw -> person.getTags().stream()
-                                        .map(tag -> tag.tagName.toLowerCase()).anyMatch(tag -> tag.contains(kw)));
+    private boolean matchesTag(PersonSearchKeys keys, List<String> keywords) {
+        return keywords.stream().anyMatch(kw -> keys.getTags().stream().anyMatch(tag -> tag.contains(kw)));
     }
 
-    private boolean matchesDate(Person person, List<String> keywords) {
-        return keywords.stream().anyMatch(dateStr -> person.getBookings().stream().anyMatch(booking -> {
-            String bookingDate = booking.getDateTime().toLocalDate().toString();
-            return bookingDate.contains(dateStr);
-        }));
+    private boolean matchesDate(PersonSearchKeys keys, List<String> keywords) {
+        return keywords.stream().anyMatch(dateStr -> keys.getBookingDates().stream()
+                .anyMatch(bookingDate -> bookingDate.contains(dateStr)));
     }
 
     @Override
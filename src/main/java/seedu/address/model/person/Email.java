@@ -38,11 +38,26 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isTrusted) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} without checking {@code email}, which must already be known to be valid.
+     *
+     * @see Name#ofTrusted(String)
+     */
+    public static Email ofTrusted(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -31,12 +31,26 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        checkArgument(name.length() <= MAX_NAME_LENGTH, MESSAGE_LENGTH_CONSTRAINT);
+        if (!isTrusted) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+            checkArgument(name.length() <= MAX_NAME_LENGTH, MESSAGE_LENGTH_CONSTRAINT);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} without checking {@code name}, which must already be known to be valid,
+     * such as a name read back from a data file that this app wrote.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -0,0 +1,278 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable sorted map that shares structure with the maps it was derived from.
+ * <p>
+ * The entries are kept in an AVL tree whose nodes are never modified. {@link #put} and {@link #remove} copy only
+ * the O(log n) nodes on the path to the changed entry and reuse every other node, so deriving a map is cheap in both
+ * time and memory, and the original map can still be read by other threads. Each node also counts the entries
+ * below it, so an entry can be looked up by its position in key order, and the position of a key found, in
+ * O(log n) as well.
+ */
+final class PersistentTreeMap<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private PersistentTreeMap(Comparator<? super K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map ordered by {@code comparator}.
+     */
+    static <K, V> PersistentTreeMap<K, V> empty(Comparator<? super K> comparator) {
+        requireNonNull(comparator);
+        return new PersistentTreeMap<>(comparator, null);
+    }
+
+    /**
+     * Returns a map with the same order as this one, of {@code keys} to the {@code values} at the same positions
+     * and nothing else, built in O(n). {@code keys} must be distinct and already in order.
+     */
+    PersistentTreeMap<K, V> withSorted(List<K> keys, List<V> values) {
+        assert keys.size() == values.size();
+        return new PersistentTreeMap<>(comparator, build(keys, values, 0, keys.size()));
+    }
+
+    private static <K, V> Node<K, V> build(List<K> keys, List<V> values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(keys.get(middle), values.get(middle),
+                build(keys, values, from, middle), build(keys, values, middle + 1, to));
+    }
+
+    Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if there is none.
+     */
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(key, node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position of {@code key} in key order, or -1 if it is not in the map.
+     */
+    int indexOf(K key) {
+        int index = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(key, node.key);
+            if (comparison == 0) {
+                return index + sizeOf(node.left);
+            } else if (comparison < 0) {
+                node = node.left;
+            } else {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the key at {@code index} in key order.
+     */
+    K keyAt(int index) {
+        return nodeAt(index).key;
+    }
+
+    /**
+     * Returns the value of the key at {@code index} in key order.
+     */
+    V valueAt(int index) {
+        return nodeAt(index).value;
+    }
+
+    private Node<K, V> nodeAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<K, V> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index == leftSize) {
+                return node;
+            } else if (index < leftSize) {
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, replacing any value it had.
+     */
+    PersistentTreeMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        return new PersistentTreeMap<>(comparator, put(root, key, value));
+    }
+
+    private Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int comparison = comparator.compare(key, node.key);
+        if (comparison == 0) {
+            return new Node<>(key, value, node.left, node.right);
+        } else if (comparison < 0) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        }
+        return balance(node.key, node.value, node.left, put(node.right, key, value));
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not have {@code key}.
+     */
+    PersistentTreeMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> next = remove(root, key);
+        return next == root ? this : new PersistentTreeMap<>(comparator, next);
+    }
+
+    private Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns the values in key order. The iterator takes O(n) time over the whole map.
+     */
+    Iterator<V> valueIterator() {
+        return new Iterator<>() {
+            private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+            {
+                pushLeft(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public V next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<K, V> node = path.pop();
+                pushLeft(node.right);
+                return node.value;
+            }
+
+            private void pushLeft(Node<K, V> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private static int sizeOf(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns a node for {@code key} over {@code left} and {@code right}, rotated so that their heights differ by
+     * at most one. The subtrees must already be balanced, and differ in height by at most two.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int difference = heightOf(left) - heightOf(right);
+        if (difference > 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            return new Node<>(left.right.key, left.right.value,
+                    new Node<>(left.key, left.value, left.left, left.right.left),
+                    new Node<>(key, value, left.right.right, right));
+        } else if (difference < -1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.key, right.left.value,
+                    new Node<>(key, value, left, right.left.left),
+                    new Node<>(right.key, right.value, right.left.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    /**
+     * A node of the tree. Never modified once created.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+}
@@ -31,6 +31,9 @@ public class Person {
     private final Set<Tag> tags = new HashSet<>();
     private final List<Booking> bookings = new ArrayList<>();
 
+    /** Computed on first use; computing it twice from two threads is harmless. */
+    private volatile PersonSearchKeys searchKeys;
+
     /**
      * Name must be present. Phone and Email are optional (can be null).
      */
@@ -84,6 +87,18 @@ public class Person {
         return Collections.unmodifiableList(bookings);
     }
 
+    /**
+     * Returns the forms of this person's fields that {@code find} matches against.
+     */
+    public PersonSearchKeys getSearchKeys() {
+        PersonSearchKeys keys = searchKeys;
+        if (keys == null) {
+            keys = new PersonSearchKeys(this);
+            searchKeys = keys;
+        }
+        return keys;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
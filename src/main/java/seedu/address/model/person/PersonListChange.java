@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A change to a list of persons: the persons from {@code start} onwards in the old list, {@code before}, were
+ * replaced by those in the new list, {@code after}.
+ * <p>
+ * Persons are immutable, so the change between two lists is found by comparing references: everything before
+ * {@code start} and after the replaced run is the same object in both lists. Any edit, addition, deletion or
+ * reordering is a single change, and it costs memory in proportion to what changed, not to the size of the list.
+ */
+public final class PersonListChange {
+
+    private final int start;
+    private final List<Person> before;
+    private final List<Person> after;
+
+    /**
+     * Creates a change that replaces {@code before}, found from {@code start} onwards, with {@code after}.
+     */
+    public PersonListChange(int start, List<Person> before, List<Person> after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        checkArgument(start >= 0, "A change cannot start before the list does.");
+        this.start = start;
+        this.before = List.copyOf(before);
+        this.after = List.copyOf(after);
+    }
+
+    /**
+     * Returns the change that turns {@code previous} into {@code next}, or null if they hold the same persons.
+     */
+    public static PersonListChange between(List<Person> previous, List<Person> next) {
+        requireNonNull(previous);
+        requireNonNull(next);
+        // The lists are compared position by position, which is slow on lists such as those of snapshots.
+        if (!(previous instanceof RandomAccess)) {
+            previous = new ArrayList<>(previous);
+        }
+        if (!(next instanceof RandomAccess)) {
+            next = new ArrayList<>(next);
+        }
+        int prefix = 0;
+        int maxPrefix = Math.min(previous.size(), next.size());
+        while (prefix < maxPrefix && previous.get(prefix) == next.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && previous.get(previous.size() - 1 - suffix) == next.get(next.size() - 1 - suffix)) {
+            suffix++;
+        }
+        if (prefix == previous.size() && prefix == next.size()) {
+            return null;
+        }
+        return new PersonListChange(prefix,
+                previous.subList(prefix, previous.size() - suffix),
+                next.subList(prefix, next.size() - suffix));
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public List<Person> getBefore() {
+        return before;
+    }
+
+    public List<Person> getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns {@code persons} with this change made to it.
+     */
+    public List<Person> apply(List<Person> persons) {
+        return splice(persons, before.size(), after);
+    }
+
+    /**
+     * Returns {@code persons} with this change undone.
+     */
+    public List<Person> revert(List<Person> persons) {
+        return splice(persons, after.size(), before);
+    }
+
+    private List<Person> splice(List<Person> persons, int removedCount, List<Person> inserted) {
+        checkArgument(start + removedCount <= persons.size(), "The change does not fit the list.");
+        List<Person> result = new ArrayList<>(persons.size() - removedCount + inserted.size());
+        result.addAll(persons.subList(0, start));
+        result.addAll(inserted);
+        result.addAll(persons.subList(start + removedCount, persons.size()));
+        return result;
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The changes that someone else made to a list of persons, merged with the changes made here.
+ * <p>
+ * Persons are matched by identity, that is by name, across three lists: {@code base}, the list both sides started
+ * from; {@code theirs}, the list the other side ended up with; and {@code ours}, the list here. A person the other
+ * side added, removed or edited is an {@link Update} to make here, unless it was also changed here, to something
+ * else, in which case it is a conflict and the person here is left as it is.
+ */
+public final class PersonListMerge {
+
+    private final List<Update> updates;
+    private final List<Update> conflicts;
+
+    private PersonListMerge(List<Update> updates, List<Update> conflicts) {
+        this.updates = List.copyOf(updates);
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    /**
+     * Returns the merge of the changes from {@code base} to {@code theirs} into {@code ours}.
+     */
+    public static PersonListMerge of(List<Person> base, List<Person> theirs, List<Person> ours) {
+        requireNonNull(base);
+        requireNonNull(theirs);
+        requireNonNull(ours);
+        Map<Name, Person> basePersons = byName(base);
+        Map<Name, Person> theirPersons = byName(theirs);
+        Map<Name, Person> ourPersons = byName(ours);
+
+        List<Update> updates = new ArrayList<>();
+        List<Update> conflicts = new ArrayList<>();
+        // Removals and edits in the order of the base list, then additions in the order of theirs.
+        for (Person basePerson : base) {
+            merge(basePerson, theirPersons.get(basePerson.getName()), ourPersons.get(basePerson.getName()),
+                    updates, conflicts);
+        }
+        for (Person theirPerson : theirs) {
+            if (!basePersons.containsKey(theirPerson.getName())) {
+                merge(null, theirPerson, ourPersons.get(theirPerson.getName()), updates, conflicts);
+            }
+        }
+        return new PersonListMerge(updates, conflicts);
+    }
+
+    private static void merge(Person basePerson, Person theirPerson, Person ourPerson, List<Update> updates,
+            List<Update> conflicts) {
+        if (Objects.equals(basePerson, theirPerson) || Objects.equals(ourPerson, theirPerson)) {
+            return; // not changed by them, or changed the same way here
+        }
+        if (Objects.equals(ourPerson, basePerson)) {
+            updates.add(new Update(ourPerson, theirPerson));
+        } else {
+            conflicts.add(new Update(ourPerson, theirPerson));
+        }
+    }
+
+    private static Map<Name, Person> byName(List<Person> persons) {
+        Map<Name, Person> map = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            map.put(person.getName(), person);
+        }
+        return map;
+    }
+
+    /**
+     * Returns the updates to make here, removals and edits first and then additions.
+     */
+    public List<Update> getUpdates() {
+        return updates;
+    }
+
+    /**
+     * Returns the persons that were changed differently on both sides, with the person here as the target and the
+     * other side's person as the edited person.
+     */
+    public List<Update> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * A person to replace with another: an addition if there is no target, or a removal if there is no edited
+     * person.
+     */
+    public static final class Update {
+        private final Person target;
+        private final Person editedPerson;
+
+        Update(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        public Person getTarget() {
+            return target;
+        }
+
+        public Person getEditedPerson() {
+            return editedPerson;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Update)) {
+                return false;
+            }
+
+            Update otherUpdate = (Update) other;
+            return Objects.equals(target, otherUpdate.target)
+                    && Objects.equals(editedPerson, otherUpdate.editedPerson);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, editedPerson);
+        }
+
+        @Override
+        public String toString() {
+            return target + " -> " + editedPerson;
+        }
+    }
+}
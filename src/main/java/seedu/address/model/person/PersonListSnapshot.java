@@ -0,0 +1,225 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable, versioned view of the persons in a {@code UniquePersonList} at one point in time.
+ * <p>
+ * Snapshots are never modified once published, so any thread may read one without locking and will always see a
+ * consistent list and name index, however the list has changed since. Each change to a {@code UniquePersonList}
+ * publishes a new snapshot with a higher version.
+ * <p>
+ * A snapshot shares almost all of its structure with the one it was derived from. Every person is given a sequence
+ * number when added, and the persons are kept in a {@link PersistentTreeMap} ordered by sequence number, which is
+ * list order, alongside one from name to sequence number. Adding, replacing or removing a person copies only the
+ * O(log n) tree nodes on the way to it, so a single edit costs O(log n) time and memory however long the list is.
+ * A snapshot derived by a single edit also remembers that edit as a {@link PersonListChange}, so that those
+ * following the list need not compare whole lists to find it.
+ */
+public final class PersonListSnapshot {
+
+    public static final PersonListSnapshot EMPTY = new PersonListSnapshot(null, 0,
+            PersistentTreeMap.empty(Comparator.naturalOrder()),
+            PersistentTreeMap.empty(Comparator.comparing(name -> name.fullName)), 0, null);
+
+    /** Stands for this snapshot in those derived from it, so that they can recognise it without keeping it alive. */
+    private final Object identity = new Object();
+    private final Object parentIdentity;
+    private final long version;
+    private final PersistentTreeMap<Long, Person> personsBySequence;
+    private final PersistentTreeMap<Name, Long> sequenceByName;
+    private final long nextSequence;
+    /** The change from the snapshot with the previous version, if this snapshot was derived by a single edit. */
+    private final PersonListChange change;
+    private final List<Person> personList;
+
+    private PersonListSnapshot(Object parentIdentity, long version, PersistentTreeMap<Long, Person> personsBySequence,
+            PersistentTreeMap<Name, Long> sequenceByName, long nextSequence, PersonListChange change) {
+        this.parentIdentity = parentIdentity;
+        this.version = version;
+        this.personsBySequence = personsBySequence;
+        this.sequenceByName = sequenceByName;
+        this.nextSequence = nextSequence;
+        this.change = change;
+        this.personList = new PersonList(personsBySequence);
+    }
+
+    /**
+     * Returns the version of this snapshot. Later snapshots of the same list have higher versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons in this snapshot, in list order, as an unmodifiable list.
+     * Looking up a person by position takes O(log n) time; iterating over the whole list takes O(n).
+     */
+    public List<Person> getPersons() {
+        return personList;
+    }
+
+    public int size() {
+        return personsBySequence.size();
+    }
+
+    /**
+     * Returns true if this snapshot has a person with the same identity as {@code person}.
+     *
+     * @see Person#isSamePerson(Person)
+     */
+    public boolean contains(Person person) {
+        requireNonNull(person);
+        return sequenceByName.get(person.getName()) != null;
+    }
+
+    /**
+     * Returns the person with the given {@code name}, if any.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        Long sequence = sequenceByName.get(name);
+        return sequence == null ? Optional.empty() : Optional.of(personsBySequence.get(sequence));
+    }
+
+    /**
+     * Returns the position of a person equal to {@code person}, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Long sequence = sequenceByName.get(person.getName());
+        if (sequence == null || !personsBySequence.get(sequence).equals(person)) {
+            return -1;
+        }
+        return personsBySequence.indexOf(sequence);
+    }
+
+    /**
+     * Returns the change that turns {@code previous} into this snapshot, if this snapshot was derived from
+     * {@code previous} by a single add, replace or remove. Otherwise the change has to be found by comparing the
+     * two lists, with {@link PersonListChange#between(List, List)}.
+     */
+    public Optional<PersonListChange> getChangeFrom(PersonListSnapshot previous) {
+        requireNonNull(previous);
+        return change != null && parentIdentity == previous.identity ? Optional.of(change) : Optional.empty();
+    }
+
+    //// derived snapshots; callers are responsible for keeping persons unique
+
+    PersonListSnapshot withAdded(Person person) {
+        Long sequence = nextSequence;
+        return new PersonListSnapshot(identity, version + 1, personsBySequence.put(sequence, person),
+                sequenceByName.put(person.getName(), sequence), nextSequence + 1,
+                new PersonListChange(size(), List.of(), List.of(person)));
+    }
+
+    PersonListSnapshot withReplaced(int index, Person person) {
+        Long sequence = personsBySequence.keyAt(index);
+        Person replaced = personsBySequence.valueAt(index);
+        PersistentTreeMap<Name, Long> nextSequenceByName = replaced.getName().equals(person.getName())
+                ? sequenceByName
+                : sequenceByName.remove(replaced.getName()).put(person.getName(), sequence);
+        return new PersonListSnapshot(identity, version + 1, personsBySequence.put(sequence, person),
+                nextSequenceByName, nextSequence, new PersonListChange(index, List.of(replaced), List.of(person)));
+    }
+
+    PersonListSnapshot withRemoved(int index) {
+        Long sequence = personsBySequence.keyAt(index);
+        Person removed = personsBySequence.valueAt(index);
+        return new PersonListSnapshot(identity, version + 1, personsBySequence.remove(sequence),
+                sequenceByName.remove(removed.getName()), nextSequence,
+                new PersonListChange(index, List.of(removed), List.of()));
+    }
+
+    PersonListSnapshot withAll(List<Person> replacement) {
+        List<Person> persons = new ArrayList<>(replacement);
+        List<Long> sequences = new ArrayList<>(persons.size());
+        for (long sequence = 0; sequence < persons.size(); sequence++) {
+            sequences.add(sequence);
+        }
+        List<Long> sequencesInNameOrder = new ArrayList<>(sequences);
+        sequencesInNameOrder.sort(Comparator.comparing(sequence -> persons.get(sequence.intValue()).getName(),
+                sequenceByName.comparator()));
+        List<Name> names = new ArrayList<>(persons.size());
+        for (Long sequence : sequencesInNameOrder) {
+            names.add(persons.get(sequence.intValue()).getName());
+        }
+        return new PersonListSnapshot(identity, version + 1,
+                personsBySequence.withSorted(sequences, persons),
+                sequenceByName.withSorted(names, sequencesInNameOrder), persons.size(), null);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonListSnapshot)) {
+            return false;
+        }
+
+        // the version is deliberately left out: two snapshots with the same persons are equal
+        PersonListSnapshot otherSnapshot = (PersonListSnapshot) other;
+        if (size() != otherSnapshot.size()) {
+            return false;
+        }
+        Iterator<Person> otherPersons = otherSnapshot.personList.iterator();
+        for (Person person : personList) {
+            if (!person.equals(otherPersons.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return personList.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", personList)
+                .toString();
+    }
+
+    /**
+     * The persons of a snapshot as an unmodifiable list. Iterating walks the tree in order instead of looking up
+     * each position.
+     */
+    private static final class PersonList extends AbstractList<Person> {
+        private final PersistentTreeMap<Long, Person> personsBySequence;
+
+        PersonList(PersistentTreeMap<Long, Person> personsBySequence) {
+            this.personsBySequence = personsBySequence;
+        }
+
+        @Override
+        public Person get(int index) {
+            return personsBySequence.valueAt(index);
+        }
+
+        @Override
+        public int size() {
+            return personsBySequence.size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return personsBySequence.valueIterator();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The forms of a person's fields that {@code find} matches keywords against: the name and tags in lower case, and
+ * the dates of the bookings. They are computed once per person, by {@link Person#getSearchKeys()}, instead of on
+ * every search.
+ */
+public final class PersonSearchKeys {
+
+    private final String name;
+    private final List<String> tags;
+    private final List<String> bookingDates;
+
+    PersonSearchKeys(Person person) {
+        requireNonNull(person);
+        name = person.getName().fullName.toLowerCase();
+        tags = person.getTags().stream().map(tag -> tag.tagName.toLowerCase()).toList();
+        bookingDates = person.getBookings().stream()
+                .map(booking -> booking.getDateTime().toLocalDate().toString()).toList();
+    }
+
+    /**
+     * Returns the person's name in lower case.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the names of the person's {@link Tag}s in lower case.
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the dates of the person's {@link Booking}s, as {@code yyyy-MM-dd}.
+     */
+    public List<String> getBookingDates() {
+        return bookingDates;
+    }
+}
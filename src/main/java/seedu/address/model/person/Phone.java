@@ -23,11 +23,26 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isTrusted) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} without checking {@code phone}, which must already be known to be valid.
+     *
+     * @see Name#ofTrusted(String)
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,6 +19,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * persons uses Person#isSamePerson(Person) for equality so as to ensure that the person being added or updated is
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
+ * <p>
+ * The contents are held in an immutable {@link PersonListSnapshot}. Every change builds a new snapshot and publishes
+ * it, so {@link #getSnapshot()} can be called from any thread without locking. Changes themselves are serialized and
+ * must be made on the thread that owns the {@code ObservableList} view, which is updated from the difference between
+ * the old and new snapshots after each change.
  *
  * Supports a minimal set of list operations.
  *
@@ -28,24 +35,26 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private volatile PersonListSnapshot snapshot = PersonListSnapshot.EMPTY;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return snapshot.contains(toCheck);
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
-    public void add(Person toAdd) {
+    public synchronized void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        publish(snapshot.withAdded(toAdd));
     }
 
     /**
@@ -53,10 +62,10 @@ public class UniquePersonList implements Iterable<Person> {
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public synchronized void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = snapshot.indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,36 +74,45 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        publish(snapshot.withReplaced(index, editedPerson));
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public synchronized void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = snapshot.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        publish(snapshot.withRemoved(index));
     }
 
-    public void setPersons(UniquePersonList replacement) {
+    public synchronized void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        publish(snapshot.withAll(replacement.snapshot.getPersons()));
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
      */
-    public void setPersons(List<Person> persons) {
+    public synchronized void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
         if (!personsAreUnique(persons)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        publish(snapshot.withAll(persons));
+    }
+
+    /**
+     * Returns the current contents of the list. The snapshot never changes, and may be read from any thread.
+     */
+    public PersonListSnapshot getSnapshot() {
+        return snapshot;
     }
 
     /**
@@ -106,7 +124,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return snapshot.getPersons().iterator();
     }
 
     @Override
@@ -121,28 +139,63 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return snapshot.equals(otherUniquePersonList.snapshot);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return snapshot.getPersons().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return snapshot.getPersons().toString();
+    }
+
+    /**
+     * Makes {@code next} the current snapshot and brings the {@code ObservableList} view up to date with it.
+     * Listeners see a single add, remove or replace for single-person edits.
+     */
+    private void publish(PersonListSnapshot next) {
+        PersonListSnapshot previous = snapshot;
+        snapshot = next;
+        // Single edits carry their change; only bulk replacements need the lists compared.
+        PersonListChange change = next.getChangeFrom(previous)
+                .orElseGet(() -> PersonListChange.between(previous.getPersons(), next.getPersons()));
+        if (change != null) {
+            applyChange(change);
+        }
+    }
+
+    /**
+     * Makes {@code change} to {@code internalList}.
+     */
+    private void applyChange(PersonListChange change) {
+        int start = change.getStart();
+        List<Person> removed = change.getBefore();
+        List<Person> added = change.getAfter();
+        if (removed.size() == 1 && added.size() == 1) {
+            internalList.set(start, added.get(0));
+        } else if (start == 0 && removed.size() == internalList.size()) {
+            internalList.setAll(added);
+        } else {
+            if (!removed.isEmpty()) {
+                internalList.remove(start, start + removed.size());
+            }
+            if (!added.isEmpty()) {
+                internalList.addAll(start, added);
+            }
+        }
     }
 
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
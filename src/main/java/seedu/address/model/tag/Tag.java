@@ -22,11 +22,26 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    private Tag(String tagName, boolean isTrusted) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), "Tag contains invalid characters: " + tagName);
+        if (!isTrusted) {
+            checkArgument(isValidTagName(tagName), "Tag contains invalid characters: " + tagName);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} without checking {@code tagName}, which must already be known to be valid.
+     *
+     * @see seedu.address.model.person.Name#ofTrusted(String)
+     */
+    public static Tag ofTrusted(String tagName) {
+        return new Tag(tagName, true);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,277 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of any size, for reproducing problems that only show at scale, and for tests and
+ * benchmarks. The same seed and settings always give the same address book.
+ * <p>
+ * Tags and clients are drawn from fixed pools with a Zipf distribution, so that a few are very common and most
+ * are rare, as in real data. Bookings fall on weekdays in office hours, spread evenly over a range of dates, and
+ * a person never has two bookings at the same time.
+ */
+public class SampleDataGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+    public static final int DEFAULT_PERSON_COUNT = 1000;
+    public static final int DEFAULT_TAG_COUNT = 20;
+    public static final int DEFAULT_MAX_TAGS_PER_PERSON = 3;
+    public static final double DEFAULT_TAG_SKEW = 1.0;
+    public static final int DEFAULT_BOOKINGS_PER_PERSON = 3;
+    public static final int DEFAULT_CLIENT_COUNT = 200;
+    public static final double DEFAULT_CLIENT_SKEW = 1.0;
+    public static final LocalDate DEFAULT_FIRST_BOOKING_DATE = LocalDate.of(2026, 1, 5);
+    public static final int DEFAULT_BOOKING_DAYS = 365;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Amy",
+        "Bob", "Carl", "Daniel", "Elle", "Fiona", "George", "Hannah", "Ian", "Jasmine", "Kumar", "Li Ting", "Marcus",
+        "Nur", "Oliver", "Priya", "Qi Xuan", "Rachel", "Samuel", "Tanya", "Umar", "Vanessa", "Wei Jie", "Xavier",
+        "Yvonne", "Zach"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ong", "Goh", "Ng", "Chua", "Koh", "Teo", "Wong", "Lee", "Chen", "Rahman", "Nair", "Pereira", "Singh",
+        "Kurz", "Meier", "Best", "Kunz", "Pauline", "Fernandez", "Ho", "Sim", "Low", "Chan", "Abdullah"};
+    private static final String[] TAG_NAMES = {"alphaTeam", "betaTeam", "teamLead", "vipHandler", "greyCorpPOC",
+        "nightShift", "weekend", "trainee", "senior", "colour", "cut", "spa", "nails", "bridal", "mandarin",
+        "malay", "tamil", "partTime", "remote", "mentor"};
+    private static final String[] CLIENT_TITLES = {"Mr", "Ms", "Mrs", "Dr"};
+    private static final String[] DESCRIPTIONS = {"First consultation", "Follow-up", "Quarterly review",
+        "Trial session", "Package renewal", "Complaint follow-up", Booking.DEFAULT_DESCRIPTION};
+    private static final LocalTime FIRST_SLOT = LocalTime.of(9, 0);
+    private static final int SLOT_MINUTES = 30;
+    private static final int SLOTS_PER_DAY = 17;
+    private static final int MAX_ATTEMPTS_PER_BOOKING = 20;
+
+    private final long seed;
+    private int personCount = DEFAULT_PERSON_COUNT;
+    private int tagCount = DEFAULT_TAG_COUNT;
+    private int maxTagsPerPerson = DEFAULT_MAX_TAGS_PER_PERSON;
+    private double tagSkew = DEFAULT_TAG_SKEW;
+    private int bookingsPerPerson = DEFAULT_BOOKINGS_PER_PERSON;
+    private int clientCount = DEFAULT_CLIENT_COUNT;
+    private double clientSkew = DEFAULT_CLIENT_SKEW;
+    private LocalDate firstBookingDate = DEFAULT_FIRST_BOOKING_DATE;
+    private int bookingDays = DEFAULT_BOOKING_DAYS;
+
+    /**
+     * Creates a {@code SampleDataGenerator} with the {@code DEFAULT_SEED} and default settings.
+     */
+    public SampleDataGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Creates a {@code SampleDataGenerator} with the given {@code seed} and default settings.
+     */
+    public SampleDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of persons to generate.
+     */
+    public SampleDataGenerator withPersonCount(int personCount) {
+        checkArgument(personCount >= 0, "The number of persons must not be negative.");
+        this.personCount = personCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags to draw from, the most each person has, and how skewed the choice is:
+     * 0 picks every tag equally often, and larger values favour the first few ever more.
+     */
+    public SampleDataGenerator withTags(int tagCount, int maxTagsPerPerson, double tagSkew) {
+        checkArgument(tagCount >= 0, "The number of tags must not be negative.");
+        checkArgument(maxTagsPerPerson >= 0 && maxTagsPerPerson <= Person.MAX_TAGS,
+                "Persons must have between 0 and " + Person.MAX_TAGS + " tags.");
+        checkArgument(tagSkew >= 0, "The tag skew must not be negative.");
+        this.tagCount = tagCount;
+        this.maxTagsPerPerson = maxTagsPerPerson;
+        this.tagSkew = tagSkew;
+        return this;
+    }
+
+    /**
+     * Sets the average number of bookings per person, the number of distinct clients they are made with, and
+     * how skewed the choice of client is, as for tags.
+     */
+    public SampleDataGenerator withBookings(int bookingsPerPerson, int clientCount, double clientSkew) {
+        checkArgument(bookingsPerPerson >= 0, "The number of bookings must not be negative.");
+        checkArgument(clientCount > 0, "There must be at least one client.");
+        checkArgument(clientSkew >= 0, "The client skew must not be negative.");
+        this.bookingsPerPerson = bookingsPerPerson;
+        this.clientCount = clientCount;
+        this.clientSkew = clientSkew;
+        return this;
+    }
+
+    /**
+     * Sets the range of dates that bookings fall in: {@code bookingDays} days from {@code firstBookingDate}.
+     */
+    public SampleDataGenerator withBookingDates(LocalDate firstBookingDate, int bookingDays) {
+        checkArgument(bookingDays > 0, "Bookings must span at least one day.");
+        this.firstBookingDate = firstBookingDate;
+        this.bookingDays = bookingDays;
+        return this;
+    }
+
+    /**
+     * Returns the generated persons.
+     */
+    public List<Person> generatePersons() {
+        Random random = new Random(seed);
+        List<String> firstNames = shuffled(FIRST_NAMES, random);
+        List<String> lastNames = shuffled(LAST_NAMES, random);
+        List<Tag> tags = createTags();
+        List<String> clients = createClients(random);
+        ZipfSampler tagSampler = new ZipfSampler(tags.size(), tagSkew);
+        ZipfSampler clientSampler = new ZipfSampler(clients.size(), clientSkew);
+
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Name name = createName(i, firstNames, lastNames);
+            Phone phone = new Phone(String.valueOf(80000000 + random.nextInt(20000000)));
+            Email email = new Email(toEmailLocalPart(name) + i + "@example.com");
+            Set<Tag> personTags = new HashSet<>();
+            int personTagCount = tags.isEmpty() ? 0 : random.nextInt(maxTagsPerPerson + 1);
+            for (int t = 0; t < personTagCount; t++) {
+                personTags.add(tags.get(tagSampler.next(random)));
+            }
+            persons.add(new Person(name, phone, email, personTags, createBookings(random, clients, clientSampler)));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of the generated persons.
+     */
+    public AddressBook generate() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons());
+        return addressBook;
+    }
+
+    /**
+     * Returns the name of the person at {@code index}: every combination of first and last name is used once,
+     * then again with a suffix of letters, since names cannot contain digits.
+     */
+    private static Name createName(int index, List<String> firstNames, List<String> lastNames) {
+        int combinations = firstNames.size() * lastNames.size();
+        String name = firstNames.get(index % firstNames.size()) + " "
+                + lastNames.get((index / firstNames.size()) % lastNames.size());
+        int round = index / combinations;
+        return new Name(round == 0 ? name : name + " " + toLetters(round));
+    }
+
+    private static String toEmailLocalPart(Name name) {
+        StringBuilder localPart = new StringBuilder();
+        for (char c : name.fullName.toCharArray()) {
+            if (Character.isLetter(c)) {
+                localPart.append(Character.toLowerCase(c));
+            }
+        }
+        return localPart.toString();
+    }
+
+    /**
+     * Returns {@code number} written in base 26 with the letters A to Z, most significant letter first.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.reverse().toString();
+    }
+
+    private List<Tag> createTags() {
+        List<Tag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(i < TAG_NAMES.length ? TAG_NAMES[i] : "group" + (i - TAG_NAMES.length + 1)));
+        }
+        return tags;
+    }
+
+    private List<String> createClients(Random random) {
+        List<String> clients = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            String surname = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            int round = i / (CLIENT_TITLES.length * LAST_NAMES.length);
+            clients.add(CLIENT_TITLES[i % CLIENT_TITLES.length] + " " + surname
+                    + (round == 0 ? "" : " " + toLetters(round)));
+        }
+        return clients;
+    }
+
+    /**
+     * Returns between 0 and twice {@code bookingsPerPerson} bookings, at distinct times.
+     */
+    private List<Booking> createBookings(Random random, List<String> clients, ZipfSampler clientSampler) {
+        int count = bookingsPerPerson == 0 ? 0 : random.nextInt(2 * bookingsPerPerson + 1);
+        Set<LocalDateTime> taken = new HashSet<>();
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int attempts = 0; bookings.size() < count && attempts < count * MAX_ATTEMPTS_PER_BOOKING; attempts++) {
+            LocalDate date = firstBookingDate.plusDays(random.nextInt(bookingDays));
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            LocalDateTime dateTime = date.atTime(FIRST_SLOT.plusMinutes(
+                    (long) random.nextInt(SLOTS_PER_DAY) * SLOT_MINUTES));
+            if (taken.add(dateTime)) {
+                bookings.add(new Booking(clients.get(clientSampler.next(random)), dateTime,
+                        DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]));
+            }
+        }
+        Collections.sort(bookings, (first, second) -> first.getDateTime().compareTo(second.getDateTime()));
+        return bookings;
+    }
+
+    private static List<String> shuffled(String[] values, Random random) {
+        List<String> list = new ArrayList<>(Arrays.asList(values));
+        Collections.shuffle(list, random);
+        return list;
+    }
+
+    /**
+     * Picks indices from 0 to {@code size - 1}, index {@code k} with weight {@code 1 / (k + 1)^skew}.
+     */
+    private static class ZipfSampler {
+        private final double[] cumulativeWeights;
+
+        ZipfSampler(int size, double skew) {
+            cumulativeWeights = new double[size];
+            double total = 0;
+            for (int k = 0; k < size; k++) {
+                total += 1 / Math.pow(k + 1, skew);
+                cumulativeWeights[k] = total;
+            }
+        }
+
+        int next(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            return Math.min(index >= 0 ? index : -index - 1, cumulativeWeights.length - 1);
+        }
+    }
+}
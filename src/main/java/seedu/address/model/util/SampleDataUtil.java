@@ -41,6 +41,16 @@ public class SampleDataUtil {
         return sampleAb;
     }
 
+    /**
+     * Returns an address book of {@code personCount} generated persons with bookings, the same for the same
+     * {@code seed}, for when the six sample persons are too few.
+     *
+     * @see SampleDataGenerator
+     */
+    public static ReadOnlyAddressBook getSampleAddressBook(int personCount, long seed) {
+        return new SampleDataGenerator(seed).withPersonCount(personCount).generate();
+    }
+
     /**
      * Returns a tag set containing the list of strings given.
      */
@@ -0,0 +1,28 @@
+package seedu.address.server;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import seedu.address.model.booking.Booking;
+
+/**
+ * JSON view of a {@link Booking} returned by the HTTP API.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class ApiBooking {
+
+    private final String person;
+    private final String clientName;
+    private final String datetime;
+    private final String description;
+
+    /**
+     * Converts {@code source} into its JSON view. {@code personName} is left out of the JSON if it is null,
+     * for bookings that are already nested under their person.
+     */
+    ApiBooking(String personName, Booking source) {
+        person = personName;
+        clientName = source.getClientName();
+        datetime = source.getDateTimeString();
+        description = source.getDescription();
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * JSON view of a {@link Person} returned by the HTTP API.
+ */
+class ApiPerson {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final List<String> tags;
+    private final List<ApiBooking> bookings;
+
+    /**
+     * Converts {@code source} into its JSON view.
+     */
+    ApiPerson(Person source) {
+        name = source.getName().fullName;
+        phone = source.getPhone() != null ? source.getPhone().value : null;
+        email = source.getEmail() != null ? source.getEmail().value : null;
+        tags = source.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+        bookings = source.getBookings().stream()
+                .map(booking -> new ApiBooking(null, booking))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,470 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Serves the address book over HTTP on the loopback interface, so that other local tools can read and change it.
+ * <p>
+ * Endpoints (all bodies are JSON):
+ * <ul>
+ *     <li>{@code GET /api/persons} lists every person with their tags and bookings.</li>
+ *     <li>{@code GET /api/bookings} lists every booking with the name of its person.</li>
+ *     <li>{@code GET /api/find?name=..&tag=..&date=..} lists the persons a {@code find} command would show.</li>
+ *     <li>{@code POST /api/commands} with {@code {"command": "..."}} executes a command as if it were typed in.
+ *     Only the commands in {@link #ALLOWED_COMMAND_WORDS} are accepted, so the API cannot read or write other
+ *     files, or clear the address book.</li>
+ * </ul>
+ * Binding to the loopback interface does not stop a web page in the user's browser from sending requests, so every
+ * request must also carry the token returned by {@link #getToken()}, which is new on every launch, in an
+ * {@code Authorization: Bearer} header. Requests whose {@code Host} or {@code Origin} is not a loopback name, as
+ * sent after DNS rebinding or from another site, are rejected, and so are commands not sent as
+ * {@code application/json}, which a page cannot send without the browser asking the server first.
+ * <p>
+ * Each request is handled on its own (virtual, where available) thread. Commands are only ever executed on the
+ * single {@code writeExecutor} given to the constructor, one at a time. Reads work on the latest published
+ * {@code PersonListSnapshot} instead, so they never wait for a command to finish.
+ */
+public class HttpApiServer {
+
+    public static final String PATH_PERSONS = "/api/persons";
+    public static final String PATH_BOOKINGS = "/api/bookings";
+    public static final String PATH_FIND = "/api/find";
+    public static final String PATH_COMMANDS = "/api/commands";
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed: %1$s";
+    public static final String MESSAGE_NOT_FOUND = "No such endpoint: %1$s";
+    public static final String MESSAGE_INVALID_BODY = "Request body must be a JSON object with a \"command\" field.";
+    public static final String MESSAGE_UNKNOWN_QUERY_PARAMETER = "Unknown query parameter: %1$s";
+    public static final String MESSAGE_BUSY = "Timed out waiting for the address book.";
+    public static final String MESSAGE_UNAUTHORIZED = "Missing or wrong API token.";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests are only accepted from localhost.";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "Request body must be sent as application/json.";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "Command not allowed over the HTTP API: %1$s";
+    public static final String MESSAGE_INVALID_QUERY = "Malformed query string: %1$s";
+    public static final String MESSAGE_INVALID_QUERY_VALUE = "Query parameter %1$s must not contain %2$s";
+    public static final String MESSAGE_STARTED = "Serving the HTTP API on port %1$d. "
+            + "Send the header \"Authorization: Bearer %2$s\" with every request.";
+
+    /** Commands that can be sent to {@code POST /api/commands}; none of them touch any file but the data file. */
+    public static final Set<String> ALLOWED_COMMAND_WORDS = Set.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, BookCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD);
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STATUS_UNAVAILABLE = 503;
+    private static final long WRITE_TIMEOUT_SECONDS = 30;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int TOKEN_BYTES = 32;
+    private static final String AUTHORIZATION_SCHEME = "Bearer ";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private static final Map<String, Prefix> FIND_PARAMETERS = Map.of(
+            "name", FindCommandParser.PREFIX_NAME,
+            "tag", FindCommandParser.PREFIX_TAG,
+            "date", FindCommandParser.PREFIX_DATE);
+
+    private static final Logger logger = LogsCenter.getLogger(HttpApiServer.class);
+
+    private final Logic logic;
+    private final Executor writeExecutor;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final String token;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final FindCommandParser findCommandParser = new FindCommandParser();
+
+    /**
+     * Creates a server for {@code logic} on the loopback interface at {@code port} (0 picks any free port).
+     * The server does not accept requests until {@link #start()} is called, and then only those that carry the
+     * token it generates.
+     *
+     * @param writeExecutor runs every task that changes the model. It must run tasks one at a time,
+     *     on the same thread that the rest of the application uses for the model (e.g. the JavaFX thread).
+     * @throws IOException if the port cannot be bound.
+     */
+    public HttpApiServer(Logic logic, Executor writeExecutor, int port) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(writeExecutor);
+        this.logic = logic;
+        this.writeExecutor = writeExecutor;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.requestExecutor = newRequestExecutor();
+        this.token = newToken();
+
+        server.setExecutor(requestExecutor);
+        server.createContext("/", exchange -> handle(exchange, exchange.getRequestMethod(), unused -> {
+            throw new ApiException(STATUS_NOT_FOUND,
+                    String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+        }));
+        server.createContext(PATH_PERSONS, exchange -> handle(exchange, "GET", this::listPersons));
+        server.createContext(PATH_BOOKINGS, exchange -> handle(exchange, "GET", this::listBookings));
+        server.createContext(PATH_FIND, exchange -> handle(exchange, "GET", this::findPersons));
+        server.createContext(PATH_COMMANDS, exchange -> handle(exchange, "POST", this::executeCommand));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("HTTP API listening on http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Stops accepting requests, giving requests in progress a moment to finish.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        requestExecutor.shutdown();
+        logger.info("HTTP API stopped");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token that every request must carry, which only the user who started the app should be given.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    private Object listPersons(HttpExchange exchange) throws Exception {
+        List<Person> persons = snapshotPersons();
+        return Map.of("persons", persons.stream().map(ApiPerson::new).collect(Collectors.toList()));
+    }
+
+    private Object listBookings(HttpExchange exchange) throws Exception {
+        List<ApiBooking> bookings = new ArrayList<>();
+        for (Person person : snapshotPersons()) {
+            person.getBookings().forEach(booking -> bookings.add(new ApiBooking(person.getName().fullName, booking)));
+        }
+        return Map.of("bookings", bookings);
+    }
+
+    private Object findPersons(HttpExchange exchange) throws Exception {
+        StringBuilder args = new StringBuilder();
+        for (Map.Entry<String, List<String>> parameter : parseQuery(exchange.getRequestURI().getRawQuery())
+                .entrySet()) {
+            Prefix prefix = FIND_PARAMETERS.get(parameter.getKey());
+            if (prefix == null) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_QUERY_PARAMETER, parameter.getKey()));
+            }
+            for (String value : parameter.getValue()) {
+                checkNoFindPrefix(parameter.getKey(), value);
+                args.append(' ').append(prefix).append(value);
+            }
+        }
+        Predicate<Person> predicate = findCommandParser.parse(args.toString()).getPredicate();
+
+        List<ApiPerson> matches = snapshotPersons().stream()
+                .filter(predicate)
+                .map(ApiPerson::new)
+                .collect(Collectors.toList());
+        return Map.of("persons", matches);
+    }
+
+    /**
+     * Rejects a find query value that would be read as more than one find argument, such as {@code x t/foo}.
+     * The tokenizer only sees a prefix after a space, so the value cannot start one.
+     */
+    private static void checkNoFindPrefix(String parameter, String value) throws ParseException {
+        for (Prefix prefix : FIND_PARAMETERS.values()) {
+            if (value.contains(" " + prefix)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_QUERY_VALUE, parameter, prefix));
+            }
+        }
+    }
+
+    private Object executeCommand(HttpExchange exchange) throws Exception {
+        if (!isJson(exchange.getRequestHeaders().getFirst("Content-Type"))) {
+            throw new ApiException(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        }
+        CommandRequest request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = JsonUtil.fromJsonString(new String(body.readAllBytes(), StandardCharsets.UTF_8),
+                    CommandRequest.class);
+        } catch (IOException e) {
+            throw new ParseException(MESSAGE_INVALID_BODY, e);
+        }
+        if (request == null || request.command == null) {
+            throw new ParseException(MESSAGE_INVALID_BODY);
+        }
+        // Unknown words are left for the parser to report.
+        Optional<String> commandWord = addressBookParser.findCommandWord(request.command);
+        if (commandWord.isPresent() && !ALLOWED_COMMAND_WORDS.contains(commandWord.get())) {
+            throw new ApiException(STATUS_FORBIDDEN, String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord.get()));
+        }
+
+        CommandResult result = onWriteExecutor(() -> logic.execute(request.command));
+        return Map.of("feedback", result.getFeedbackToUser());
+    }
+
+    /**
+     * Returns the persons in the latest published snapshot. Reads never wait for the write executor.
+     */
+    private List<Person> snapshotPersons() {
+        return logic.getAddressBookSnapshot().getPersons();
+    }
+
+    /**
+     * Runs {@code task} on the write executor and waits for its result.
+     */
+    private <T> T onWriteExecutor(Callable<T> task) throws Exception {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        writeExecutor.execute(() -> {
+            try {
+                future.complete(task.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        try {
+            return future.get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * Checks where the request came from, its token and its method, runs {@code endpoint} and writes its result
+     * (or the error) as JSON.
+     */
+    private void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException {
+        try {
+            if (!isLoopbackHost(exchange.getRequestHeaders().getFirst("Host"))
+                    || !isLoopbackOrigin(exchange.getRequestHeaders().getFirst("Origin"))) {
+                throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_ORIGIN);
+            }
+            if (!isAuthorized(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                throw new ApiException(STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+            }
+            if (!method.equals(exchange.getRequestMethod())) {
+                throw new ApiException(STATUS_METHOD_NOT_ALLOWED,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod()));
+            }
+            respond(exchange, STATUS_OK, endpoint.handle(exchange));
+        } catch (ApiException e) {
+            respond(exchange, e.status, error(e.getMessage()));
+        } catch (ParseException | CommandException e) {
+            respond(exchange, STATUS_BAD_REQUEST, error(e.getMessage()));
+        } catch (TimeoutException e) {
+            respond(exchange, STATUS_UNAVAILABLE, error(MESSAGE_BUSY));
+        } catch (Exception e) {
+            logger.warning("HTTP API request " + exchange.getRequestURI() + " failed: " + e);
+            respond(exchange, STATUS_INTERNAL_ERROR, error(String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> error(String message) {
+        return Map.of("error", message);
+    }
+
+    /**
+     * Returns true if {@code authorization} carries this server's token. The comparison takes the same time
+     * however much of the token is right.
+     */
+    private boolean isAuthorized(String authorization) {
+        if (authorization == null || !authorization.startsWith(AUTHORIZATION_SCHEME)) {
+            return false;
+        }
+        byte[] given = authorization.substring(AUTHORIZATION_SCHEME.length()).trim().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(given, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns true if the {@code Host} header names a loopback address, with or without a port.
+     */
+    static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        int portSeparator = host.lastIndexOf(':');
+        String name = portSeparator > host.lastIndexOf(']') ? host.substring(0, portSeparator) : host;
+        return LOOPBACK_HOSTS.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns true if there is no {@code Origin} header, as from tools other than browsers, or if it is a page
+     * served from a loopback address.
+     */
+    static boolean isLoopbackOrigin(String origin) {
+        if (origin == null) {
+            return true;
+        }
+        try {
+            URI uri = new URI(origin);
+            return ("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))
+                    && uri.getHost() != null && isLoopbackHost(uri.getHost());
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parametersStart = contentType.indexOf(';');
+        String mediaType = parametersStart == -1 ? contentType : contentType.substring(0, parametersStart);
+        return mediaType.trim().equalsIgnoreCase(JSON_CONTENT_TYPE);
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Splits a raw URL query string into its decoded parameters, keeping repeated parameters in order.
+     *
+     * @throws ParseException if a parameter has a malformed {@code %} escape.
+     */
+    static Map<String, List<String>> parseQuery(String rawQuery) throws ParseException {
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String key = separator == -1 ? pair : pair.substring(0, separator);
+            String value = separator == -1 ? "" : pair.substring(separator + 1);
+            parameters.computeIfAbsent(decode(key), unused -> new ArrayList<>()).add(decode(value));
+        }
+        return parameters;
+    }
+
+    private static String decode(String queryPart) throws ParseException {
+        try {
+            return URLDecoder.decode(queryPart, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_QUERY, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Returns an executor that runs each request on a new virtual thread when the running JVM supports them
+     * (Java 21 and later), or on a pooled platform thread otherwise. The project targets Java 17, so the
+     * virtual thread factory is looked up reflectively.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.fine("Virtual threads are not available, using a thread pool for HTTP requests");
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Work done for one request to an endpoint.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Object handle(HttpExchange exchange) throws Exception;
+    }
+
+    /**
+     * A request that is refused with the HTTP status {@code status}.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Body of a {@code POST /api/commands} request.
+     */
+    private static class CommandRequest {
+        private final String command;
+
+        @JsonCreator
+        private CommandRequest(@JsonProperty("command") String command) {
+            this.command = command;
+        }
+    }
+}
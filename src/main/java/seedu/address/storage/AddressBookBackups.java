@@ -0,0 +1,355 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Keeps numbered backups of an address book in a folder beside its data file, storing each person's record only
+ * once however many backups it is in.
+ * <p>
+ * Each person is stored as a record, its JSON, compressed, in a file named by the SHA-256 hash of the JSON, under
+ * {@code records/}. A backup is a manifest under {@code manifests/} that lists the hashes of its persons in order.
+ * A backup therefore only writes the records of persons that changed since earlier backups, and its manifest.
+ * Restoring a backup reads its records one at a time, checks each against its hash, and validates it as a data file
+ * is validated.
+ * <p>
+ * The hash of each person backed up is remembered until the next backup, so that unchanged persons, which are the
+ * same objects from one version of the address book to the next, are not converted to JSON again.
+ */
+public class AddressBookBackups {
+
+    static final String MESSAGE_MISSING_RECORD = "Backup %d has a missing or damaged record %s.";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookBackups.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final DateTimeFormatter MANIFEST_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Pattern MANIFEST_FILE_NAME = Pattern.compile("backup-(\\d+)-(\\d{8}-\\d{6})\\.json\\.gz");
+    private static final Map<Path, AddressBookBackups> instances = new HashMap<>();
+
+    private final Path directory;
+    private final Clock clock;
+    /** Hashes of the records already stored, read from the folder when first needed. */
+    private Set<String> storedHashes;
+    /** The hash of each person in the last backup taken or compared against. */
+    private Map<Person, String> lastHashes = new IdentityHashMap<>();
+    /** The last backup, or null if none has been read yet. */
+    private Manifest lastManifest;
+
+    AddressBookBackups(Path directory, Clock clock) {
+        requireNonNull(directory);
+        requireNonNull(clock);
+        this.directory = directory;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the backups of the data file at {@code dataFilePath}, which are kept in the folder
+     * {@link #getBackupDirectory(Path)}. Every call for the same data file returns the same instance, so that what
+     * it remembers between backups is shared.
+     */
+    public static synchronized AddressBookBackups forDataFile(Path dataFilePath) {
+        Path directory = getBackupDirectory(dataFilePath).toAbsolutePath().normalize();
+        return instances.computeIfAbsent(directory, key -> new AddressBookBackups(key, Clock.systemDefaultZone()));
+    }
+
+    /**
+     * Returns the folder that the backups of the data file at {@code dataFilePath} are kept in.
+     */
+    public static Path getBackupDirectory(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ".backups");
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Backs up {@code persons}, unless they are the same as in the latest backup.
+     *
+     * @throws IOException if a record or the manifest cannot be written.
+     */
+    public synchronized BackupSummary backUp(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        Optional<Manifest> latest = getLatestManifest();
+        Map<Person, String> hashes = new IdentityHashMap<>(persons.size());
+        List<String> personHashes = new ArrayList<>(persons.size());
+        int newRecordCount = 0;
+        for (Person person : persons) {
+            String hash = lastHashes.get(person);
+            if (hash == null) {
+                byte[] record = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person))
+                        .getBytes(StandardCharsets.UTF_8);
+                hash = hashOf(record);
+                if (!getStoredHashes().contains(hash)) {
+                    writeRecord(hash, record);
+                    // Only once written, so that a record that failed to be written is written again next time.
+                    getStoredHashes().add(hash);
+                    newRecordCount++;
+                }
+            }
+            hashes.put(person, hash);
+            personHashes.add(hash);
+        }
+        lastHashes = hashes;
+
+        if (latest.isPresent() && latest.get().persons.equals(personHashes)) {
+            return new BackupSummary(latest.get().generation, latest.get().getCreatedAt(), persons.size(), 0, false);
+        }
+        long generation = latest.map(manifest -> manifest.generation + 1).orElse(1L);
+        LocalDateTime createdAt = LocalDateTime.now(clock).withNano(0);
+        Manifest manifest = new Manifest(generation, createdAt.toString(), personHashes);
+        JsonUtil.saveJsonFileAtomically(manifest, getManifestPath(generation, createdAt),
+                JsonUtil.DEFAULT_COMPRESSION_LEVEL);
+        lastManifest = manifest;
+        BackupSummary summary = new BackupSummary(generation, createdAt, persons.size(), newRecordCount, true);
+        logger.info(() -> String.format("Backed up %d person(s) as backup %d, with %d new record(s)",
+                summary.getPersonCount(), summary.getGeneration(), summary.getNewRecordCount()));
+        return summary;
+    }
+
+    /**
+     * Returns every backup, oldest first, without reading their manifests.
+     */
+    public synchronized List<BackupSummary> list() throws IOException {
+        List<BackupSummary> backups = new ArrayList<>();
+        for (Path file : listManifestFiles()) {
+            Matcher matcher = MANIFEST_FILE_NAME.matcher(file.getFileName().toString());
+            matcher.matches();
+            backups.add(new BackupSummary(Long.parseLong(matcher.group(1)),
+                    LocalDateTime.parse(matcher.group(2), MANIFEST_TIMESTAMP), -1, -1, false));
+        }
+        return backups;
+    }
+
+    /**
+     * Returns the address book in backup {@code generation}, or {@code Optional.empty()} if there is no such backup.
+     *
+     * @throws DataLoadingException if the backup cannot be read, or any of its records is missing, damaged or
+     *     invalid.
+     */
+    public synchronized Optional<AddressBook> restore(long generation) throws DataLoadingException {
+        try {
+            Optional<Path> manifestPath = findManifestFile(generation);
+            if (manifestPath.isEmpty()) {
+                return Optional.empty();
+            }
+            Manifest manifest = JsonUtil.readJsonFile(manifestPath.get(), Manifest.class).orElseThrow();
+            List<Person> persons = new ArrayList<>(manifest.persons.size());
+            for (String hash : manifest.persons) {
+                persons.add(readRecord(generation, hash).toModelType());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    private Optional<Manifest> getLatestManifest() throws IOException {
+        if (lastManifest == null) {
+            List<Path> files = listManifestFiles();
+            if (files.isEmpty()) {
+                return Optional.empty();
+            }
+            try {
+                lastManifest = JsonUtil.readJsonFile(files.get(files.size() - 1), Manifest.class).orElseThrow();
+            } catch (DataLoadingException e) {
+                throw new IOException("Cannot read the latest backup in " + directory, e);
+            }
+        }
+        return Optional.of(lastManifest);
+    }
+
+    private Set<String> getStoredHashes() throws IOException {
+        if (storedHashes == null) {
+            storedHashes = new HashSet<>();
+            Path recordsDirectory = directory.resolve("records");
+            if (Files.isDirectory(recordsDirectory)) {
+                try (Stream<Path> files = Files.walk(recordsDirectory)) {
+                    files.map(file -> file.getFileName().toString())
+                            .filter(name -> name.endsWith(".gz"))
+                            .forEach(name -> storedHashes.add(name.substring(0, name.length() - ".gz".length())));
+                }
+            }
+        }
+        return storedHashes;
+    }
+
+    /**
+     * Writes {@code record} compressed to its file, through a temporary file that is synced to disk, as is its move
+     * into place, so that a manifest written afterwards never refers to a record that a crash could lose or leave
+     * partly written.
+     */
+    private void writeRecord(String hash, byte[] record) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(record.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(record);
+        }
+        FileUtil.writeToFileAtomically(getRecordPath(hash), compressed::writeTo);
+    }
+
+    private JsonAdaptedPerson readRecord(long generation, String hash) throws IOException, IllegalValueException {
+        Path file = getRecordPath(hash);
+        byte[] record;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            record = in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, generation, hash));
+        }
+        if (!hashOf(record).equals(hash)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, generation, hash));
+        }
+        return JsonUtil.fromJsonString(new String(record, StandardCharsets.UTF_8), JsonAdaptedPerson.class);
+    }
+
+    private Path getRecordPath(String hash) {
+        return directory.resolve("records").resolve(hash.substring(0, 2)).resolve(hash + ".gz");
+    }
+
+    private Path getManifestPath(long generation, LocalDateTime createdAt) {
+        return directory.resolve("manifests")
+                .resolve(String.format("backup-%06d-%s.json.gz", generation, MANIFEST_TIMESTAMP.format(createdAt)));
+    }
+
+    private Optional<Path> findManifestFile(long generation) throws IOException {
+        return listManifestFiles().stream().filter(file -> generationOf(file) == generation).findFirst();
+    }
+
+    /**
+     * Returns the manifest files, in order of generation.
+     */
+    private List<Path> listManifestFiles() throws IOException {
+        Path manifestsDirectory = directory.resolve("manifests");
+        if (!Files.isDirectory(manifestsDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(manifestsDirectory)) {
+            return files.filter(file -> MANIFEST_FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingLong(AddressBookBackups::generationOf))
+                    .toList();
+        }
+    }
+
+    private static long generationOf(Path manifestFile) {
+        Matcher matcher = MANIFEST_FILE_NAME.matcher(manifestFile.getFileName().toString());
+        matcher.matches();
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static String hashOf(byte[] record) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(record));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + HASH_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * A backup: its generation number and when it was taken, and, for a backup just taken, how many persons it
+     * holds and how many of their records were new.
+     */
+    public static class BackupSummary {
+        private final long generation;
+        private final LocalDateTime createdAt;
+        private final int personCount;
+        private final int newRecordCount;
+        private final boolean isNew;
+
+        BackupSummary(long generation, LocalDateTime createdAt, int personCount, int newRecordCount,
+                boolean isNew) {
+            this.generation = generation;
+            this.createdAt = createdAt;
+            this.personCount = personCount;
+            this.newRecordCount = newRecordCount;
+            this.isNew = isNew;
+        }
+
+        public long getGeneration() {
+            return generation;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public int getPersonCount() {
+            return personCount;
+        }
+
+        public int getNewRecordCount() {
+            return newRecordCount;
+        }
+
+        /**
+         * Returns true if this backup was just taken, or false if it already existed, such as when nothing had
+         * changed since it was taken.
+         */
+        public boolean isNew() {
+            return isNew;
+        }
+    }
+
+    /**
+     * Jackson-friendly contents of a manifest.
+     */
+    private static class Manifest {
+        private final long generation;
+        private final String createdAt;
+        private final List<String> persons;
+
+        @JsonCreator
+        Manifest(@JsonProperty("generation") long generation, @JsonProperty("createdAt") String createdAt,
+                @JsonProperty("persons") List<String> persons) {
+            this.generation = generation;
+            this.createdAt = createdAt;
+            this.persons = persons == null ? List.of() : persons;
+        }
+
+        LocalDateTime getCreatedAt() {
+            return LocalDateTime.parse(createdAt);
+        }
+    }
+}
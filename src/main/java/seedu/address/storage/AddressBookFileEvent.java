@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for reading or saving the address book file in {@link JsonAddressBookStorage}.
+ */
+@Name(AddressBookFileEvent.NAME)
+@Label("Address Book File")
+@Category({"FirstImpressions", "Storage"})
+@Description("Reading or saving the address book JSON file")
+class AddressBookFileEvent extends Event {
+
+    static final String NAME = "seedu.address.AddressBookFile";
+    static final String READ = "read";
+    static final String SAVE = "save";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @Description("Size of the file, or -1 if there is none")
+    @DataAmount
+    long bytes;
+
+    @Label("Persons")
+    @Description("Number of persons read or saved, or -1 if none were")
+    int personCount;
+}
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only file of {@link JsonAdaptedJournalEntry}s, kept beside the data file.
+ * <p>
+ * Each entry is one line: the CRC32C of the entry's JSON in hexadecimal, a space, and the JSON. Reading stops at the
+ * first line that is incomplete or does not match its checksum, such as one torn by a crash while it was written,
+ * and that line and everything after it are cut off.
+ * <p>
+ * Writing and syncing are separate so that entries can be committed as a group: {@link #write} adds an entry to the
+ * file, and {@link #sync} waits until it is on disk. While one thread is syncing, others can write, and the next
+ * sync covers all of their entries with one {@code fsync}.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+    private static final int CHECKSUM_LENGTH = 8;
+
+    private final Path filePath;
+    private final Object syncLock = new Object();
+    private FileChannel channel;
+    /** Number of bytes ever written, which only grows, so positions stay comparable after the file is cleared. */
+    private long writtenPosition;
+    /** Guarded by {@code syncLock}. */
+    private long syncedPosition;
+
+    AddressBookJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the entries in the journal, up to the first damaged one, and cuts the journal off before it.
+     */
+    synchronized List<Entry> read() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return entries;
+        }
+        byte[] bytes = Files.readAllBytes(filePath);
+        int offset = 0;
+        while (offset < bytes.length) {
+            int end = indexOf(bytes, (byte) '\n', offset);
+            JsonAdaptedJournalEntry entry = end < 0 ? null : parse(bytes, offset, end);
+            if (entry == null) {
+                int damagedOffset = offset;
+                logger.warning(() -> String.format("Discarding the damaged end of %s, from byte %d", filePath,
+                        damagedOffset));
+                break;
+            }
+            entries.add(new Entry(entry, offset));
+            offset = end + 1;
+        }
+        if (offset < bytes.length) {
+            truncate(offset);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns every line of the journal as it is, without checking or applying it.
+     */
+    synchronized List<String> readLines() throws IOException {
+        return Files.exists(filePath) ? Files.readAllLines(filePath, StandardCharsets.UTF_8) : List.of();
+    }
+
+    /**
+     * Adds {@code entry} to the end of the journal, without waiting for it to reach the disk. If it cannot be
+     * written in full, what was written of it is cut off again, so that the next entry starts on a line of its own.
+     *
+     * @return the position to pass to {@link #sync} to wait for it.
+     */
+    synchronized long write(JsonAdaptedJournalEntry entry) throws IOException {
+        byte[] json = JsonUtil.toCompactJsonString(entry).getBytes(StandardCharsets.UTF_8);
+        CRC32C checksum = new CRC32C();
+        checksum.update(json);
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_LENGTH + 1 + json.length + 1);
+        buffer.put(String.format("%08x ", checksum.getValue()).getBytes(StandardCharsets.US_ASCII));
+        buffer.put(json);
+        buffer.put((byte) '\n');
+        buffer.flip();
+
+        FileChannel fileChannel = getChannel();
+        long start = fileChannel.position();
+        try {
+            while (buffer.hasRemaining()) {
+                writtenPosition += fileChannel.write(buffer);
+            }
+        } catch (IOException e) {
+            try {
+                truncate(start);
+            } catch (IOException truncateException) {
+                e.addSuppressed(truncateException);
+            }
+            throw e;
+        }
+        return writtenPosition;
+    }
+
+    /**
+     * Waits until everything written up to {@code position} is on disk.
+     */
+    void sync(long position) throws IOException {
+        synchronized (syncLock) {
+            if (syncedPosition >= position) {
+                return; // synced by another thread in the meantime
+            }
+            long target;
+            FileChannel fileChannel;
+            synchronized (this) {
+                target = writtenPosition;
+                fileChannel = getChannel();
+            }
+            fileChannel.force(false);
+            syncedPosition = target;
+        }
+    }
+
+    /**
+     * Discards every entry, once they are all included in the data file.
+     */
+    synchronized void clear() throws IOException {
+        truncate(0);
+    }
+
+    /**
+     * Discards the entry {@code entry} and every entry after it.
+     */
+    synchronized void discardFrom(Entry entry) throws IOException {
+        truncate(entry.start);
+    }
+
+    /**
+     * Closes the file. The journal reopens it if written to again.
+     */
+    synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void truncate(long size) throws IOException {
+        if (channel == null && size == 0 && !Files.exists(filePath)) {
+            return;
+        }
+        FileChannel fileChannel = getChannel();
+        fileChannel.truncate(size);
+        fileChannel.position(size);
+        fileChannel.force(true);
+    }
+
+    private FileChannel getChannel() throws IOException {
+        if (channel == null) {
+            FileUtil.createParentDirsOfFile(filePath);
+            channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+        return channel;
+    }
+
+    /**
+     * Returns the entry on the line from {@code start} to {@code end}, or null if it is damaged.
+     */
+    private static JsonAdaptedJournalEntry parse(byte[] bytes, int start, int end) {
+        if (end - start < CHECKSUM_LENGTH + 2 || bytes[start + CHECKSUM_LENGTH] != ' ') {
+            return null;
+        }
+        int jsonStart = start + CHECKSUM_LENGTH + 1;
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes, jsonStart, end - jsonStart);
+        try {
+            long expected = Long.parseLong(new String(bytes, start, CHECKSUM_LENGTH, StandardCharsets.US_ASCII), 16);
+            if (expected != checksum.getValue()) {
+                return null;
+            }
+            return JsonUtil.fromJsonString(new String(bytes, jsonStart, end - jsonStart, StandardCharsets.UTF_8),
+                    JsonAdaptedJournalEntry.class);
+        } catch (NumberFormatException | IOException e) {
+            return null;
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * An entry read from the journal, and where in the file it starts.
+     */
+    static class Entry {
+        private final JsonAdaptedJournalEntry entry;
+        private final long start;
+
+        Entry(JsonAdaptedJournalEntry entry, long start) {
+            this.entry = entry;
+            this.start = start;
+        }
+
+        JsonAdaptedJournalEntry get() {
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.ZipException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads what it can from a data file that cannot be loaded as a whole, because some of its persons are invalid or
+ * the file is damaged.
+ * <p>
+ * The file is read in one streaming pass, one person at a time, and each person is validated on its own. Every
+ * valid person is loaded. Invalid and duplicate persons, anything after the point where the file stops being
+ * readable JSON, and any journal entries that could not be applied are written to a quarantine file beside the data
+ * file, with the reason each was left out, so that nothing is lost when the data file is next saved.
+ */
+class AddressBookSalvager {
+
+    static final String REASON_DUPLICATE = "Duplicate of an earlier person";
+    static final String REASON_NOT_ADDRESS_BOOK = "The file does not hold an address book";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSalvager.class);
+    private static final DateTimeFormatter QUARANTINE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path filePath;
+    private final Clock clock;
+
+    AddressBookSalvager(Path filePath) {
+        this(filePath, Clock.systemDefaultZone());
+    }
+
+    AddressBookSalvager(Path filePath, Clock clock) {
+        requireNonNull(filePath);
+        requireNonNull(clock);
+        this.filePath = filePath;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the valid persons in the data file, and writes everything else, together with
+     * {@code unappliedJournalEntries}, to a quarantine file.
+     *
+     * @throws IOException if the data file cannot be read or the quarantine file cannot be written.
+     */
+    Salvage salvage(List<String> unappliedJournalEntries) throws IOException {
+        requireNonNull(unappliedJournalEntries);
+        AddressBook addressBook = new AddressBook();
+        LocalDateTime salvagedAt = LocalDateTime.now(clock);
+        Quarantine quarantine = new Quarantine(filePath, salvagedAt, unappliedJournalEntries);
+
+        long readableUpTo = 0;
+        try (InputStream in = JsonUtil.openInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(REASON_NOT_ADDRESS_BOOK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!"persons".equals(fieldName) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                int index = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonNode node = parser.readValueAsTree();
+                    readableUpTo = parser.getCurrentLocation().getByteOffset();
+                    salvagePerson(node, index++, addressBook, quarantine);
+                }
+            }
+        } catch (IOException | IllegalValueException e) {
+            // Keep the rest of the file as it is, since it cannot be read as persons.
+            byte[] bytes = readAsFarAsPossible();
+            int from = (int) Math.min(Math.max(readableUpTo, 0), bytes.length);
+            quarantine.setUnreadable(e.getMessage(), from,
+                    new String(Arrays.copyOfRange(bytes, from, bytes.length), StandardCharsets.UTF_8));
+        }
+
+        return finish(addressBook, quarantine, salvagedAt);
+    }
+
+    /**
+     * Returns the valid persons among {@code persons}, which were read from the data file some other way than as
+     * JSON, such as from the rows of a database, and writes the rest to a quarantine file.
+     *
+     * @throws IOException if the quarantine file cannot be written.
+     */
+    Salvage salvagePersons(Collection<JsonAdaptedPerson> persons) throws IOException {
+        requireNonNull(persons);
+        AddressBook addressBook = new AddressBook();
+        LocalDateTime salvagedAt = LocalDateTime.now(clock);
+        Quarantine quarantine = new Quarantine(filePath, salvagedAt, List.of());
+        int index = 0;
+        for (JsonAdaptedPerson person : persons) {
+            salvagePerson(JsonUtil.toJsonTree(person), index++, addressBook, quarantine);
+        }
+        return finish(addressBook, quarantine, salvagedAt);
+    }
+
+    private Salvage finish(AddressBook addressBook, Quarantine quarantine, LocalDateTime salvagedAt)
+            throws IOException {
+        quarantine.loadedCount = addressBook.getPersonList().size();
+        Path quarantinePath = null;
+        if (quarantine.hasContents()) {
+            quarantinePath = filePath.resolveSibling(filePath.getFileName() + ".quarantine-"
+                    + QUARANTINE_TIMESTAMP.format(salvagedAt) + ".json");
+            JsonUtil.saveJsonFile(quarantine, quarantinePath);
+        }
+        Salvage salvage = new Salvage(addressBook, quarantine.rejected.size(), quarantine.unreadable != null,
+                quarantinePath);
+        logger.warning(() -> String.format("Salvaged %d person(s) from %s; %d rejected%s%s",
+                salvage.getAddressBook().getPersonList().size(), filePath, salvage.getRejectedCount(),
+                salvage.isTruncated() ? ", and the end of the file could not be read" : "",
+                salvage.getQuarantinePath() == null ? "" : ". Set aside in " + salvage.getQuarantinePath()));
+        return salvage;
+    }
+
+    /**
+     * Returns the contents of the data file, decompressed if it is compressed, as far as they can be read.
+     */
+    private byte[] readAsFarAsPossible() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = JsonUtil.openInputStream(filePath)) {
+            in.transferTo(bytes);
+        } catch (EOFException | ZipException e) {
+            // The compressed file is damaged, so keep what could be decompressed.
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void salvagePerson(JsonNode node, int index, AddressBook addressBook, Quarantine quarantine) {
+        try {
+            Person person = JsonUtil.fromJsonTree(node, JsonAdaptedPerson.class).toModelType();
+            if (addressBook.hasPerson(person)) {
+                quarantine.reject(index, REASON_DUPLICATE, node);
+                return;
+            }
+            addressBook.addPerson(person);
+        } catch (IllegalValueException | IOException | RuntimeException e) {
+            // One bad person must not stop the others from loading.
+            quarantine.reject(index, e.getMessage(), node);
+        }
+    }
+
+    /**
+     * What a salvage loaded, and what it left out.
+     */
+    static class Salvage {
+        private final AddressBook addressBook;
+        private final int rejectedCount;
+        private final boolean isTruncated;
+        private final Path quarantinePath;
+
+        Salvage(AddressBook addressBook, int rejectedCount, boolean isTruncated, Path quarantinePath) {
+            this.addressBook = addressBook;
+            this.rejectedCount = rejectedCount;
+            this.isTruncated = isTruncated;
+            this.quarantinePath = quarantinePath;
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        int getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * Returns true if the end of the file could not be read.
+         */
+        boolean isTruncated() {
+            return isTruncated;
+        }
+
+        /**
+         * Returns the quarantine file, or null if nothing was left out.
+         */
+        Path getQuarantinePath() {
+            return quarantinePath;
+        }
+    }
+
+    /**
+     * Jackson-friendly contents of a quarantine file.
+     */
+    private static class Quarantine {
+        private final String dataFile;
+        private final String salvagedAt;
+        private int loadedCount;
+        private final List<Rejected> rejected = new ArrayList<>();
+        private Unreadable unreadable;
+        private final List<String> unappliedJournalEntries;
+
+        Quarantine(Path dataFile, LocalDateTime salvagedAt, List<String> unappliedJournalEntries) {
+            this.dataFile = dataFile.toString();
+            this.salvagedAt = salvagedAt.toString();
+            this.unappliedJournalEntries = List.copyOf(unappliedJournalEntries);
+        }
+
+        void reject(int index, String reason, JsonNode person) {
+            rejected.add(new Rejected(index, reason, person));
+        }
+
+        void setUnreadable(String reason, long byteOffset, String text) {
+            unreadable = new Unreadable(reason, byteOffset, text);
+        }
+
+        boolean hasContents() {
+            return !rejected.isEmpty() || unreadable != null || !unappliedJournalEntries.isEmpty();
+        }
+    }
+
+    /**
+     * A person that was left out, where it was in the file, and why.
+     */
+    private static class Rejected {
+        private final int index;
+        private final String reason;
+        private final JsonNode person;
+
+        Rejected(int index, String reason, JsonNode person) {
+            this.index = index;
+            this.reason = reason;
+            this.person = person;
+        }
+    }
+
+    /**
+     * The part of the file that could not be read, from the first byte that could not be read as a person.
+     */
+    private static class Unreadable {
+        private final String reason;
+        private final long byteOffset;
+        private final String text;
+
+        Unreadable(String reason, long byteOffset, String text) {
+            this.reason = reason;
+            this.byteOffset = byteOffset;
+            this.text = text;
+        }
+    }
+}
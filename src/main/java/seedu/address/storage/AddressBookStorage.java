@@ -30,6 +30,16 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the valid persons in the data file, for when {@link #readAddressBook()} fails, and sets aside what
+     * could not be loaded in a quarantine file beside it.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if the data file could not be read at all, or the quarantine file could not be
+     *     written.
+     */
+    Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataLoadingException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +52,33 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes every change saved so far into the data file itself, if some are only kept elsewhere, such as in a
+     * journal beside it.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void checkpointAddressBook() throws IOException;
+
+    /**
+     * Returns what another program changed in the data file since this storage last read or wrote it, or
+     * {@code Optional.empty()} if nothing else has changed it. Saves still refuse to overwrite the change until it
+     * is passed to {@link #acceptExternalChange(DataFileChange)}.
+     * Storages that cannot tell whether something else changed their data never return a change.
+     *
+     * @throws DataLoadingException if the changed data file could not be loaded.
+     */
+    default Optional<DataFileChange> readExternalChange() throws DataLoadingException {
+        return Optional.empty();
+    }
+
+    /**
+     * Takes {@code change}, returned by {@link #readExternalChange()}, as read, once it has been merged into the
+     * data to be saved. The next save then rewrites the data file in full. Returns false, taking nothing as read,
+     * if the data file has been read or written again since {@code change} was read, in which case the change
+     * should be read again.
+     */
+    default boolean acceptExternalChange(DataFileChange change) {
+        return false;
+    }
+
 }
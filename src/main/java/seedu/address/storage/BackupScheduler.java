@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Backs up the address book with {@link AddressBookBackups} at a fixed interval, on a background thread.
+ * <p>
+ * The persons to back up are taken from a supplier that must be safe to call from any thread, such as one that
+ * returns the model's snapshot. A backup is only taken if something changed since the last one.
+ */
+public class BackupScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(BackupScheduler.class);
+
+    private final AddressBookBackups backups;
+    private final Supplier<List<Person>> persons;
+    private final long intervalMinutes;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a {@code BackupScheduler} that backs up the persons given by {@code persons} to {@code backups} every
+     * {@code intervalMinutes} minutes once started.
+     */
+    public BackupScheduler(AddressBookBackups backups, Supplier<List<Person>> persons, long intervalMinutes) {
+        requireNonNull(backups);
+        requireNonNull(persons);
+        checkArgument(intervalMinutes > 0, "The backup interval must be positive.");
+        this.backups = backups;
+        this.persons = persons;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    /**
+     * Starts backing up on a daemon thread, every interval from now.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "backup-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::backUpQuietly, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        logger.info(() -> "Backing up to " + backups.getDirectory() + " every " + intervalMinutes + " minute(s)");
+    }
+
+    /**
+     * Stops backing up. A backup in progress is left to finish.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        scheduler = null;
+    }
+
+    private void backUpQuietly() {
+        try {
+            backups.backUp(persons.get());
+        } catch (IOException | RuntimeException e) {
+            // A failed backup must not stop later ones.
+            logger.warning("Could not back up to " + backups.getDirectory() + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Builds the content hash recorded in a data file: a SHA-256 of the values in it, in the order they are added.
+ * Each value is added with its length first, and null as a length of -1, so that no two different sequences of
+ * values hash the same bytes.
+ */
+class ContentHash {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final MessageDigest digest;
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+
+    ContentHash() {
+        try {
+            digest = MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Adds {@code value}, which may be null.
+     */
+    ContentHash add(String value) {
+        if (value == null) {
+            return add(-1);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        add(bytes.length);
+        digest.update(bytes);
+        return this;
+    }
+
+    /**
+     * Adds {@code count}, such as the number of values that follow.
+     */
+    ContentHash add(int count) {
+        lengthBuffer.clear();
+        lengthBuffer.putInt(count);
+        digest.update(lengthBuffer.array());
+        return this;
+    }
+
+    /**
+     * Returns the hash of everything added, in hexadecimal.
+     */
+    String toHex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
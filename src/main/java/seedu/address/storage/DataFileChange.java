@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListMerge;
+
+/**
+ * A change that another program made to a data file: the persons it held when the app last read or wrote it, and
+ * the persons it holds now, along with the versions of the file that held them.
+ */
+public final class DataFileChange {
+
+    private static final DateTimeFormatter CONFLICTS_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path filePath;
+    private final JournaledAddressBookStorage.FileState previousFileState;
+    private final List<Person> previousPersons;
+    private final JournaledAddressBookStorage.FileState fileState;
+    private final List<Person> persons;
+
+    DataFileChange(Path filePath, JournaledAddressBookStorage.FileState previousFileState, List<Person> previousPersons,
+            JournaledAddressBookStorage.FileState fileState, List<Person> persons) {
+        requireNonNull(filePath);
+        requireNonNull(previousFileState);
+        requireNonNull(previousPersons);
+        requireNonNull(fileState);
+        requireNonNull(persons);
+        this.filePath = filePath;
+        this.previousFileState = previousFileState;
+        this.previousPersons = previousPersons;
+        this.fileState = fileState;
+        this.persons = persons;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public List<Person> getPreviousPersons() {
+        return previousPersons;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    JournaledAddressBookStorage.FileState getPreviousFileState() {
+        return previousFileState;
+    }
+
+    JournaledAddressBookStorage.FileState getFileState() {
+        return fileState;
+    }
+
+    /**
+     * Writes both versions of each of {@code conflicts}, the persons the other program changed that were also
+     * changed in the app, to a conflicts file beside the data file, and returns the conflicts file.
+     *
+     * @throws IOException if the conflicts file cannot be written.
+     */
+    public Path saveConflicts(List<PersonListMerge.Update> conflicts, LocalDateTime detectedAt) throws IOException {
+        Path conflictsPath = filePath.resolveSibling(filePath.getFileName() + ".conflicts-"
+                + CONFLICTS_TIMESTAMP.format(detectedAt) + ".json");
+        JsonUtil.saveJsonFile(new Conflicts(filePath, detectedAt, conflicts), conflictsPath);
+        return conflictsPath;
+    }
+
+    /**
+     * Jackson-friendly contents of a conflicts file.
+     */
+    private static class Conflicts {
+        private final String dataFile;
+        private final String detectedAt;
+        private final List<Conflict> conflicts = new ArrayList<>();
+
+        Conflicts(Path dataFile, LocalDateTime detectedAt, List<PersonListMerge.Update> conflicts) {
+            this.dataFile = dataFile.toString();
+            this.detectedAt = detectedAt.toString();
+            for (PersonListMerge.Update conflict : conflicts) {
+                this.conflicts.add(new Conflict(conflict));
+            }
+        }
+    }
+
+    /**
+     * A person as kept in the app and as the other program left it, either of which is null if the person was
+     * removed on that side.
+     */
+    private static class Conflict {
+        private final JsonAdaptedPerson kept;
+        private final JsonAdaptedPerson inDataFile;
+
+        Conflict(PersonListMerge.Update conflict) {
+            this.kept = conflict.getTarget() == null ? null : new JsonAdaptedPerson(conflict.getTarget());
+            this.inDataFile = conflict.getEditedPerson() == null
+                    ? null : new JsonAdaptedPerson(conflict.getEditedPerson());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Watches a data file with a {@link WatchService}, on a background thread, and calls back whenever the file is
+ * created or modified.
+ * <p>
+ * The callback runs once the file has gone {@link #SETTLE_MILLIS} without changing, so a file that another program
+ * writes in several steps is reported once. It is also called for the app's own writes, since the file system does
+ * not say who wrote a file; {@link AddressBookStorage#readExternalChange()} tells those apart.
+ */
+public class DataFileWatcher {
+
+    static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final Path filePath;
+    private final Runnable onChange;
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code DataFileWatcher} that runs {@code onChange} on its own thread whenever the file at
+     * {@code filePath} changes, once started.
+     */
+    public DataFileWatcher(Path filePath, Runnable onChange) {
+        requireNonNull(filePath);
+        requireNonNull(onChange);
+        this.filePath = filePath.toAbsolutePath();
+        this.onChange = onChange;
+    }
+
+    /**
+     * Starts watching on a daemon thread.
+     *
+     * @throws IOException if the folder of the data file cannot be created or watched.
+     */
+    public synchronized void start() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        Path directory = filePath.getParent();
+        Files.createDirectories(directory);
+        WatchService service = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(service, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException e) {
+            service.close();
+            throw e;
+        }
+        watchService = service;
+        Thread thread = new Thread(() -> watch(service), "data-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching " + filePath + " for changes by other programs");
+    }
+
+    /**
+     * Stops watching. A callback in progress is left to finish.
+     */
+    public synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Could not stop watching " + filePath + ": " + StringUtil.getDetails(e));
+        }
+        watchService = null;
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                if (!takeDataFileEvents(service.take())) {
+                    continue;
+                }
+                WatchKey key;
+                while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    takeDataFileEvents(key);
+                }
+                notifyQuietly();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // stopped
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes the pending events of {@code key}, and returns true if any of them may be a change to the data file.
+     */
+    private boolean takeDataFileEvents(WatchKey key) {
+        boolean isDataFileEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isDataFileEvent |= event.kind() == OVERFLOW || filePath.getFileName().equals(event.context());
+        }
+        if (!key.reset()) {
+            logger.warning("Stopped watching " + filePath + ", since its folder can no longer be watched");
+        }
+        return isDataFileEvent;
+    }
+
+    private void notifyQuietly() {
+        try {
+            onChange.run();
+        } catch (RuntimeException e) {
+            // A failed callback must not stop later ones.
+            logger.warning("Could not handle a change to " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataFileChangedException;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Stores AddressBook data as a json file, as {@link JsonAddressBookStorage} does, with the changes made since that
+ * file was last written kept in an {@link AddressBookJournal} beside it.
+ * <p>
+ * Saving appends only what changed since the last save to the journal, and waits until it is on disk, so a change is
+ * not lost if the app stops right after it. Once {@code checkpointInterval} entries have been journaled, or when
+ * {@link #checkpointAddressBook()} is called, the whole data file is rewritten and the journal is emptied.
+ * Reading loads the data file and then replays the entries of the journal that it does not include yet, so
+ * recovering after a crash takes at most {@code checkpointInterval} entries.
+ * <p>
+ * The journal only fits the data file as this storage last read or wrote it, so saving refuses to go on, with a
+ * {@link DataFileChangedException}, once something else has changed the data file, until that change has been read
+ * with {@link #readExternalChange()} and accepted with {@link #acceptExternalChange(DataFileChange)}.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+    private final int checkpointInterval;
+    /** Persons as of the last save or read, or null if neither has happened, in which case the next save is full. */
+    private List<Person> savedPersons;
+    private ReadOnlyAddressBook latestAddressBook;
+    /** Persons in the data file as of the last read or rewrite of it, or null if neither has happened. */
+    private List<Person> checkpointedPersons;
+    /** The data file as of the last read or rewrite of it, or null if neither has happened. */
+    private FileState dataFileState;
+    private long sequence;
+    private long checkpointedSequence;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the data file at {@code filePath}, with the journal in
+     * {@link #getJournalFilePath(Path)}, that rewrites the data file every {@code DEFAULT_CHECKPOINT_INTERVAL}
+     * saves.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that rewrites the data file every {@code checkpointInterval}
+     * saves.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        this(filePath, checkpointInterval, JsonUtil.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that rewrites the data file every {@code checkpointInterval}
+     * saves, compressed at {@code compressionLevel} if its name ends with {@link JsonUtil#COMPRESSED_FILE_EXTENSION}.
+     * The journal is never compressed.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval, int compressionLevel) {
+        requireNonNull(filePath);
+        checkArgument(checkpointInterval > 0, "The checkpoint interval must be positive.");
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, compressionLevel);
+        this.journal = new AddressBookJournal(getJournalFilePath(filePath));
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the path of the journal kept beside the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the data file's data with the journal replayed onto it.
+     * Returns {@code Optional.empty()} if there is neither a data file nor a journal.
+     * Entries that do not fit the data, or hold invalid data, are discarded with the entries after them.
+     *
+     * @throws DataLoadingException if the data file could not be loaded.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        // Taken before reading, so that a change made while reading is seen as a change afterwards.
+        FileState stateBeforeRead = readDataFileState();
+        Optional<JsonAddressBookStorage.Snapshot> snapshot = snapshotStorage.readSnapshot(getAddressBookFilePath());
+        long snapshotSequence = snapshot.map(JsonAddressBookStorage.Snapshot::getJournalSequence).orElse(0L);
+        List<Person> persons = snapshot.map(loaded -> loaded.getAddressBook().getPersonList())
+                .<List<Person>>map(List::copyOf).orElse(List.of());
+        List<Person> snapshotPersons = persons;
+
+        long startNanos = System.nanoTime();
+        List<AddressBookJournal.Entry> entries;
+        try {
+            entries = journal.read();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        long replayedSequence = snapshotSequence;
+        int replayedCount = 0;
+        for (AddressBookJournal.Entry entry : entries) {
+            long entrySequence = entry.get().getSequence();
+            if (entrySequence <= snapshotSequence) {
+                continue; // already in the data file; the journal was not emptied after it was written
+            }
+            try {
+                if (entrySequence != replayedSequence + 1) {
+                    throw new IllegalValueException("Journal entry " + (replayedSequence + 1) + " is missing.");
+                }
+                persons = entry.get().applyTo(persons);
+            } catch (IllegalValueException e) {
+                logger.warning("Discarding journal entries from " + entrySequence + " on: " + e.getMessage());
+                discardFrom(entry);
+                break;
+            }
+            replayedSequence = entrySequence;
+            replayedCount++;
+        }
+
+        if (snapshot.isEmpty() && replayedCount == 0) {
+            return Optional.empty();
+        }
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        if (replayedCount > 0) {
+            int count = replayedCount;
+            long millis = (System.nanoTime() - startNanos) / 1_000_000;
+            logger.info(() -> String.format("Replayed %d journal entries onto %s in %d ms", count,
+                    getAddressBookFilePath(), millis));
+        }
+
+        savedPersons = addressBook.getSnapshot().getPersons();
+        latestAddressBook = addressBook;
+        checkpointedPersons = snapshotPersons;
+        dataFileState = stateBeforeRead;
+        sequence = replayedSequence;
+        checkpointedSequence = snapshotSequence;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Salvages the data file as {@link JsonAddressBookStorage#salvageAddressBook()} does. The journal is not
+     * replayed, since its entries are positions in the whole person list and do not fit what was salvaged, so they
+     * are set aside in the quarantine file instead. The next save rewrites the data file and empties the journal.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataLoadingException {
+        List<String> journalLines;
+        try {
+            journalLines = journal.readLines();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        Optional<ReadOnlyAddressBook> salvaged = JsonAddressBookStorage.salvage(getAddressBookFilePath(),
+                journalLines);
+        savedPersons = null;
+        latestAddressBook = null;
+        checkpointedPersons = null;
+        dataFileState = null;
+        return salvaged;
+    }
+
+    /**
+     * Reads the data file at {@code filePath} alone, without any journal.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return snapshotStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Journals the changes made to {@code addressBook} since the last save and waits until they are on disk,
+     * or rewrites the data file if it is due for a checkpoint.
+     *
+     * @throws DataFileChangedException if something else has changed the data file since this storage last read
+     *     or wrote it, and the change has not been accepted with {@link #acceptExternalChange(DataFileChange)}.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        long position;
+        synchronized (this) {
+            requireUnchangedDataFile();
+            List<Person> persons = addressBook instanceof AddressBook
+                    ? ((AddressBook) addressBook).getSnapshot().getPersons()
+                    : List.copyOf(addressBook.getPersonList());
+            latestAddressBook = addressBook;
+            if (savedPersons == null || sequence - checkpointedSequence >= checkpointInterval) {
+                checkpoint(addressBook, persons);
+                return;
+            }
+            PersonListChange change = PersonListChange.between(savedPersons, persons);
+            if (change == null) {
+                return;
+            }
+            try {
+                position = journal.write(new JsonAdaptedJournalEntry(sequence + 1, change));
+            } catch (IOException e) {
+                // The journal may end in part of the entry, so the next save rewrites the data file instead.
+                savedPersons = null;
+                throw e;
+            }
+            sequence++;
+            savedPersons = persons;
+        }
+        // Other saves may be journaled while this one waits, and are then synced with it.
+        journal.sync(position);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} in full. The journal is not involved.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public synchronized void checkpointAddressBook() throws IOException {
+        if (latestAddressBook == null || sequence == checkpointedSequence) {
+            return;
+        }
+        requireUnchangedDataFile();
+        checkpoint(latestAddressBook, latestAddressBook.getPersonList());
+    }
+
+    /**
+     * Rewrites the data file with {@code addressBook}, whose persons are {@code persons}, and empties the journal.
+     * The journal is emptied only once the new data file, and its directory entry, have been synced to disk.
+     * If the app stops between the two, the entries left in the journal are skipped when it is next read, since
+     * the data file records that it includes them.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook, List<Person> persons) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, getAddressBookFilePath(), sequence);
+        dataFileState = FileState.of(getAddressBookFilePath());
+        checkpointedSequence = sequence;
+        journal.clear();
+        savedPersons = List.copyOf(persons);
+        checkpointedPersons = savedPersons;
+    }
+
+    /**
+     * Returns the data file's persons if something else has changed it since it was last read or rewritten here,
+     * as compared by its file attributes, which is cheap enough to check on every change to the directory. A data
+     * file that was deleted is not a change; the next save writes it again.
+     * <p>
+     * The change is not taken as read until it is passed to {@link #acceptExternalChange(DataFileChange)}, so until
+     * then saving still refuses to overwrite it.
+     */
+    @Override
+    public synchronized Optional<DataFileChange> readExternalChange() throws DataLoadingException {
+        if (dataFileState == null) {
+            return Optional.empty();
+        }
+        FileState currentState = readDataFileState();
+        if (currentState.equals(dataFileState)) {
+            return Optional.empty();
+        }
+        Optional<JsonAddressBookStorage.Snapshot> snapshot = snapshotStorage.readSnapshot(getAddressBookFilePath());
+        List<Person> persons = snapshot.map(loaded -> loaded.getAddressBook().getPersonList())
+                .<List<Person>>map(List::copyOf).orElse(null);
+        if (persons == null) {
+            // Nothing else is lost by writing the data file again, so there is nothing to accept.
+            savedPersons = null;
+            dataFileState = currentState;
+            logger.warning(() -> getAddressBookFilePath() + " was deleted; it will be written again on the next save");
+            return Optional.empty();
+        }
+        return Optional.of(new DataFileChange(getAddressBookFilePath(), dataFileState, checkpointedPersons,
+                currentState, persons));
+    }
+
+    /**
+     * Takes {@code change} as read, so that saves go on again, and rewrite the data file in full since the journal
+     * does not fit the changed data file. Returns false, leaving everything as it was, if the data file this storage
+     * last read or wrote is no longer the one {@code change} was read against.
+     */
+    @Override
+    public synchronized boolean acceptExternalChange(DataFileChange change) {
+        requireNonNull(change);
+        if (!change.getPreviousFileState().equals(dataFileState)) {
+            return false;
+        }
+        savedPersons = null;
+        dataFileState = change.getFileState();
+        checkpointedPersons = change.getPersons();
+        return true;
+    }
+
+    private void requireUnchangedDataFile() throws IOException {
+        if (dataFileState != null && !FileState.of(getAddressBookFilePath()).equals(dataFileState)) {
+            throw new DataFileChangedException(getAddressBookFilePath());
+        }
+    }
+
+    private FileState readDataFileState() throws DataLoadingException {
+        try {
+            return FileState.of(getAddressBookFilePath());
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void discardFrom(AddressBookJournal.Entry entry) throws DataLoadingException {
+        try {
+            journal.discardFrom(entry);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * What tells one version of a file from another without reading it: a file that is replaced gets a new file
+     * key, where the file system has them, and one that is rewritten in place a new modification time or size.
+     */
+    record FileState(Object fileKey, FileTime lastModifiedTime, long size) {
+        static final FileState MISSING = new FileState(null, null, -1);
+
+        static FileState of(Path file) throws IOException {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return new FileState(attributes.fileKey(), attributes.lastModifiedTime(), attributes.size());
+            } catch (NoSuchFileException e) {
+                return MISSING;
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -18,6 +19,8 @@ class JsonAdaptedBooking {
     private final String clientName;
     private final String datetime;
     private final String description;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String eventUid;
 
     /**
      * Constructs a {@code JsonAdaptedBooking} with the given booking details.
@@ -27,10 +30,12 @@ class JsonAdaptedBooking {
     public JsonAdaptedBooking(@JsonProperty("id") String id, // Kept for backward compatibility, not used
                               @JsonProperty("clientName") String clientName,
                               @JsonProperty("datetime") String datetime,
-                              @JsonProperty("description") String description) {
+                              @JsonProperty("description") String description,
+                              @JsonProperty("eventUid") String eventUid) {
         this.clientName = clientName;
         this.datetime = datetime;
         this.description = description;
+        this.eventUid = eventUid;
     }
 
     /**
@@ -40,6 +45,7 @@ class JsonAdaptedBooking {
         clientName = source.getClientName();
         datetime = source.getDateTimeString();
         description = source.getDescription();
+        eventUid = source.getEventUid();
     }
 
     /**
@@ -72,7 +78,27 @@ class JsonAdaptedBooking {
         }
         final String modelDescription = description;
 
-        return new Booking(modelClientName, modelDatetime, modelDescription);
+        if (eventUid != null && !Booking.isValidEventUid(eventUid)) {
+            throw new IllegalValueException(Booking.MESSAGE_CONSTRAINTS_EVENT_UID);
+        }
+
+        return new Booking(modelClientName, modelDatetime, modelDescription, eventUid);
+    }
+
+    /**
+     * Converts this adapted booking into the model's {@code Booking} object without checking or normalizing it.
+     *
+     * @see JsonSerializableAddressBook#toModelType()
+     */
+    public Booking toTrustedModelType() {
+        return Booking.ofTrusted(clientName, Booking.parseTrustedDateTime(datetime), description, eventUid);
+    }
+
+    /**
+     * Adds the values of this booking to {@code hash}.
+     */
+    void addTo(ContentHash hash) {
+        hash.add(clientName).add(datetime).add(description).add(eventUid);
     }
 }
 
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+
+/**
+ * Jackson-friendly version of one entry of the {@link AddressBookJournal}: the change that one save made to the
+ * list of persons, as the persons that replaced {@code removedCount} persons from {@code start} onwards.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal entry %1$d does not fit the data it follows.";
+
+    private final long sequence;
+    private final int start;
+    private final int removedCount;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence, @JsonProperty("start") int start,
+            @JsonProperty("removedCount") int removedCount,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.sequence = sequence;
+        this.start = start;
+        this.removedCount = removedCount;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts a given {@code PersonListChange} into this class for Jackson use, as entry number {@code sequence}.
+     */
+    public JsonAdaptedJournalEntry(long sequence, PersonListChange change) {
+        this.sequence = sequence;
+        this.start = change.getStart();
+        this.removedCount = change.getBefore().size();
+        persons.addAll(change.getAfter().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns {@code currentPersons} with the change in this entry made to them.
+     *
+     * @throws IllegalValueException if the change does not fit {@code currentPersons}, or there were any data
+     *     constraints violated in the persons of this entry.
+     */
+    public List<Person> applyTo(List<Person> currentPersons) throws IllegalValueException {
+        if (start < 0 || removedCount < 0 || start + removedCount > currentPersons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_RANGE, sequence));
+        }
+        List<Person> insertedPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            insertedPersons.add(person.toModelType());
+        }
+        return new PersonListChange(start, currentPersons.subList(start, start + removedCount), insertedPersons)
+                .apply(currentPersons);
+    }
+}
@@ -114,4 +114,37 @@ class JsonAdaptedPerson {
         return new Person(modelName, modelPhone, modelEmail, modelTags, personBookings);
     }
 
+    /**
+     * Converts this adapted person into the model's {@code Person} object without checking its fields, which
+     * must already be known to be valid.
+     *
+     * @see JsonSerializableAddressBook#toModelType()
+     */
+    public Person toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        final List<Booking> modelBookings = new ArrayList<>(bookings.size());
+        for (JsonAdaptedBooking booking : bookings) {
+            modelBookings.add(booking.toTrustedModelType());
+        }
+        return new Person(Name.ofTrusted(name), phone == null ? null : Phone.ofTrusted(phone),
+                email == null ? null : Email.ofTrusted(email), modelTags, modelBookings);
+    }
+
+    /**
+     * Adds the values of this person, including its tags and bookings, to {@code hash}.
+     */
+    void addTo(ContentHash hash) {
+        hash.add(name).add(phone).add(email).add(tags.size());
+        for (JsonAdaptedTag tag : tags) {
+            hash.add(tag.getTagName());
+        }
+        hash.add(bookings.size());
+        for (JsonAdaptedBooking booking : bookings) {
+            booking.addTo(hash);
+        }
+    }
+
 }
@@ -45,4 +45,13 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this adapted tag into the model's {@code Tag} object without checking it.
+     *
+     * @see JsonSerializableAddressBook#toModelType()
+     */
+    public Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName);
+    }
+
 }
@@ -1,30 +1,47 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
- * A class to access AddressBook data stored as a json file on the hard disk.
+ * A class to access AddressBook data stored as a json file on the hard disk, optionally GZIP-compressed.
+ * Each read and save is emitted as an {@code AddressBookFileEvent} for Flight Recorder.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, JsonUtil.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes data files whose names end with
+     * {@link JsonUtil#COMPRESSED_FILE_EXTENSION} GZIP-compressed at {@code compressionLevel}. Compressed files are
+     * read whatever their names.
+     */
+    public JsonAddressBookStorage(Path filePath, int compressionLevel) {
+        checkArgument(JsonUtil.isValidCompressionLevel(compressionLevel),
+                JsonUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
@@ -43,19 +60,53 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
+        return readSnapshot(filePath).map(Snapshot::getAddressBook);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but also returns the sequence number of the last journal entry
+     * that the data includes.
+     */
+    Optional<Snapshot> readSnapshot(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
 
+        AddressBookFileEvent event = new AddressBookFileEvent();
+        event.begin();
+        Optional<Snapshot> snapshot = Optional.empty();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (jsonAddressBook.isPresent()) {
+                snapshot = Optional.of(new Snapshot(jsonAddressBook.get().toModelType(),
+                        jsonAddressBook.get().getJournalSequence()));
+            }
+            return snapshot;
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } finally {
+            commit(event, AddressBookFileEvent.READ, filePath, snapshot.map(Snapshot::getAddressBook).orElse(null));
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataLoadingException {
+        return salvage(filePath, List.of());
+    }
+
+    /**
+     * Returns the valid persons in the data file at {@code filePath}, and sets aside the rest, together with
+     * {@code unappliedJournalEntries}, in a quarantine file.
+     */
+    static Optional<ReadOnlyAddressBook> salvage(Path filePath, List<String> unappliedJournalEntries)
+            throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new AddressBookSalvager(filePath).salvage(unappliedJournalEntries).getAddressBook());
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
         }
     }
 
@@ -70,11 +121,72 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, 0);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, recording that the data includes every
+     * journal entry up to {@code journalSequence}. The file is replaced atomically, so a crash while saving
+     * leaves the previous data in place.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        AddressBookFileEvent event = new AddressBookFileEvent();
+        event.begin();
+        try {
+            JsonUtil.saveJsonFileAtomically(new JsonSerializableAddressBook(addressBook, journalSequence), filePath,
+                    compressionLevel);
+        } finally {
+            commit(event, AddressBookFileEvent.SAVE, filePath, addressBook);
+        }
+    }
+
+    @Override
+    public void checkpointAddressBook() {
+        // Every save is written to the data file itself.
     }
 
+    /**
+     * Ends {@code event} and commits it with the details of the file, if Flight Recorder is recording it.
+     * {@code addressBook} is null if none was read.
+     */
+    private static void commit(AddressBookFileEvent event, String operation, Path filePath,
+            ReadOnlyAddressBook addressBook) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.path = filePath.toString();
+        try {
+            event.bytes = Files.size(filePath);
+        } catch (IOException e) {
+            event.bytes = -1;
+        }
+        event.personCount = addressBook == null ? -1 : addressBook.getPersonList().size();
+        event.commit();
+    }
+
+    /**
+     * The data read from a file, and the sequence number of the last journal entry it includes.
+     */
+    static class Snapshot {
+        private final AddressBook addressBook;
+        private final long journalSequence;
+
+        Snapshot(AddressBook addressBook, long journalSequence) {
+            this.addressBook = addressBook;
+            this.journalSequence = journalSequence;
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        long getJournalSequence() {
+            return journalSequence;
+        }
+    }
 }
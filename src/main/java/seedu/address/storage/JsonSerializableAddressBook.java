@@ -1,33 +1,57 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * <p>
+ * A file written by this app records the schema version it was written with and a {@link ContentHash} of its
+ * persons. If both still match when it is read back, the file has not been changed since this app validated and
+ * wrote it, so its persons are built without validating them again. Otherwise, such as after the file is edited by
+ * hand, every value is validated. {@code SCHEMA_VERSION} must be increased whenever the format or the validation
+ * rules change, so that files written under the old rules are validated again.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final int SCHEMA_VERSION = 1;
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
+    private final int schemaVersion;
+    private final String contentHash;
+    private final long journalSequence;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, which include every journal entry
+     * up to {@code journalSequence}. Files written before the journal existed have no sequence, which reads as 0,
+     * and files written before the content hash existed have no schema version or hash, and are always validated.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("schemaVersion") int schemaVersion,
+            @JsonProperty("contentHash") String contentHash,
+            @JsonProperty("journalSequence") long journalSequence,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.schemaVersion = schemaVersion;
+        this.contentHash = contentHash;
+        this.journalSequence = journalSequence;
         this.persons.addAll(persons);
     }
 
@@ -37,24 +61,103 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} that includes every journal entry up to {@code journalSequence}
+     * into this class for Jackson use.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long journalSequence) {
+        this(source.getPersonList(), journalSequence);
+    }
+
+    /**
+     * Converts the given persons, which include every journal entry up to {@code journalSequence}, into this class
+     * for Jackson use.
+     */
+    JsonSerializableAddressBook(Collection<Person> source, long journalSequence) {
+        persons.addAll(source.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+        this.schemaVersion = SCHEMA_VERSION;
+        this.contentHash = computeContentHash();
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns true if this address book was written by this app, under the current schema, and has not been
+     * changed since.
+     */
+    boolean isTrusted() {
+        return schemaVersion == SCHEMA_VERSION && contentHash != null && contentHash.equals(computeContentHash());
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Converts this address book into the model's {@code AddressBook} object, without validating its persons again
+     * if it {@link #isTrusted() is trusted}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(toModelPersons());
+    }
+
+    /**
+     * Converts the persons in this address book into the model's {@code Person} objects, in order, as
+     * {@link #toModelType()} does, without checking for duplicates.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    List<Person> toModelPersons() throws IllegalValueException {
+        if (isTrusted()) {
+            try {
+                return toTrustedPersons();
+            } catch (RuntimeException e) {
+                logger.warning("Trusted data could not be loaded, validating it instead: " + e);
             }
-            addressBook.addPerson(person);
+        }
+        return toValidatedPersons();
+    }
+
+    private List<Person> toTrustedPersons() {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toTrustedModelType());
+        }
+        return modelPersons;
+    }
+
+    private List<Person> toValidatedPersons() throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return modelPersons;
+    }
+
+    /**
+     * Returns an address book of {@code modelPersons}, added all at once rather than one at a time, since each
+     * single addition copies the list.
+     */
+    private static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    private String computeContentHash() {
+        ContentHash hash = new ContentHash().add(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            person.addTo(hash);
+        }
+        return hash.toHex();
+    }
+
 }
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of one shard of a {@link ShardedAddressBookStorage}, serializable to JSON format, each with its
+ * position in the address book's list. The persons are trusted or validated as in any
+ * {@link JsonSerializableAddressBook}; the positions only decide their order.
+ */
+@JsonIgnoreProperties({"journalSequence"})
+class JsonSerializableShard extends JsonSerializableAddressBook {
+
+    public static final String MESSAGE_POSITIONS_MISMATCH = "Shard has %d position(s) for %d person(s).";
+
+    private final int shard;
+    private final int shardCount;
+    private final List<Long> positions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given shard number, persons and their positions.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("shard") int shard, @JsonProperty("shardCount") int shardCount,
+            @JsonProperty("schemaVersion") int schemaVersion, @JsonProperty("contentHash") String contentHash,
+            @JsonProperty("positions") List<Long> positions,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        super(schemaVersion, contentHash, 0, persons);
+        this.shard = shard;
+        this.shardCount = shardCount;
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+    }
+
+    /**
+     * Converts the persons of shard {@code shard} of {@code shardCount}, keyed by their positions, into this class
+     * for Jackson use.
+     */
+    public JsonSerializableShard(int shard, int shardCount, SortedMap<Long, Person> persons) {
+        super(persons.values(), 0);
+        this.shard = shard;
+        this.shardCount = shardCount;
+        this.positions.addAll(persons.keySet());
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public List<Long> getPositions() {
+        return positions;
+    }
+
+    /**
+     * Converts the persons in this shard into the model's {@code Person} objects, in the order of their positions
+     * in this file.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or the persons do not each have
+     *     a position.
+     */
+    @Override
+    List<Person> toModelPersons() throws IllegalValueException {
+        List<Person> persons = super.toModelPersons();
+        if (positions.size() != persons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_POSITIONS_MISMATCH, positions.size(),
+                    persons.size()));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,474 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Stores AddressBook data in a directory of JSON files, {@code shard-0.json} to {@code shard-<n-1>.json}, each
+ * holding the persons of one shard, so that reading and saving work on files the size of a shard rather than of the
+ * whole address book.
+ * <p>
+ * A person belongs to the shard given by the hash of its name. Each shard file records each of its persons'
+ * position in the address book's list. Positions are spaced apart, so that persons can be added or removed without
+ * renumbering the others. Shard files are read in parallel and merged in position order. After the first save or a
+ * read, each save finds what changed since the last one with {@link PersonListChange#between} and rewrites only the
+ * shards of the persons that changed, in parallel, each atomically.
+ * <p>
+ * A save that changes several shards, such as a rename that moves a person to another shard, is not atomic across
+ * them. After a crash part of the way through, the person may be in both shards, which makes reading fail and
+ * salvaging keep the first.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    /** Marks a data file path that does not exist yet as a directory of shards. */
+    public static final String DIRECTORY_SUFFIX = ".shards";
+    static final long POSITION_GAP = 1L << 20;
+    static final String MESSAGE_MISSING_SHARDS = "The shards in %s are not shards 0 to %d of %d.";
+    static final String MESSAGE_WRONG_SHARD = "%s holds shard %d of %d.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("shard-(\\d+)\\.json");
+    /** Reads and writes shard files, shared by every instance since shards are only read and saved a few at once. */
+    private static final ExecutorService shardIo = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), task -> {
+                Thread thread = new Thread(task, "shard-io");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Path directory;
+    /** The number of shards, which is the directory's own once it has been read. */
+    private int shardCount;
+    /** Persons as of the last save or read, or null if neither has happened, in which case the next save is full. */
+    private List<Person> savedPersons;
+    /** The position of each of {@code savedPersons}. */
+    private long[] savedPositions;
+    /** The persons in each shard, keyed by position, as of the last save or read. */
+    private List<TreeMap<Long, Person>> shards;
+
+    public ShardedAddressBookStorage(Path directory) {
+        this(directory, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a storage for the shard files in {@code directory}, which spreads persons over {@code shardCount}
+     * shards unless the directory already holds shards.
+     */
+    public ShardedAddressBookStorage(Path directory, int shardCount) {
+        requireNonNull(directory);
+        checkArgument(shardCount > 0, "The number of shards must be positive.");
+        this.directory = directory;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns true if the data at {@code filePath} should be stored as shards: if it is an existing directory, or
+     * its name ends with {@link #DIRECTORY_SUFFIX}. Any other path, including an existing file without an extension,
+     * is a single data file.
+     */
+    public static boolean isShardDirectory(Path filePath) {
+        return Files.isDirectory(filePath) || filePath.getFileName().toString().endsWith(DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        try {
+            List<Path> files = listShardFiles();
+            if (files.isEmpty()) {
+                return Optional.empty();
+            }
+            List<Callable<Shard>> reads = new ArrayList<>();
+            files.forEach(file -> reads.add(() -> readShard(file)));
+            List<Shard> loaded = runAll(reads);
+            checkComplete(loaded);
+
+            List<Entry> entries = sortedEntries(loaded);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(entries.stream().map(Entry::person).toList());
+            remember(loaded.get(0).shardCount(), addressBook.getSnapshot().getPersons(), entries);
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading shards from " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, for the shards in {@code filePath}.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(directory)) {
+            return readAddressBook();
+        }
+        return new ShardedAddressBookStorage(filePath, shardCount).readAddressBook();
+    }
+
+    /**
+     * Loads the shards that can be read as they are, in position order, followed by the valid persons of the rest,
+     * salvaged as {@link JsonAddressBookStorage#salvageAddressBook()} does, with a quarantine file beside each.
+     * Persons whose names are already loaded are left out. The next save rewrites every shard.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataLoadingException {
+        savedPersons = null;
+        try {
+            List<Path> files = listShardFiles();
+            if (files.isEmpty()) {
+                return Optional.empty();
+            }
+            List<Shard> readable = new ArrayList<>();
+            List<Person> salvaged = new ArrayList<>();
+            for (Path file : files) {
+                try {
+                    readable.add(readShard(file));
+                } catch (IOException e) {
+                    logger.warning("Salvaging " + file + ": " + e.getMessage());
+                    salvaged.addAll(new AddressBookSalvager(file).salvage(List.of()).getAddressBook()
+                            .getPersonList());
+                }
+            }
+
+            List<Person> persons = new ArrayList<>();
+            sortedEntries(readable).forEach(entry -> persons.add(entry.person()));
+            persons.addAll(salvaged);
+            Set<Name> names = new HashSet<>();
+            List<Person> unique = persons.stream().filter(person -> names.add(person.getName())).toList();
+            if (unique.size() < persons.size()) {
+                logger.warning(() -> String.format("Left out %d person(s) found in more than one shard of %s",
+                        persons.size() - unique.size(), directory));
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(unique);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Rewrites the shards of the persons changed since the last save or read, or every shard if there was neither.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).getSnapshot().getPersons()
+                : List.copyOf(addressBook.getPersonList());
+        try {
+            if (savedPersons == null) {
+                writeAll(persons);
+            } else {
+                writeChange(persons);
+            }
+        } catch (IOException | RuntimeException e) {
+            savedPersons = null; // the shards no longer certainly match, so rewrite them all next time
+            throw e;
+        }
+    }
+
+    /**
+     * Writes every shard of {@code addressBook} to the directory {@code filePath}, replacing what is there.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(directory)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        new ShardedAddressBookStorage(filePath, shardCount).saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void checkpointAddressBook() {
+        // Every save is written to the shard files themselves.
+    }
+
+    private void writeAll(List<Person> persons) throws IOException {
+        List<Entry> entries = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            entries.add(new Entry(i * POSITION_GAP, persons.get(i)));
+        }
+        remember(shardCount, persons, entries);
+        Set<Integer> all = new TreeSet<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            all.add(shard);
+        }
+        writeShards(all);
+        for (Path file : listShardFiles()) {
+            if (shardNumberOf(file) >= shardCount) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Gives the persons that were added or edited since the last save positions between their neighbours', and
+     * rewrites the shards they and the persons they replace belong to. If there is no room between the neighbours'
+     * positions, every person is given a new position, and every shard is rewritten.
+     */
+    private void writeChange(List<Person> persons) throws IOException {
+        PersonListChange change = PersonListChange.between(savedPersons, persons);
+        if (change == null) {
+            return;
+        }
+        int start = change.getStart();
+        List<Person> before = change.getBefore();
+        List<Person> after = change.getAfter();
+        long[] positions = allocatePositions(savedPositions, start, before.size(), after.size());
+        if (positions == null) {
+            logger.info("No room for new positions in " + directory + ", renumbering every person");
+            writeAll(persons);
+            return;
+        }
+
+        Set<Integer> dirty = new TreeSet<>();
+        for (int i = 0; i < before.size(); i++) {
+            int shard = shardOf(before.get(i));
+            shards.get(shard).remove(savedPositions[start + i]);
+            dirty.add(shard);
+        }
+        for (int i = 0; i < after.size(); i++) {
+            int shard = shardOf(after.get(i));
+            shards.get(shard).put(positions[start + i], after.get(i));
+            dirty.add(shard);
+        }
+        writeShards(dirty);
+        savedPersons = persons;
+        savedPositions = positions;
+    }
+
+    /**
+     * Returns the positions of the persons in a list that had {@code removed} persons from {@code start} replaced
+     * by {@code added} persons, where {@code oldPositions} are the positions before. Persons outside the change
+     * keep their positions, and if as many persons were added as removed, they take the removed persons'
+     * positions. Returns null if there is no room for the added persons between their neighbours' positions.
+     */
+    static long[] allocatePositions(long[] oldPositions, int start, int removed, int added) {
+        long[] positions = new long[oldPositions.length - removed + added];
+        System.arraycopy(oldPositions, 0, positions, 0, start);
+        System.arraycopy(oldPositions, start + removed, positions, start + added,
+                oldPositions.length - start - removed);
+        if (added == removed) {
+            System.arraycopy(oldPositions, start, positions, start, added);
+            return positions;
+        }
+
+        boolean hasLower = start > 0;
+        boolean hasUpper = start + removed < oldPositions.length;
+        long lower = hasLower ? oldPositions[start - 1] : 0;
+        long upper = hasUpper ? oldPositions[start + removed] : 0;
+        long step = hasLower && hasUpper ? (upper - lower) / (added + 1) : POSITION_GAP;
+        if (step == 0) {
+            return null;
+        }
+        for (int i = 0; i < added; i++) {
+            if (hasLower) {
+                positions[start + i] = lower + (i + 1) * step;
+            } else if (hasUpper) {
+                positions[start + i] = upper - (added - i) * step;
+            } else {
+                positions[start + i] = i * step;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Records {@code persons}, whose positions and shards are in {@code entries}, as saved. If any person is not in
+     * the shard its name belongs to, or two persons have the same position, the next save rewrites every shard.
+     */
+    private void remember(int shardCount, List<Person> persons, List<Entry> entries) {
+        this.shardCount = shardCount;
+        shards = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(new TreeMap<>());
+        }
+        savedPositions = new long[entries.size()];
+        boolean isConsistent = true;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            savedPositions[i] = entry.position();
+            shards.get(shardOf(entry.person())).put(entry.position(), entry.person());
+            isConsistent &= entry.shard() < 0 || entry.shard() == shardOf(entry.person());
+            isConsistent &= i == 0 || savedPositions[i - 1] < savedPositions[i];
+        }
+        savedPersons = isConsistent ? persons : null;
+    }
+
+    private void writeShards(Set<Integer> dirty) throws IOException {
+        List<Callable<Void>> writes = new ArrayList<>();
+        for (int shard : dirty) {
+            JsonSerializableShard contents = new JsonSerializableShard(shard, shardCount, shards.get(shard));
+            Path file = shardFile(shard);
+            writes.add(() -> {
+                FileUtil.writeToFileAtomically(file, JsonUtil.toJsonString(contents));
+                return null;
+            });
+        }
+        runAll(writes);
+        logger.fine(() -> "Saved " + dirty.size() + " of " + shardCount + " shards in " + directory);
+    }
+
+    /**
+     * Returns the shard that {@code person} belongs to. {@code String#hashCode()} is specified exactly, so a
+     * person's shard is the same on every run and platform.
+     */
+    private int shardOf(Person person) {
+        return Math.floorMod(person.getName().fullName.hashCode(), shardCount);
+    }
+
+    private Path shardFile(int shard) {
+        return directory.resolve("shard-" + shard + ".json");
+    }
+
+    private List<Path> listShardFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> SHARD_FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingInt(ShardedAddressBookStorage::shardNumberOf))
+                    .toList();
+        }
+    }
+
+    private static int shardNumberOf(Path file) {
+        Matcher matcher = SHARD_FILE_NAME.matcher(file.getFileName().toString());
+        checkArgument(matcher.matches());
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    /**
+     * Reads and validates the shard file {@code file}.
+     *
+     * @throws IOException if the file cannot be read, or does not hold the shard its name says, or holds invalid
+     *     persons.
+     */
+    private static Shard readShard(Path file) throws IOException {
+        try {
+            JsonSerializableShard json = JsonUtil.readJsonFile(file, JsonSerializableShard.class)
+                    .orElseThrow(() -> new NoSuchFileException(file.toString()));
+            if (json.getShard() != shardNumberOf(file) || json.getShardCount() <= json.getShard()) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_SHARD, file, json.getShard(),
+                        json.getShardCount()));
+            }
+            return new Shard(json.getShard(), json.getShardCount(), json.getPositions(), json.toModelPersons());
+        } catch (DataLoadingException | IllegalValueException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Checks that {@code loaded} are all the shards of one directory, numbered 0 up to their number of shards.
+     */
+    private void checkComplete(List<Shard> loaded) throws IllegalValueException {
+        int count = loaded.get(0).shardCount();
+        for (int i = 0; i < loaded.size(); i++) {
+            if (loaded.get(i).shard() != i || loaded.get(i).shardCount() != count || loaded.size() != count) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARDS, directory, count - 1, count));
+            }
+        }
+    }
+
+    /**
+     * Returns the persons in {@code loaded}, with their positions and shards, in position order.
+     */
+    private static List<Entry> sortedEntries(List<Shard> loaded) {
+        List<Entry> entries = new ArrayList<>();
+        for (Shard shard : loaded) {
+            for (int i = 0; i < shard.persons().size(); i++) {
+                entries.add(new Entry(shard.positions().get(i), shard.persons().get(i), shard.shard()));
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::position));
+        return entries;
+    }
+
+    /**
+     * Runs {@code tasks} on the shard I/O threads, and returns their results in order once they have all finished.
+     *
+     * @throws IOException the first task's failure, if any fail.
+     */
+    private static <T> List<T> runAll(List<Callable<T>> tasks) throws IOException {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : shardIo.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading or writing shards");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * The persons read from one shard file, in the order of the file, and their positions.
+     */
+    private record Shard(int shard, int shardCount, List<Long> positions, List<Person> persons) {}
+
+    /**
+     * A person and its position, and the shard it was read from, or -1 if it was not read from a shard.
+     */
+    private record Entry(long position, Person person, int shard) {
+        Entry(long position, Person person) {
+            this(position, person, -1);
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores AddressBook data in an embedded SQLite database file, with persons, tags and bookings in separate tables.
+ * <p>
+ * Names, tag names and booking datetimes are indexed, and persons keep their list order in a {@code position}
+ * column. The first save rewrites every row. After that, or after a read, each save finds what changed since the
+ * last one with {@link PersonListChange#between} and writes only the rows of the persons that changed, as deletes
+ * and upserts keyed on the person's name, in one transaction.
+ * <p>
+ * Rows are validated as they are read, as the values of a JSON data file are.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    /** Data files whose names end with this are databases rather than JSON. */
+    public static final String FILE_EXTENSION = ".db";
+    static final int SCHEMA_VERSION = 1;
+    static final String MESSAGE_NEWER_SCHEMA = "The database %s was written by a newer version of the app.";
+    static final String MESSAGE_NOT_READ_BACK = "The database %s does not read back the same persons.";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS persons (id INTEGER PRIMARY KEY, position INTEGER NOT NULL, "
+                + "name TEXT NOT NULL UNIQUE, phone TEXT, email TEXT)",
+        "CREATE INDEX IF NOT EXISTS persons_by_position ON persons (position)",
+        "CREATE TABLE IF NOT EXISTS tags (person_id INTEGER NOT NULL REFERENCES persons (id), "
+                + "name TEXT NOT NULL, PRIMARY KEY (person_id, name))",
+        "CREATE INDEX IF NOT EXISTS tags_by_name ON tags (name)",
+        "CREATE TABLE IF NOT EXISTS bookings (person_id INTEGER NOT NULL REFERENCES persons (id), "
+                + "position INTEGER NOT NULL, client_name TEXT NOT NULL, datetime TEXT NOT NULL, "
+                + "description TEXT NOT NULL, event_uid TEXT, PRIMARY KEY (person_id, position))",
+        "CREATE INDEX IF NOT EXISTS bookings_by_datetime ON bookings (datetime)",
+    };
+    private static final String INSERT_PERSON =
+            "INSERT INTO persons (id, position, name, phone, email) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPSERT_PERSON = "INSERT INTO persons (position, name, phone, email) "
+            + "VALUES (?, ?, ?, ?) ON CONFLICT (name) DO UPDATE SET "
+            + "position = excluded.position, phone = excluded.phone, email = excluded.email";
+    private static final String SELECT_PERSON_ID = "SELECT id FROM persons WHERE name = ?";
+    private static final String DELETE_PERSON = "DELETE FROM persons WHERE id = ?";
+    private static final String SHIFT_POSITIONS = "UPDATE persons SET position = position + ? WHERE position >= ?";
+    private static final String INSERT_TAG = "INSERT INTO tags (person_id, name) VALUES (?, ?)";
+    private static final String DELETE_TAGS = "DELETE FROM tags WHERE person_id = ?";
+    private static final String INSERT_BOOKING = "INSERT INTO bookings "
+            + "(person_id, position, client_name, datetime, description, event_uid) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_BOOKINGS = "DELETE FROM bookings WHERE person_id = ?";
+
+    private final Path filePath;
+    /** Opened on first use, and kept open, since opening a database costs far more than a small transaction. */
+    private Connection connection;
+    /** Persons as of the last save or read, or null if neither has happened, in which case the next save is full. */
+    private List<Person> savedPersons;
+
+    public SqlAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} should be stored as a database.
+     */
+    public static boolean isDatabaseFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try {
+            AddressBook addressBook = toAddressBook(readRows(getConnection()));
+            savedPersons = addressBook.getSnapshot().getPersons();
+            return Optional.of(addressBook);
+        } catch (SQLException | IOException | IllegalValueException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, for the database at {@code filePath}.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            return readAddressBook();
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (Connection other = open(filePath)) {
+            return Optional.of(toAddressBook(readRows(other)));
+        } catch (SQLException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads every row without validating it, and salvages the valid persons as
+     * {@link JsonAddressBookStorage#salvageAddressBook()} does. The next save rewrites every row.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        savedPersons = null;
+        try {
+            List<JsonAdaptedPerson> rows = readRows(getConnection());
+            return Optional.of(new AddressBookSalvager(filePath).salvagePersons(rows).getAddressBook());
+        } catch (SQLException | IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Writes the rows of the persons changed since the last save or read, or every row if there was neither.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).getSnapshot().getPersons()
+                : List.copyOf(addressBook.getPersonList());
+        PersonListChange change = savedPersons == null ? null : PersonListChange.between(savedPersons, persons);
+        if (savedPersons != null && change == null) {
+            return;
+        }
+        try {
+            Connection database = getConnection();
+            inTransaction(database, () -> {
+                if (change == null) {
+                    writeAll(database, persons);
+                } else {
+                    writeChange(database, change);
+                }
+            });
+            savedPersons = persons;
+        } catch (SQLException e) {
+            savedPersons = null; // the rows no longer certainly match, so rewrite them all next time
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Writes every row of {@code addressBook} to the database at {@code filePath}, replacing what is there.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        try (Connection other = open(filePath)) {
+            inTransaction(other, () -> writeAll(other, addressBook.getPersonList()));
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Writes every row of {@code addressBook} to a new database at {@code filePath}, and checks that the database
+     * reads back the same persons. The database is closed, with its write-ahead log folded into it, before this
+     * returns. If it fails, the database is deleted again, so that the copy can be retried.
+     *
+     * @throws IOException if the database could not be written, or does not read back the same persons.
+     */
+    public static void copyToDatabase(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try {
+            writeAndCheck(addressBook, filePath);
+        } catch (IOException e) {
+            deleteDatabase(filePath, e);
+            throw e;
+        }
+    }
+
+    private static void writeAndCheck(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        AddressBook readBack;
+        try (Connection database = open(filePath)) {
+            inTransaction(database, () -> writeAll(database, addressBook.getPersonList()));
+            readBack = toAddressBook(readRows(database));
+        } catch (SQLException | IllegalValueException e) {
+            throw new IOException(e);
+        }
+        if (!readBack.getPersonList().equals(addressBook.getPersonList())) {
+            throw new IOException(String.format(MESSAGE_NOT_READ_BACK, filePath));
+        }
+    }
+
+    /**
+     * Deletes the database at {@code filePath}, with its write-ahead log and shared-memory files, after
+     * {@code cause} stopped it from being written. Files that cannot be deleted are recorded in {@code cause}.
+     */
+    private static void deleteDatabase(Path filePath, IOException cause) {
+        for (String suffix : List.of("", "-wal", "-shm")) {
+            try {
+                Files.deleteIfExists(filePath.resolveSibling(filePath.getFileName() + suffix));
+            } catch (IOException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Moves every committed change from the write-ahead log into the database file itself.
+     */
+    @Override
+    public synchronized void checkpointAddressBook() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA wal_checkpoint(TRUNCATE)");
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private Connection getConnection() throws SQLException, IOException {
+        if (connection == null) {
+            FileUtil.createParentDirsOfFile(filePath);
+            connection = open(filePath);
+        }
+        return connection;
+    }
+
+    /**
+     * Opens the database at {@code filePath}, creating its tables if it is new.
+     */
+    private static Connection open(Path filePath) throws SQLException {
+        Connection database = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+        try (Statement statement = database.createStatement()) {
+            statement.execute("PRAGMA foreign_keys = ON");
+            statement.execute("PRAGMA journal_mode = WAL");
+            int version;
+            try (ResultSet result = statement.executeQuery("PRAGMA user_version")) {
+                version = result.next() ? result.getInt(1) : 0;
+            }
+            if (version > SCHEMA_VERSION) {
+                throw new SQLException(String.format(MESSAGE_NEWER_SCHEMA, filePath));
+            }
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+            statement.execute("PRAGMA user_version = " + SCHEMA_VERSION);
+        } catch (SQLException e) {
+            database.close();
+            throw e;
+        }
+        return database;
+    }
+
+    /**
+     * Returns every person in {@code database}, in list order, as they are stored, without validating them.
+     */
+    private static List<JsonAdaptedPerson> readRows(Connection database) throws SQLException {
+        Map<Long, List<JsonAdaptedTag>> tags = new HashMap<>();
+        Map<Long, List<JsonAdaptedBooking>> bookings = new HashMap<>();
+        try (Statement statement = database.createStatement()) {
+            try (ResultSet rows = statement.executeQuery("SELECT person_id, name FROM tags")) {
+                while (rows.next()) {
+                    tags.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>())
+                            .add(new JsonAdaptedTag(rows.getString(2)));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT person_id, client_name, datetime, description, "
+                    + "event_uid FROM bookings ORDER BY person_id, position")) {
+                while (rows.next()) {
+                    bookings.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>()).add(new JsonAdaptedBooking(
+                            null, rows.getString(2), rows.getString(3), rows.getString(4), rows.getString(5)));
+                }
+            }
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT id, name, phone, email FROM persons ORDER BY position")) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    persons.add(new JsonAdaptedPerson(rows.getString(2), rows.getString(3), rows.getString(4),
+                            tags.get(id), bookings.get(id)));
+                }
+            }
+            return persons;
+        }
+    }
+
+    private static AddressBook toAddressBook(List<JsonAdaptedPerson> rows) throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(rows.size());
+        for (JsonAdaptedPerson row : rows) {
+            persons.add(row.toModelType());
+        }
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    private static void writeAll(Connection database, List<Person> persons) throws SQLException {
+        try (Statement statement = database.createStatement()) {
+            statement.execute("DELETE FROM bookings");
+            statement.execute("DELETE FROM tags");
+            statement.execute("DELETE FROM persons");
+        }
+        try (PreparedStatement insertPerson = database.prepareStatement(INSERT_PERSON);
+                PreparedStatement insertTag = database.prepareStatement(INSERT_TAG);
+                PreparedStatement insertBooking = database.prepareStatement(INSERT_BOOKING)) {
+            for (int position = 0; position < persons.size(); position++) {
+                Person person = persons.get(position);
+                long id = position + 1;
+                insertPerson.setLong(1, id);
+                insertPerson.setInt(2, position);
+                insertPerson.setString(3, person.getName().fullName);
+                insertPerson.setString(4, person.getPhone() == null ? null : person.getPhone().value);
+                insertPerson.setString(5, person.getEmail() == null ? null : person.getEmail().value);
+                insertPerson.addBatch();
+                addDetails(insertTag, insertBooking, id, person);
+            }
+            insertPerson.executeBatch();
+            insertTag.executeBatch();
+            insertBooking.executeBatch();
+        }
+    }
+
+    /**
+     * Deletes the persons that {@code change} removes, moves the persons after it, and upserts the persons it adds
+     * or edits, rewriting their tags and bookings only if those changed.
+     */
+    private static void writeChange(Connection database, PersonListChange change) throws SQLException {
+        List<Person> before = change.getBefore();
+        List<Person> after = change.getAfter();
+        Set<Name> afterNames = new HashSet<>();
+        after.forEach(person -> afterNames.add(person.getName()));
+        Map<Name, Person> beforeByName = new LinkedHashMap<>();
+        before.forEach(person -> beforeByName.put(person.getName(), person));
+
+        try (PreparedStatement selectId = database.prepareStatement(SELECT_PERSON_ID);
+                PreparedStatement deletePerson = database.prepareStatement(DELETE_PERSON);
+                PreparedStatement deleteTags = database.prepareStatement(DELETE_TAGS);
+                PreparedStatement deleteBookings = database.prepareStatement(DELETE_BOOKINGS);
+                PreparedStatement shiftPositions = database.prepareStatement(SHIFT_POSITIONS);
+                PreparedStatement upsertPerson = database.prepareStatement(UPSERT_PERSON);
+                PreparedStatement insertTag = database.prepareStatement(INSERT_TAG);
+                PreparedStatement insertBooking = database.prepareStatement(INSERT_BOOKING)) {
+            for (Person removed : before) {
+                if (!afterNames.contains(removed.getName())) {
+                    long id = selectId(selectId, removed.getName());
+                    deleteDetails(deleteTags, deleteBookings, id);
+                    deletePerson.setLong(1, id);
+                    deletePerson.executeUpdate();
+                }
+            }
+
+            int shift = after.size() - before.size();
+            if (shift != 0) {
+                shiftPositions.setInt(1, shift);
+                shiftPositions.setInt(2, change.getStart() + before.size());
+                shiftPositions.executeUpdate();
+            }
+
+            for (int i = 0; i < after.size(); i++) {
+                Person person = after.get(i);
+                upsertPerson.setInt(1, change.getStart() + i);
+                upsertPerson.setString(2, person.getName().fullName);
+                upsertPerson.setString(3, person.getPhone() == null ? null : person.getPhone().value);
+                upsertPerson.setString(4, person.getEmail() == null ? null : person.getEmail().value);
+                upsertPerson.executeUpdate();
+
+                Person previous = beforeByName.get(person.getName());
+                if (previous != null && previous.getTags().equals(person.getTags())
+                        && previous.getBookings().equals(person.getBookings())) {
+                    continue;
+                }
+                long id = selectId(selectId, person.getName());
+                if (previous != null) {
+                    deleteDetails(deleteTags, deleteBookings, id);
+                }
+                addDetails(insertTag, insertBooking, id, person);
+            }
+            insertTag.executeBatch();
+            insertBooking.executeBatch();
+        }
+    }
+
+    private static long selectId(PreparedStatement selectId, Name name) throws SQLException {
+        selectId.setString(1, name.fullName);
+        try (ResultSet result = selectId.executeQuery()) {
+            if (!result.next()) {
+                throw new SQLException("No row for " + name);
+            }
+            return result.getLong(1);
+        }
+    }
+
+    private static void deleteDetails(PreparedStatement deleteTags, PreparedStatement deleteBookings, long id)
+            throws SQLException {
+        deleteTags.setLong(1, id);
+        deleteTags.executeUpdate();
+        deleteBookings.setLong(1, id);
+        deleteBookings.executeUpdate();
+    }
+
+    /**
+     * Adds the rows of {@code person}'s tags and bookings to the batches of {@code insertTag} and
+     * {@code insertBooking}.
+     */
+    private static void addDetails(PreparedStatement insertTag, PreparedStatement insertBooking, long id,
+            Person person) throws SQLException {
+        for (Tag tag : person.getTags()) {
+            insertTag.setLong(1, id);
+            insertTag.setString(2, tag.tagName);
+            insertTag.addBatch();
+        }
+        List<Booking> bookings = person.getBookings();
+        for (int position = 0; position < bookings.size(); position++) {
+            Booking booking = bookings.get(position);
+            insertBooking.setLong(1, id);
+            insertBooking.setInt(2, position);
+            insertBooking.setString(3, booking.getClientName());
+            insertBooking.setString(4, booking.getDateTimeString());
+            insertBooking.setString(5, booking.getDescription());
+            insertBooking.setString(6, booking.getEventUid());
+            insertBooking.addBatch();
+        }
+    }
+
+    private static void inTransaction(Connection database, SqlWork work) throws SQLException {
+        database.setAutoCommit(false);
+        try {
+            work.run();
+            database.commit();
+        } catch (SQLException | RuntimeException e) {
+            database.rollback();
+            throw e;
+        } finally {
+            database.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Work on the database that is done in one transaction.
+     */
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+}
@@ -55,24 +55,48 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        logger.fine(() -> "Attempting to read data from file: " + getAddressBookFilePath());
+        return addressBookStorage.readAddressBook();
     }
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataLoadingException {
+        logger.fine(() -> "Attempting to salvage data from file: " + getAddressBookFilePath());
+        return addressBookStorage.salvageAddressBook();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        logger.fine(() -> "Attempting to write to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void checkpointAddressBook() throws IOException {
+        logger.fine(() -> "Attempting to checkpoint data file: " + getAddressBookFilePath());
+        addressBookStorage.checkpointAddressBook();
+    }
+
+    @Override
+    public Optional<DataFileChange> readExternalChange() throws DataLoadingException {
+        return addressBookStorage.readExternalChange();
+    }
+
+    @Override
+    public boolean acceptExternalChange(DataFileChange change) {
+        return addressBookStorage.acceptExternalChange(change);
+    }
+
 }
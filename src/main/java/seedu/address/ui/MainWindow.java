@@ -167,6 +167,15 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Shows {@code feedback} in the result display, if the window has been filled in.
+     */
+    void showFeedback(String feedback) {
+        if (resultDisplay != null) {
+            resultDisplay.setFeedbackToUser(feedback);
+        }
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -175,7 +184,7 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             // Force UI refresh to prevent display lag
@@ -191,7 +200,7 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.info(() -> "An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedback} to the user as the result of a command is shown. */
+    void showFeedback(String feedback);
+
 }
@@ -0,0 +1,105 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
+import seedu.address.storage.StorageManager;
+
+public class AppInitializerTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "AppInitializerTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private final AppInitializer initializer = new AppInitializer();
+
+    @Test
+    public void initAddressBookStorage_fileWithoutExtension_usesJsonStorage() throws Exception {
+        Path file = Files.writeString(testFolder.resolve("addressbook"), "{\"persons\": []}");
+        assertTrue(initializer.initAddressBookStorage(prefsWithDataFile(file)) instanceof JournaledAddressBookStorage);
+        assertTrue(initializer.initAddressBookStorage(prefsWithDataFile(testFolder.resolve("missing")))
+                instanceof JournaledAddressBookStorage);
+    }
+
+    @Test
+    public void initAddressBookStorage_directoryOrSuffix_usesShardedStorage() {
+        assertTrue(initializer.initAddressBookStorage(prefsWithDataFile(testFolder))
+                instanceof ShardedAddressBookStorage);
+        assertTrue(initializer.initAddressBookStorage(prefsWithDataFile(testFolder.resolve("addressbook.shards")))
+                instanceof ShardedAddressBookStorage);
+    }
+
+    @Test
+    public void initAddressBookStorage_databaseFile_usesSqlStorage() {
+        assertTrue(initializer.initAddressBookStorage(prefsWithDataFile(testFolder.resolve("addressbook.db")))
+                instanceof SqlAddressBookStorage);
+    }
+
+    @Test
+    public void initPrefs_outOfRangeValues_replacedWithDefaults() throws Exception {
+        Path prefsFile = testFolder.resolve("preferences.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("OutOfRangeUserPrefs.json"), prefsFile);
+        JsonUserPrefsStorage prefsStorage = new JsonUserPrefsStorage(prefsFile);
+
+        UserPrefs userPrefs = initializer.initPrefs(prefsStorage);
+
+        assertDefaultRangedValues(userPrefs);
+        assertEquals(1000.0, userPrefs.getGuiSettings().getWindowWidth());
+        // the corrected values are saved, and the app can start with them
+        assertDefaultRangedValues(prefsStorage.readUserPrefs().get());
+        new ModelManager(new AddressBook(), userPrefs);
+        assertTrue(initializer.initAddressBookStorage(userPrefs) instanceof JournaledAddressBookStorage);
+    }
+
+    @Test
+    public void initModelManager_dataFileCannotBeSalvaged_movedAsideBeforeStartingEmpty() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "not json");
+        // a folder where the journal should be, so that it cannot be read and nothing can be salvaged
+        Files.createDirectory(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        StorageManager storage = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+
+        Model model = initializer.initModelManager(storage, new UserPrefs());
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertFalse(Files.exists(filePath));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            Path setAside = files
+                    .filter(file -> file.getFileName().toString().startsWith("addressbook.json.unreadable-"))
+                    .findFirst().get();
+            assertEquals("not json", Files.readString(setAside));
+        }
+    }
+
+    private static void assertDefaultRangedValues(UserPrefs userPrefs) {
+        UserPrefs defaults = new UserPrefs();
+        assertEquals(defaults.getUndoHistoryBytes(), userPrefs.getUndoHistoryBytes());
+        assertEquals(defaults.getDataFileCompressionLevel(), userPrefs.getDataFileCompressionLevel());
+        assertEquals(defaults.getBackupIntervalMinutes(), userPrefs.getBackupIntervalMinutes());
+    }
+
+    private static UserPrefs prefsWithDataFile(Path filePath) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(filePath);
+        return userPrefs;
+    }
+}
@@ -39,10 +39,72 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validRunFilePath_success() {
+        parametersStub.namedParameters.put("run", "commands.txt");
+        expected.setRunFilePath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidRunFilePath_success() {
+        parametersStub.namedParameters.put("run", "a\0");
+        expected.setRunFilePath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validApiPort_success() {
+        parametersStub.namedParameters.put("api-port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidApiPort_success() {
+        parametersStub.namedParameters.put("api-port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        parametersStub.namedParameters.put("api-port", "http");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validFlightRecordingPath_success() {
+        parametersStub.namedParameters.put("jfr", "recordings/run.jfr");
+        expected.setFlightRecordingPath(Paths.get("recordings/run.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidFlightRecordingPath_success() {
+        parametersStub.namedParameters.put("jfr", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validGenerateAndSeed_success() {
+        parametersStub.namedParameters.put("generate", "10000");
+        parametersStub.namedParameters.put("seed", "-7");
+        expected.setGeneratedPersonCount(10000);
+        expected.setSeed(-7L);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidGenerateAndSeed_success() {
+        parametersStub.namedParameters.put("generate", "-1");
+        parametersStub.namedParameters.put("seed", "abc");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", runFilePath=" + appParameters.getRunFilePath() + ", apiPort=" + appParameters.getApiPort()
+                + ", flightRecordingPath=" + appParameters.getFlightRecordingPath()
+                + ", generatedPersonCount=" + appParameters.getGeneratedPersonCount()
+                + ", seed=" + appParameters.getSeed() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +128,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different run file path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setRunFilePath(Paths.get("commands.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different API port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setApiPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
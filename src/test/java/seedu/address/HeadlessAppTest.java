@@ -0,0 +1,132 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class HeadlessAppTest {
+
+    private static final InputStream NO_INPUT = new ByteArrayInputStream(new byte[0]);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final HeadlessApp app = new HeadlessApp(new PrintStream(out, true), new PrintStream(err, true));
+
+    private Path configFile;
+    private Path addressBookFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configFile = temporaryFolder.resolve("config.json");
+        Path prefsFile = temporaryFolder.resolve("preferences.json");
+        addressBookFile = temporaryFolder.resolve("addressbook.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(prefsFile);
+        ConfigUtil.saveConfig(config, configFile);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFile);
+        new JsonUserPrefsStorage(prefsFile).saveUserPrefs(userPrefs);
+
+        new JsonAddressBookStorage(addressBookFile).saveAddressBook(new AddressBook());
+    }
+
+    @Test
+    public void run_commandsFromArguments_resultsPrinted() {
+        int exitCode = app.run(new String[] {HeadlessApp.HEADLESS_FLAG, "--config=" + configFile,
+            AddCommand.COMMAND_WORD + " n/Amy Bee", ListCommand.COMMAND_WORD}, NO_INPUT);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertTrue(output().contains(ListCommand.MESSAGE_SUCCESS));
+        assertEquals(1, readAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_failingCommand_errorPrintedAndFailureExitCode() {
+        int exitCode = app.run(new String[] {"--config=" + configFile, "unknownCommand",
+            ListCommand.COMMAND_WORD}, NO_INPUT);
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitCode);
+        assertTrue(new String(err.toByteArray(), StandardCharsets.UTF_8).contains(MESSAGE_UNKNOWN_COMMAND));
+        // later commands still run
+        assertTrue(output().contains(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void run_commandsFromStandardInput_stopsAtExit() {
+        String input = AddCommand.COMMAND_WORD + " n/Amy Bee\n\n" + ExitCommand.COMMAND_WORD + "\n"
+                + AddCommand.COMMAND_WORD + " n/Bob Choo\n";
+        int exitCode = app.run(new String[] {"--config=" + configFile},
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertTrue(output().contains(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT));
+        assertEquals(1, readAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_runParameter_commandFileRun() throws Exception {
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of(AddCommand.COMMAND_WORD + " n/Amy Bee",
+                AddCommand.COMMAND_WORD + " n/Bob Choo"));
+
+        int exitCode = app.run(new String[] {"--config=" + configFile, "--run=" + commandFile}, NO_INPUT);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertTrue(output().contains(String.format(RunCommand.MESSAGE_SUCCESS, 2, commandFile, 2, 0)));
+        assertEquals(2, readAddressBook().getPersonList().size());
+        assertFalse(output().contains(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void run_generate_dataFileReplaced() {
+        int exitCode = app.run(new String[] {"--config=" + configFile, "--generate=50", "--seed=3",
+            ListCommand.COMMAND_WORD}, NO_INPUT);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertEquals(SampleDataUtil.getSampleAddressBook(50, 3), new AddressBook(readAddressBook()));
+    }
+
+    private String output() {
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private ReadOnlyAddressBook readAddressBook() {
+        try {
+            return new JsonAddressBookStorage(addressBookFile).readAddressBook().get();
+        } catch (Exception e) {
+            throw new AssertionError("Address book file should be readable.", e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(List.of(), 0));
+    }
+
+    @Test
+    public void flush_publishedRecords_writtenInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 128);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.records.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.records.get(i).getMessage());
+        }
+        assertEquals(1, target.flushCount);
+        handler.close();
+    }
+
+    @Test
+    public void publish_sourceFoundOnLoggingThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("message");
+        handler.close();
+
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.records.get(0).getSourceClassName());
+        assertEquals("publish_sourceFoundOnLoggingThread", target.records.get(0).getSourceMethodName());
+    }
+
+    @Test
+    public void publish_bufferFull_infoDroppedWarningKeptAndDropsReported() throws Exception {
+        BlockingHandler target = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2);
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(target.isWriting.await(5, TimeUnit.SECONDS)); // the writer is stuck writing "first"
+
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        handler.publish(new LogRecord(Level.INFO, "third"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        Thread warning = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+        warning.start();
+        target.release.countDown();
+        warning.join(5000);
+        handler.close();
+
+        assertEquals(List.of("first", String.format(AsyncLogHandler.MESSAGE_DROPPED, 1), "second", "third",
+                "warning"), target.records.stream().map(LogRecord::getMessage).collect(Collectors.toList()));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void close_pendingRecordsWrittenAndTargetsClosed() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16);
+        handler.publish(new LogRecord(Level.INFO, "message"));
+        handler.close();
+
+        assertEquals(1, target.records.size());
+        assertTrue(target.isClosed);
+
+        // records published after closing are ignored
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.flush();
+        handler.close();
+        assertEquals(1, target.records.size());
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16);
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.close();
+
+        assertTrue(target.records.isEmpty());
+    }
+
+    /**
+     * Keeps every record it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        protected final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private int flushCount;
+        private boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+
+    /**
+     * Keeps every record it is given, but does not return from writing the first until released.
+     */
+    private static class BlockingHandler extends RecordingHandler {
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            isWriting.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.publish(record);
+        }
+    }
+}
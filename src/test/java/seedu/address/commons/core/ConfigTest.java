@@ -12,7 +12,9 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", metricsDumpIntervalSeconds=" + config.getMetricsDumpIntervalSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
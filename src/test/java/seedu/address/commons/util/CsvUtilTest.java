@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_plainFields() throws Exception {
+        assertEquals(List.of("a", "b c", "", "d"), CsvUtil.parseLine("a,b c,,d"));
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+        assertEquals(List.of("a", ""), CsvUtil.parseLine("a,"));
+    }
+
+    @Test
+    public void parseLine_quotedFields() throws Exception {
+        assertEquals(List.of("Tan, Alice", "say \"hi\"", "x"),
+                CsvUtil.parseLine("\"Tan, Alice\",\"say \"\"hi\"\"\",x"));
+        assertEquals(List.of(""), CsvUtil.parseLine("\"\""));
+    }
+
+    @Test
+    public void parseLine_unbalancedQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseLine("\"abc,def"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.parseLine("\"abc\"def,x"));
+    }
+
+    @Test
+    public void formatLine_roundTrips() throws Exception {
+        List<String> fields = List.of("plain", "with, comma", "with \"quote\"", "");
+        assertEquals("plain,\"with, comma\",\"with \"\"quote\"\"\",", CsvUtil.formatLine(fields));
+        assertEquals(fields, CsvUtil.parseLine(CsvUtil.formatLine(fields)));
+    }
+
+    @Test
+    public void formatLine_lineBreaks_replacedBySpaces() {
+        assertEquals("a b,c", CsvUtil.formatLine(List.of("a\nb", "c")));
+    }
+
+    @Test
+    public void appendField_quotesOnlyWhenNeeded() throws Exception {
+        StringBuilder out = new StringBuilder();
+        CsvUtil.appendField(out, "plain");
+        CsvUtil.appendField(out, "a,\"b\"");
+        CsvUtil.appendField(out, "c\r\nd");
+        assertEquals("plain\"a,\"\"b\"\"\"c d", out.toString());
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataFileChangedException;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandContext;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void run_validCommands_allExecuted() throws Exception {
+        Path file = writeCommands("# comment", "", ADD_AMY, "   ", ADD_BOB);
+        BatchRunner.Report report = new BatchRunner(new AddressBookParser(), model).run(file, 0);
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(2, report.getSuccessCount());
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(0, report.getSaveCount());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_failingLines_reportedAndSkipped() throws Exception {
+        Path file = writeCommands(ADD_AMY, "unknownCommand", ADD_AMY, ADD_BOB);
+        BatchRunner.Report report = new BatchRunner(new AddressBookParser(), model).run(file, 0);
+
+        assertEquals(4, report.getCommandCount());
+        assertEquals(2, report.getSuccessCount());
+        List<BatchRunner.Failure> failures = report.getFailures();
+        assertEquals(2, failures.size());
+        assertEquals(2, failures.get(0).getLineNumber());
+        assertEquals("unknownCommand", failures.get(0).getCommandText());
+        assertEquals(3, failures.get(1).getLineNumber());
+        assertEquals(AddCommand.MESSAGE_DUPLICATE_PERSON, failures.get(1).getMessage());
+    }
+
+    @Test
+    public void run_nestedRun_reportedAsFailure() throws Exception {
+        Path file = writeCommands(RunCommand.COMMAND_WORD + " other.txt");
+        BatchRunner.Report report = new BatchRunner(new AddressBookParser(), model).run(file, 0);
+
+        assertEquals(1, report.getFailures().size());
+        assertEquals(BatchRunner.MESSAGE_NESTED_RUN, report.getFailures().get(0).getMessage());
+    }
+
+    @Test
+    public void run_withSaveInterval_savesAtCheckpoints() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        saveCount[0]++;
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+
+        // failed commands do not count towards a checkpoint
+        Path file = writeCommands(ADD_AMY, "unknownCommand", ADD_BOB, "list");
+        BatchRunner.Report report = new BatchRunner(new AddressBookParser(), model, storage).run(file, 2);
+
+        assertEquals(1, report.getSaveCount());
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void run_dataFileChangedAtCheckpoint_runsToEndWithoutCheckpoints() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        throw new DataFileChangedException(filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+
+        Path file = writeCommands(ADD_AMY, ADD_BOB, "list");
+        BatchRunner.Report report = new BatchRunner(new AddressBookParser(), model, storage).run(file, 1);
+
+        assertEquals(3, report.getSuccessCount());
+        assertEquals(0, report.getSaveCount());
+        assertEquals(1, saveCount[0]);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_withContext_linesExecutedWithContextAndCommittedOneByOne() throws Exception {
+        BatchRunner runner = new BatchRunner(new AddressBookParser(), model);
+        CommandContext context = new CommandContext(runner, new CommandMetrics(), new ExportWriter());
+
+        Path file = writeCommands(ADD_AMY, ADD_BOB, UndoCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD);
+        BatchRunner.Report report = runner.run(file, 0, context);
+
+        // stats needs the context, which it is given
+        assertTrue(report.getFailures().isEmpty());
+        // only the line before undo is undone
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(VALID_NAME_AMY, model.getAddressBook().getPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void run_missingFile_throwsIoException() {
+        BatchRunner runner = new BatchRunner(new AddressBookParser(), model);
+        assertThrows(IOException.class, () -> runner.run(temporaryFolder.resolve("missing.txt"), 0));
+    }
+
+    private Path writeCommands(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("commands.txt");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvExporterTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void write_personsAndBookings_oneRowPerBooking() throws Exception {
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone("11111111").withEmail("amy@example.com")
+                .withTags("husband", "friend").withBookings(List.of(
+                        new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 10, 0), "Cut, wash \"and\" dry"),
+                        new Booking("Ms Ong", LocalDateTime.of(2030, 1, 3, 9, 30), "Trim")))
+                .build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone(null).withEmail(null).withTags().build();
+
+        StringWriter out = new StringWriter();
+        CsvExporter.write(List.of(amy, bob), out);
+
+        assertEquals("name,phone,email,tags,datetime,client,description\r\n"
+                + "Amy Bee,11111111,amy@example.com,friend;husband,2030-01-02 10:00,Mr Lim,"
+                + "\"Cut, wash \"\"and\"\" dry\"\r\n"
+                + "Amy Bee,,,,2030-01-03 09:30,Ms Ong,Trim\r\n"
+                + "Bob Choo,,,,,,\r\n", out.toString());
+    }
+
+    @Test
+    public void write_typicalAddressBook_importsBackUnchanged() throws Exception {
+        Model source = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path file = temporaryFolder.resolve("team.csv");
+        try (StringWriter out = new StringWriter()) {
+            CsvExporter.write(source.getAddressBookSnapshot().getPersons(), out);
+            Files.writeString(file, out.toString(), StandardCharsets.UTF_8);
+        }
+
+        Model target = new ModelManager();
+        CsvImporter.Report report = new CsvImporter(2).importFile(file, target);
+
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(source.getAddressBook().getPersonList(), target.getAddressBook().getPersonList());
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvImporterTest {
+
+    private static final String HEADER = "name,phone,email,tags,datetime,client,description";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void importFile_newAndExistingPersons_mergedInOneUpdate() throws Exception {
+        int originalSize = model.getAddressBook().getPersonList().size();
+        Path file = writeCsv(HEADER,
+                "Amy Bee,11111111,amy@example.com,friend;husband,,,",
+                "",
+                "Amy Bee,,,,2030-01-02 10:00,Mr Lim,",
+                ALICE.getName() + ",99999999,,colleague,2030-01-02 10:00,Mr Tan,intro");
+        long versionBefore = model.getAddressBookSnapshot().getVersion();
+
+        CsvImporter.Report report = new CsvImporter(2).importFile(file, model);
+
+        assertEquals(3, report.getRowCount());
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(1, report.getNewPersonCount());
+        assertEquals(1, report.getUpdatedPersonCount());
+        assertEquals(2, report.getBookingCount());
+        assertEquals(versionBefore + 1, model.getAddressBookSnapshot().getVersion());
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(originalSize + 1, persons.size());
+        Person amy = persons.get(originalSize);
+        Booking amyBooking = new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 10, 0), "No description provided");
+        assertEquals(new PersonBuilder().withName("Amy Bee").withPhone("11111111").withEmail("amy@example.com")
+                .withTags("friend", "husband").withBookings(List.of(amyBooking)).build(), amy);
+        Person alice = persons.get(0);
+        assertEquals(ALICE.getPhone(), alice.getPhone());
+        assertEquals(new PersonBuilder(ALICE).withTags("friends", "colleague").build().getTags(), alice.getTags());
+        assertEquals(1, alice.getBookings().size());
+    }
+
+    @Test
+    public void importFile_invalidRows_reportedAndSkipped() throws Exception {
+        Path file = writeCsv("Name,Tags,DateTime,Client",
+                "Amy Bee,friend,,",
+                "James&,,,",
+                "Bob Choo,,2030-01-02 10:00,",
+                "Bob Choo,,2030-13-02 10:00,Mr Lim",
+                "\"Unterminated,,,",
+                "Carl Kurz,,2026-10-20 10:00,Someone",
+                ALICE.getName() + ",,,",
+                "Too,Many,Fields,Here,Now");
+
+        CsvImporter.Report report = new CsvImporter(3).importFile(file, model);
+
+        assertEquals(8, report.getRowCount());
+        assertEquals(1, report.getImportedCount());
+        List<CsvImporter.Failure> failures = report.getFailures();
+        assertEquals(Arrays.asList(3, 4, 5, 6, 7, 8, 9),
+                failures.stream().map(CsvImporter.Failure::getLineNumber).collect(Collectors.toList()));
+        assertEquals(Name.MESSAGE_CONSTRAINTS, failures.get(0).getMessage());
+        assertEquals(CsvImporter.MESSAGE_INCOMPLETE_BOOKING, failures.get(1).getMessage());
+        assertTrue(failures.get(4).getMessage().startsWith("Booking conflict!"));
+        assertEquals(AddCommand.MESSAGE_DUPLICATE_PERSON, failures.get(5).getMessage());
+        assertEquals(String.format(CsvImporter.MESSAGE_WRONG_FIELD_COUNT, 4, 5), failures.get(6).getMessage());
+        assertTrue(model.hasPerson(new PersonBuilder().withName("Amy Bee").build()));
+        assertEquals(CARL, model.getAddressBookSnapshot().findByName(CARL.getName()).get());
+    }
+
+    @Test
+    public void importFile_manyChunks_keepsFileOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("name");
+        int rows = CsvImporter.CHUNK_SIZE * 5 + 7;
+        for (int i = 0; i < rows; i++) {
+            lines.add("Person " + toLetters(i));
+        }
+        Model emptyModel = new ModelManager();
+
+        CsvImporter.Report report = new CsvImporter(4).importFile(writeCsv(lines.toArray(new String[0])),
+                emptyModel);
+
+        assertEquals(rows, report.getNewPersonCount());
+        List<Person> persons = emptyModel.getAddressBook().getPersonList();
+        for (int i = 0; i < rows; i++) {
+            assertEquals("Person " + toLetters(i), persons.get(i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void importFile_invalidHeader_throwsIllegalValueException() throws Exception {
+        assertThrows(IllegalValueException.class, CsvImporter.MESSAGE_EMPTY_FILE, () ->
+                new CsvImporter(1).importFile(writeCsv(), model));
+        assertThrows(IllegalValueException.class, CsvImporter.MESSAGE_MISSING_NAME_COLUMN, () ->
+                new CsvImporter(1).importFile(writeCsv("phone,email"), model));
+        assertThrows(IllegalValueException.class, String.format(CsvImporter.MESSAGE_DUPLICATE_COLUMN, "name"), () ->
+                new CsvImporter(1).importFile(writeCsv("name,Name"), model));
+        assertThrows(IllegalValueException.class, () ->
+                new CsvImporter(1).importFile(writeCsv("name,address"), model));
+    }
+
+    @Test
+    public void writeFailures_writesOneLinePerFailure() throws Exception {
+        Path file = writeCsv("name", "James&", "Amy Bee");
+        CsvImporter.Report report = new CsvImporter(1).importFile(file, model);
+        Path reportPath = temporaryFolder.resolve("errors.csv");
+
+        CsvImporter.writeFailures(report.getFailures(), reportPath);
+
+        List<String> lines = Files.readAllLines(reportPath);
+        assertEquals(2, lines.size());
+        assertEquals("line,error", lines.get(0));
+        assertTrue(lines.get(1).startsWith("2,"));
+    }
+
+    private Path writeCsv(String... lines) throws Exception {
+        Path file = temporaryFolder.resolve("import.csv");
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+
+    /** Returns a name-safe representation of {@code i} using only letters. */
+    private static String toLetters(int i) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + i % 26));
+            i /= 26;
+        } while (i > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class IcsExporterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2030-01-01T08:00:00Z"), ZoneOffset.ofHours(8));
+
+    private final IcsExporter exporter = new IcsExporter(CLOCK);
+
+    @Test
+    public void write_booking_oneEvent() throws Exception {
+        Booking booking = new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 10, 0), "Cut; wash, dry\\blow");
+        Person amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com").withBookings(
+                List.of(booking)).build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withEmail(null).build();
+
+        StringWriter out = new StringWriter();
+        exporter.write(List.of(amy, bob), out);
+
+        assertEquals("BEGIN:VCALENDAR\r\n"
+                + "VERSION:2.0\r\n"
+                + "PRODID:" + IcsExporter.PRODUCT_ID + "\r\n"
+                + "CALSCALE:GREGORIAN\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "UID:20300102T100000-Amy+Bee@firstimpressions\r\n"
+                + "DTSTAMP:20300101T080000Z\r\n"
+                + "DTSTART:20300102T100000\r\n"
+                + "SUMMARY:Mr Lim\r\n"
+                + "DESCRIPTION:Cut\\; wash\\, dry\\\\blow\r\n"
+                + "X-FIRSTIMPRESSIONS-PERSON:Amy Bee\r\n"
+                + "ATTENDEE;CN=\"Amy Bee\":mailto:amy@example.com\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n", out.toString());
+    }
+
+    @Test
+    public void write_longValue_foldedAt75Octets() throws Exception {
+        String description = "\u00e9".repeat(100);
+        Booking booking = new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 10, 0), description);
+        Person amy = new PersonBuilder().withName("Amy Bee").withBookings(List.of(booking)).build();
+
+        StringWriter out = new StringWriter();
+        exporter.write(List.of(amy), out);
+
+        StringBuilder unfolded = new StringBuilder();
+        for (String line : out.toString().split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+            if (line.startsWith(" ")) {
+                unfolded.append(line.substring(1));
+            } else {
+                unfolded.append('\n').append(line);
+            }
+        }
+        assertTrue(unfolded.toString().contains("\nDESCRIPTION:" + description + "\n"));
+    }
+
+    @Test
+    public void uidOf_sameBooking_sameUid() {
+        Booking booking = new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 10, 0), "Trim");
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person otherAmy = new PersonBuilder().withName("Amy Bee").withPhone("12345678").build();
+        Booking otherBooking = new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 11, 0), "Trim");
+
+        assertEquals(IcsExporter.uidOf(amy.getName(), booking), IcsExporter.uidOf(otherAmy.getName(), booking));
+        assertTrue(!IcsExporter.uidOf(amy.getName(), booking).equals(IcsExporter.uidOf(amy.getName(), otherBooking)));
+    }
+
+    @Test
+    public void uidOf_importedBooking_keepsEventUid() {
+        Booking booking = new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 10, 0), "Trim", "abc@example.com");
+        assertEquals("abc@example.com", IcsExporter.uidOf(new PersonBuilder().build().getName(), booking));
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class IcsImporterTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final IcsImporter importer = new IcsImporter(ZONE);
+
+    @Test
+    public void importFile_newEvents_addedAsBookings() throws Exception {
+        Path file = writeCalendar(
+                "BEGIN:VEVENT",
+                "UID:event-1@example.com",
+                "DTSTART:20300102T100000",
+                "SUMMARY:Mr Lim",
+                "DESCRIPTION:Cut\\, wash\\; dry",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:event-2@example.com",
+                "DTSTART:20300102T030000Z",
+                "SUMMARY:Ms Ong",
+                "BEGIN:VALARM",
+                "DESCRIPTION:Reminder",
+                "END:VALARM",
+                "END:VEVENT");
+
+        IcsImporter.Report report = importer.importFile(file, ALICE.getName(), model);
+
+        assertEquals(2, report.getEventCount());
+        assertEquals(2, report.getAddedCount());
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(List.of(
+                new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 10, 0), "Cut, wash; dry", "event-1@example.com"),
+                new Booking("Ms Ong", LocalDateTime.of(2030, 1, 2, 11, 0), Booking.DEFAULT_DESCRIPTION,
+                        "event-2@example.com")),
+                findPerson(ALICE.getName()).getBookings());
+    }
+
+    @Test
+    public void importFile_sameFileAgain_leavesModelUnchanged() throws Exception {
+        Path file = writeCalendar(
+                "BEGIN:VEVENT",
+                "UID:event-1@example.com",
+                "DTSTART:20300102T100000",
+                "SUMMARY:Mr Lim",
+                "END:VEVENT");
+        importer.importFile(file, ALICE.getName(), model);
+        long version = model.getAddressBookSnapshot().getVersion();
+
+        IcsImporter.Report report = importer.importFile(file, ALICE.getName(), model);
+
+        assertEquals(1, report.getUnchangedCount());
+        assertEquals(0, report.getAddedCount() + report.getUpdatedCount() + report.getRemovedCount());
+        assertEquals(version, model.getAddressBookSnapshot().getVersion());
+    }
+
+    @Test
+    public void importFile_changedAndCancelledEvents_replaceAndRemoveBookings() throws Exception {
+        importer.importFile(writeCalendar(
+                "BEGIN:VEVENT", "UID:event-1", "DTSTART:20300102T100000", "SUMMARY:Mr Lim", "END:VEVENT",
+                "BEGIN:VEVENT", "UID:event-2", "DTSTART:20300103T100000", "SUMMARY:Ms Ong", "END:VEVENT",
+                "BEGIN:VEVENT", "UID:event-3", "DTSTART:20300104T100000", "SUMMARY:Mr Goh", "END:VEVENT"),
+                ALICE.getName(), model);
+
+        IcsImporter.Report report = importer.importFile(writeCalendar(
+                "BEGIN:VEVENT", "UID:event-1", "DTSTART:20300102T120000", "SUMMARY:Mr Lim", "END:VEVENT",
+                "BEGIN:VEVENT", "UID:event-2", "DTSTART:20300103T100000", "SUMMARY:Ms Ong", "STATUS:CANCELLED",
+                "END:VEVENT",
+                "BEGIN:VEVENT", "UID:event-3", "DTSTART:20300104T100000", "SUMMARY:Mr Goh", "END:VEVENT"),
+                ALICE.getName(), model);
+
+        assertEquals(1, report.getUpdatedCount());
+        assertEquals(1, report.getRemovedCount());
+        assertEquals(1, report.getUnchangedCount());
+        assertEquals(List.of(
+                new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 12, 0), Booking.DEFAULT_DESCRIPTION, "event-1"),
+                new Booking("Mr Goh", LocalDateTime.of(2030, 1, 4, 10, 0), Booking.DEFAULT_DESCRIPTION, "event-3")),
+                findPerson(ALICE.getName()).getBookings());
+    }
+
+    @Test
+    public void importFile_exportedCalendar_matchesExistingBookings() throws Exception {
+        Path file = temporaryFolder.resolve("carl.ics");
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new IcsExporter(Clock.system(ZONE)).write(List.of(CARL), out);
+        }
+        long version = model.getAddressBookSnapshot().getVersion();
+
+        IcsImporter.Report report = importer.importFile(file, CARL.getName(), model);
+
+        assertEquals(CARL.getBookings().size(), report.getUnchangedCount());
+        assertEquals(version, model.getAddressBookSnapshot().getVersion());
+    }
+
+    @Test
+    public void importFile_invalidAndClashingEvents_reportedAndSkipped() throws Exception {
+        Booking carlBooking = CARL.getBookings().get(0);
+        Path file = writeCalendar(
+                "BEGIN:VEVENT", "UID:no-summary", "DTSTART:20300102T100000", "END:VEVENT",
+                "BEGIN:VEVENT", "UID:bad-start", "DTSTART:20300231T100000", "SUMMARY:Mr Lim", "END:VEVENT",
+                "BEGIN:VEVENT", "UID:recurring", "DTSTART:20300102T100000", "SUMMARY:Mr Lim", "RRULE:FREQ=DAILY",
+                "END:VEVENT",
+                "BEGIN:VEVENT", "UID:bad-zone", "DTSTART;TZID=Nowhere/Land:20300102T100000", "SUMMARY:Mr Lim",
+                "END:VEVENT",
+                "BEGIN:VEVENT", "UID:clash", "DTSTART:" + carlBooking.getDateTime().format(
+                        IcsExporter.LOCAL_DATETIME_FORMAT), "SUMMARY:Mr Lim", "END:VEVENT",
+                "BEGIN:VEVENT", "UID:valid", "DTSTART;TZID=Asia/Tokyo:20300102T110000", "SUMMARY:Mr L", " im",
+                "END:VEVENT");
+
+        IcsImporter.Report report = importer.importFile(file, CARL.getName(), model);
+
+        assertEquals(6, report.getEventCount());
+        assertEquals(1, report.getAddedCount());
+        List<CsvImporter.Failure> failures = report.getFailures();
+        assertEquals(Arrays.asList(3, 7, 12, 18, 23), failures.stream().map(CsvImporter.Failure::getLineNumber)
+                .collect(Collectors.toList()));
+        assertEquals(String.format(IcsImporter.MESSAGE_MISSING_PROPERTY, "SUMMARY"), failures.get(0).getMessage());
+        assertEquals(String.format(IcsImporter.MESSAGE_INVALID_START, "20300231T100000"),
+                failures.get(1).getMessage());
+        assertEquals(IcsImporter.MESSAGE_RECURRING_EVENT, failures.get(2).getMessage());
+        assertEquals(String.format(IcsImporter.MESSAGE_UNKNOWN_TIME_ZONE, "Nowhere/Land"),
+                failures.get(3).getMessage());
+        assertEquals(String.format(BookCommand.MESSAGE_DOUBLE_BOOKING, CARL.getName(),
+                carlBooking.getDateTimeString(), carlBooking.getClientName(), carlBooking.getDescription()),
+                failures.get(4).getMessage());
+        assertEquals(new Booking("Mr Lim", LocalDateTime.of(2030, 1, 2, 10, 0), Booking.DEFAULT_DESCRIPTION,
+                "valid"), findPerson(CARL.getName()).getBookings().get(1));
+    }
+
+    @Test
+    public void importFile_unterminatedEvent_reported() throws Exception {
+        Path file = temporaryFolder.resolve("cut.ics");
+        Files.write(file, List.of("BEGIN:VCALENDAR", "BEGIN:VEVENT", "DTSTART:20300102T100000", "SUMMARY:Mr Lim",
+                "END:VCALENDAR"));
+
+        IcsImporter.Report report = importer.importFile(file, ALICE.getName(), model);
+
+        assertEquals(1, report.getFailures().size());
+        assertEquals(IcsImporter.MESSAGE_UNTERMINATED_EVENT, report.getFailures().get(0).getMessage());
+        assertEquals(2, report.getFailures().get(0).getLineNumber());
+    }
+
+    @Test
+    public void importFile_notCalendar_throwsIllegalValueException() throws Exception {
+        Path file = temporaryFolder.resolve("team.ics");
+        Files.write(file, List.of("name,phone"));
+        assertThrows(IllegalValueException.class, IcsImporter.MESSAGE_NOT_A_CALENDAR, () ->
+                importer.importFile(file, ALICE.getName(), model));
+    }
+
+    @Test
+    public void importFile_unknownPerson_throwsIllegalValueException() throws Exception {
+        Path file = writeCalendar();
+        Name name = new PersonBuilder().withName("Nobody Here").build().getName();
+        assertThrows(IllegalValueException.class, String.format(BookCommand.MESSAGE_PERSON_NOT_FOUND, name), () ->
+                importer.importFile(file, name, model));
+    }
+
+    private Person findPerson(Name name) {
+        return model.getAddressBookSnapshot().findByName(name).get();
+    }
+
+    private Path writeCalendar(String... eventLines) throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("BEGIN:VCALENDAR");
+        lines.add("VERSION:2.0");
+        lines.addAll(Arrays.asList(eventLines));
+        lines.add("END:VCALENDAR");
+        Path file = temporaryFolder.resolve("calendar" + lines.hashCode() + ".ics");
+        Files.write(file, lines);
+        return file;
+    }
+}
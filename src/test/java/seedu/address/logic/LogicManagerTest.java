@@ -1,16 +1,27 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,14 +30,22 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -82,6 +101,115 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unchangedAddressBook_notSavedAgain() throws Exception {
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookFile));
+
+        Files.delete(addressBookFile);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookFile));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertTrue(Files.exists(addressBookFile));
+    }
+
+    @Test
+    public void execute_runCommand_savesAddressBook() throws Exception {
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY));
+
+        logic.execute(RunCommand.COMMAND_WORD + " " + commandFile);
+
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookFile).readAddressBook().get());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void runCommandFile_pathWithPrefix_runsFileAndSavesAddressBook() throws Exception {
+        // A path that would be split at the save interval prefix if it were typed as a run command.
+        Path commandFile = temporaryFolder.resolve("save every").resolve("commands.txt");
+        Files.createDirectories(commandFile.getParent());
+        Files.write(commandFile, List.of(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY));
+
+        CommandResult result = logic.runCommandFile(commandFile);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 1, commandFile, 1, 0), result.getFeedbackToUser());
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookFile).readAddressBook().get());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_export_writesInBackgroundAndReportsCompletion() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        List<String> feedback = new CopyOnWriteArrayList<>();
+        logic.setExportFeedbackHandler(feedback::add);
+        Path exportFile = temporaryFolder.resolve("team.csv");
+
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " csv " + exportFile);
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 1, exportFile), result.getFeedbackToUser());
+
+        logic.stopExports();
+        assertEquals(List.of(String.format(ExportCommand.MESSAGE_SUCCESS, 1, 0, exportFile)), feedback);
+        assertEquals(2, Files.readAllLines(exportFile).size());
+    }
+
+    @Test
+    public void execute_exportToDirectory_reportsFailure() throws Exception {
+        List<String> feedback = new CopyOnWriteArrayList<>();
+        logic.setExportFeedbackHandler(feedback::add);
+
+        logic.execute(ExportCommand.COMMAND_WORD + " csv " + temporaryFolder);
+
+        logic.stopExports();
+        assertEquals(1, feedback.size());
+        assertTrue(feedback.get(0).startsWith(String.format(ExportCommand.MESSAGE_FILE_ERROR, temporaryFolder, "")));
+    }
+
+    @Test
+    public void execute_commandThenUndo_restoresAndSavesAddressBook() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookFile).readAddressBook().get());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_commands_recordedInMetrics() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), metrics);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, () -> logic.execute("delete n/NonexistentPerson"));
+
+        List<CommandMetrics.Summary> summaries = metrics.getSummaries();
+        assertEquals(List.of(CommandMetrics.UNKNOWN_COMMAND_WORD + " " + Phase.TOTAL,
+                "delete " + Phase.PARSE, "delete " + Phase.TOTAL,
+                "list " + Phase.PARSE, "list " + Phase.EXECUTE, "list " + Phase.COMMIT, "list " + Phase.SAVE,
+                "list " + Phase.TOTAL), summaries.stream()
+                        .map(summary -> summary.getCommandWord() + " " + summary.getPhase())
+                        .collect(Collectors.toList()));
+        // The second list changes nothing, so only the first one saves.
+        assertEquals(List.of(2L, 2L, 2L, 1L, 2L), summaries.stream()
+                .filter(summary -> summary.getCommandWord().equals(ListCommand.COMMAND_WORD))
+                .map(CommandMetrics.Summary::getCount)
+                .collect(Collectors.toList()));
+
+        CommandResult result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().startsWith(StatsCommand.MESSAGE_HEADER));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -94,6 +222,113 @@ public class LogicManagerTest {
      * - the internal model manager state is the same as that in {@code expectedModel} <br>
      * @see #assertCommandFailure(String, Class, String, Model)
      */
+    @Test
+    public void execute_dataFileChangedByAnotherProgram_changesMergedNotOverwritten() throws Exception {
+        Path filePath = temporaryFolder.resolve("journaled.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        StorageManager storage = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Model journaledModel = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        Logic journaledLogic = new LogicManager(journaledModel, storage);
+
+        // another program edits Benson, and Carl, who is deleted here
+        AddressBook changedByOthers = getTypicalAddressBook();
+        Person theirBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        changedByOthers.setPerson(BENSON, theirBenson);
+        changedByOthers.setPerson(CARL, new PersonBuilder(CARL).withPhone("91234567").build());
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedByOthers);
+
+        CommandResult result = journaledLogic.execute(DeleteCommand.COMMAND_WORD + " n/" + CARL.getName());
+
+        assertTrue(result.getFeedbackToUser().contains(
+                String.format(LogicManager.MESSAGE_EXTERNAL_CHANGE_MERGED, filePath, 1)));
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(BENSON, theirBenson);
+        expected.removePerson(CARL);
+        assertEquals(expected, new AddressBook(journaledModel.getAddressBook()));
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        try (Stream<Path> files = Files.list(temporaryFolder)) {
+            assertEquals(1, files.filter(file -> file.getFileName().toString().startsWith("journaled.json.conflicts-"))
+                    .count());
+        }
+    }
+
+    @Test
+    public void reloadExternalChanges_dataFileChangedByAnotherProgram_changesApplied() throws Exception {
+        Path filePath = temporaryFolder.resolve("journaled.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        StorageManager storage = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Model journaledModel = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        Logic journaledLogic = new LogicManager(journaledModel, storage);
+        assertFalse(journaledLogic.reloadExternalChanges().isPresent());
+
+        AddressBook changedByOthers = getTypicalAddressBook();
+        changedByOthers.addPerson(AMY);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedByOthers);
+
+        assertEquals(String.format(LogicManager.MESSAGE_EXTERNAL_CHANGE_MERGED, filePath, 1),
+                journaledLogic.reloadExternalChanges().get());
+        assertEquals(changedByOthers, new AddressBook(journaledModel.getAddressBook()));
+        assertFalse(journaledLogic.reloadExternalChanges().isPresent());
+        // merged as one change, which can be undone
+        assertTrue(journaledModel.canUndoAddressBook());
+    }
+
+    @Test
+    public void applyExternalChanges_commandSavedInBetween_mergedByCommandNotOverwritten() throws Exception {
+        Path filePath = temporaryFolder.resolve("journaled.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        StorageManager storage = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Model journaledModel = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        Logic journaledLogic = new LogicManager(journaledModel, storage);
+        assertFalse(journaledLogic.readExternalChanges().isPresent());
+
+        AddressBook changedByOthers = getTypicalAddressBook();
+        changedByOthers.addPerson(AMY);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedByOthers);
+
+        // read and merged, as on the watcher's thread, but not applied yet
+        ExternalChange change = journaledLogic.readExternalChanges().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(journaledModel.getAddressBook()));
+        CommandResult result = journaledLogic.execute(DeleteCommand.COMMAND_WORD + " n/" + BENSON.getName());
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(LogicManager.MESSAGE_EXTERNAL_CHANGE_MERGED, filePath, 1)));
+
+        // already merged by the command, so it is not applied twice
+        assertFalse(journaledLogic.applyExternalChanges(change).isPresent());
+        AddressBook expected = new AddressBook(changedByOthers);
+        expected.removePerson(BENSON);
+        assertEquals(expected, new AddressBook(journaledModel.getAddressBook()));
+        assertEquals(expected, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void applyExternalChanges_modelChangedInBetween_mergedAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("journaled.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        StorageManager storage = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Model journaledModel = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        Logic journaledLogic = new LogicManager(journaledModel, storage);
+
+        AddressBook changedByOthers = getTypicalAddressBook();
+        changedByOthers.addPerson(AMY);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedByOthers);
+        ExternalChange change = journaledLogic.readExternalChanges().get();
+        // changed without saving, so the change read is still the latest
+        journaledModel.deletePerson(BENSON);
+        journaledModel.commitAddressBook();
+
+        assertEquals(Optional.of(String.format(LogicManager.MESSAGE_EXTERNAL_CHANGE_MERGED, filePath, 1)),
+                journaledLogic.applyExternalChanges(change));
+        AddressBook expected = new AddressBook(changedByOthers);
+        expected.removePerson(BENSON);
+        assertEquals(expected, new AddressBook(journaledModel.getAddressBook()));
+        assertEquals(expected, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     private void assertCommandSuccess(String inputCommand, String expectedMessage,
             Model expectedModel) throws CommandException, ParseException {
         CommandResult result = logic.execute(inputCommand);
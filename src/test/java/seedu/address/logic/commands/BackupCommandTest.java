@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BackupCommand.Action;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookBackups;
+
+public class BackupCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Path backupDirectory;
+
+    @BeforeEach
+    public void setUp() {
+        model.setAddressBookFilePath(temporaryFolder.resolve("addressbook.json"));
+        backupDirectory = AddressBookBackups.forDataFile(model.getAddressBookFilePath()).getDirectory();
+    }
+
+    @Test
+    public void execute_backUpThenRestore_success() throws Exception {
+        int personCount = model.getAddressBook().getPersonList().size();
+        assertEquals(String.format(BackupCommand.MESSAGE_NO_BACKUPS, backupDirectory),
+                new BackupCommand(Action.LIST).execute(model).getFeedbackToUser());
+
+        assertEquals(String.format(BackupCommand.MESSAGE_SUCCESS, personCount, 1, personCount),
+                new BackupCommand(Action.CREATE).execute(model).getFeedbackToUser());
+        assertEquals(String.format(BackupCommand.MESSAGE_UNCHANGED, 1),
+                new BackupCommand(Action.CREATE).execute(model).getFeedbackToUser());
+        assertTrue(new BackupCommand(Action.LIST).execute(model).getFeedbackToUser().contains("\n1. "));
+
+        AddressBook backedUp = new AddressBook(model.getAddressBook());
+        model.deletePerson(ALICE);
+        assertEquals(String.format(BackupCommand.MESSAGE_RESTORED, personCount, 1),
+                new BackupCommand(Action.RESTORE, 1).execute(model).getFeedbackToUser());
+        assertEquals(backedUp, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_unknownGeneration_throwsCommandException() {
+        assertCommandFailure(new BackupCommand(Action.RESTORE, 7), model,
+                String.format(BackupCommand.MESSAGE_BACKUP_NOT_FOUND, 7));
+    }
+
+    @Test
+    public void equals() {
+        BackupCommand restoreCommand = new BackupCommand(Action.RESTORE, 1);
+        assertTrue(restoreCommand.equals(restoreCommand));
+        assertTrue(restoreCommand.equals(new BackupCommand(Action.RESTORE, 1)));
+        assertFalse(restoreCommand.equals(new BackupCommand(Action.RESTORE, 2)));
+        assertFalse(new BackupCommand(Action.CREATE).equals(new BackupCommand(Action.LIST)));
+        assertFalse(restoreCommand.equals(null));
+        assertFalse(restoreCommand.equals(1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(BackupCommand.class.getCanonicalName() + "{action=RESTORE, generation=3}",
+                new BackupCommand(Action.RESTORE, 3).toString());
+    }
+}
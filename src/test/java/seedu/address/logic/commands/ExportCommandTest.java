@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_csvAllPersons_success() throws Exception {
+        Path file = temporaryFolder.resolve("out/team.csv");
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new ExportCommand(ExportCommand.Format.CSV, file, null).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, personCount, 2, file), result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(personCount + 1, lines.size());
+    }
+
+    @Test
+    public void execute_icsOnePerson_success() throws Exception {
+        Path file = temporaryFolder.resolve("carl.ics");
+
+        CommandResult result = new ExportCommand(ExportCommand.Format.ICS, file, CARL.getName()).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, 1, file), result.getFeedbackToUser());
+        String calendar = Files.readString(file);
+        assertEquals(1, calendar.split("BEGIN:VEVENT", -1).length - 1);
+        assertTrue(calendar.contains("SUMMARY:Carl Kurz\r\n"));
+    }
+
+    @Test
+    public void execute_unknownPerson_throwsCommandException() {
+        Name name = new Name("Nobody Here");
+        assertCommandFailure(new ExportCommand(ExportCommand.Format.CSV, temporaryFolder.resolve("a.csv"), name),
+                model, String.format(ExportCommand.MESSAGE_PERSON_NOT_FOUND, name));
+    }
+
+    @Test
+    public void execute_fileIsDirectory_throwsCommandException() {
+        String feedback = assertThrows(CommandException.class, () ->
+                new ExportCommand(ExportCommand.Format.CSV, temporaryFolder, null).execute(model)).getMessage();
+        assertTrue(feedback.startsWith(String.format(ExportCommand.MESSAGE_FILE_ERROR, temporaryFolder, "")));
+    }
+
+    @Test
+    public void format_of() {
+        assertEquals(ExportCommand.Format.CSV, ExportCommand.Format.of("CSV").get());
+        assertEquals(ExportCommand.Format.ICS, ExportCommand.Format.of("ics").get());
+        assertTrue(ExportCommand.Format.of("json").isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(ExportCommand.Format.CSV, Paths.get("a.csv"), null);
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(ExportCommand.Format.CSV, Paths.get("a.csv"), null)));
+        assertFalse(exportCommand.equals(new ExportCommand(ExportCommand.Format.ICS, Paths.get("a.csv"), null)));
+        assertFalse(exportCommand.equals(new ExportCommand(ExportCommand.Format.CSV, Paths.get("b.csv"), null)));
+        assertFalse(exportCommand.equals(
+                new ExportCommand(ExportCommand.Format.CSV, Paths.get("a.csv"), CARL.getName())));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand exportCommand = new ExportCommand(ExportCommand.Format.ICS, Paths.get("a.ics"), null);
+        assertEquals(ExportCommand.class.getCanonicalName() + "{format=ICS, filePath=a.ics, personName=null}",
+                exportCommand.toString());
+    }
+}
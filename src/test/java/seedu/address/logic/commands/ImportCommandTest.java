@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.CsvImporter;
+import seedu.address.logic.IcsImporter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_validFile_success() throws Exception {
+        Path file = temporaryFolder.resolve("team.csv");
+        Files.write(file, List.of("name,tags", "Amy Bee,friend", "Bob Choo,"));
+        ImportCommand command = new ImportCommand(file);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 2, file, 2, 0, 0),
+                result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredPersonList().size());
+        assertFalse(Files.exists(command.getFailureReportPath()));
+    }
+
+    @Test
+    public void execute_failingRows_reportedAndWritten() throws Exception {
+        Path file = temporaryFolder.resolve("team.csv");
+        Files.write(file, List.of("name,email", "Amy Bee,amy@example.com", "Bob Choo,not-an-email"));
+        ImportCommand command = new ImportCommand(file);
+
+        String feedback = command.execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 2, file, 1, 0, 0)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_FAILED_ROW, 3, "")));
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_FAILURE_REPORT,
+                command.getFailureReportPath())));
+        assertEquals(temporaryFolder.resolve("team.csv" + ImportCommand.FAILURE_REPORT_SUFFIX),
+                command.getFailureReportPath());
+        assertEquals(2, Files.readAllLines(command.getFailureReportPath()).size());
+    }
+
+    @Test
+    public void execute_calendarFile_success() throws Exception {
+        model.addPerson(new PersonBuilder().withName("Amy Bee").build());
+        Path file = temporaryFolder.resolve("amy.ics");
+        Files.write(file, List.of("BEGIN:VCALENDAR", "BEGIN:VEVENT", "UID:event-1", "DTSTART:20300102T100000",
+                "SUMMARY:Mr Lim", "END:VEVENT", "BEGIN:VEVENT", "DTSTART:20300102T100000", "END:VEVENT",
+                "END:VCALENDAR"));
+        Name name = new Name("Amy Bee");
+        ImportCommand command = new ImportCommand(file, name);
+
+        String feedback = command.execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_CALENDAR_SUCCESS, 2, file, name,
+                1, 0, 0, 0)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_FAILED_ROW, 7,
+                String.format(IcsImporter.MESSAGE_MISSING_PROPERTY, "SUMMARY"))));
+        assertEquals(1, model.getFilteredPersonList().get(0).getBookings().size());
+        assertTrue(Files.exists(command.getFailureReportPath()));
+    }
+
+    @Test
+    public void isCalendarFile() {
+        assertTrue(ImportCommand.isCalendarFile(Paths.get("data/amy.ics")));
+        assertTrue(ImportCommand.isCalendarFile(Paths.get("AMY.ICS")));
+        assertFalse(ImportCommand.isCalendarFile(Paths.get("data/team.csv")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_FILE_ERROR, file, file));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws Exception {
+        Path file = temporaryFolder.resolve("team.csv");
+        Files.write(file, List.of("phone"));
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_FILE_ERROR, file, CsvImporter.MESSAGE_MISSING_NAME_COLUMN));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("a.csv"), new Name("Amy Bee"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+        assertEquals(ImportCommand.class.getCanonicalName() + "{filePath=a.csv, personName=null}",
+                importCommand.toString());
+    }
+}
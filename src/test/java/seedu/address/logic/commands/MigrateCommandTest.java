@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.SqlAddressBookStorage;
+
+public class MigrateCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_newDatabase_copiesAddressBook() throws Exception {
+        Path file = temporaryFolder.resolve("data/addressbook.db");
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new MigrateCommand(file).execute(model);
+
+        assertEquals(String.format(MigrateCommand.MESSAGE_SUCCESS, personCount, file), result.getFeedbackToUser());
+        assertEquals(model.getAddressBook().getPersonList(),
+                new SqlAddressBookStorage(file).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void execute_notDatabaseFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("addressbook.json");
+        assertCommandFailure(new MigrateCommand(file), model, String.format(MigrateCommand.MESSAGE_NOT_DATABASE, file));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void execute_existingFile_throwsCommandException() throws Exception {
+        Path file = temporaryFolder.resolve("addressbook.db");
+        Files.writeString(file, "existing");
+        assertCommandFailure(new MigrateCommand(file), model, String.format(MigrateCommand.MESSAGE_FILE_EXISTS, file));
+        assertEquals("existing", Files.readString(file));
+    }
+
+    @Test
+    public void execute_writeFails_databaseDeletedAndRetryable() throws Exception {
+        Path file = temporaryFolder.resolve("addressbook.db");
+        // a folder where the write-ahead log should be, so that the database cannot be written
+        Path walFolder = temporaryFolder.resolve("addressbook.db-wal");
+        Files.createDirectory(walFolder);
+        Files.writeString(walFolder.resolve("blocker"), "");
+
+        assertThrows(CommandException.class, () -> new MigrateCommand(file).execute(model));
+        assertFalse(Files.exists(file));
+
+        Files.delete(walFolder.resolve("blocker"));
+        Files.delete(walFolder);
+        new MigrateCommand(file).execute(model);
+        assertEquals(model.getAddressBook().getPersonList(),
+                new SqlAddressBookStorage(file).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void equals() {
+        MigrateCommand migrateCommand = new MigrateCommand(Paths.get("a.db"));
+        assertTrue(migrateCommand.equals(migrateCommand));
+        assertTrue(migrateCommand.equals(new MigrateCommand(Paths.get("a.db"))));
+        assertFalse(migrateCommand.equals(new MigrateCommand(Paths.get("b.db"))));
+        assertFalse(migrateCommand.equals(null));
+        assertFalse(migrateCommand.equals(1));
+    }
+}
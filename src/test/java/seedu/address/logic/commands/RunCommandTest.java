@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_allCommandsSucceed_successMessage() throws Exception {
+        Path file = writeCommands(AddCommand.COMMAND_WORD + NAME_DESC_AMY, ListCommand.COMMAND_WORD);
+        CommandResult result = new RunCommand(file, 0).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, file, 2, 0), result.getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_someCommandsFail_failuresListed() throws Exception {
+        Path file = writeCommands("unknownCommand", ListCommand.COMMAND_WORD);
+        CommandResult result = new RunCommand(file, 0).execute(model);
+
+        String expected = String.format(RunCommand.MESSAGE_SUCCESS, 2, file, 1, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 1, MESSAGE_UNKNOWN_COMMAND.split("\n")[0]);
+        assertEquals(expected, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_manyFailures_listTruncated() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_FAILURES_SHOWN + 5; i++) {
+            lines.add("unknownCommand");
+        }
+        Path file = writeCommands(lines.toArray(new String[0]));
+        String feedback = new RunCommand(file, 0).execute(model).getFeedbackToUser();
+
+        assertEquals(RunCommand.MAX_FAILURES_SHOWN + 2, feedback.split("\n").length);
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_MORE_FAILURES, 5)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.txt");
+        RunCommand runCommand = new RunCommand(file, 0);
+        assertThrows(CommandException.class, () -> runCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("a.txt"), 0);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("a.txt"), 0)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("b.txt"), 0)));
+
+        // different save interval -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("a.txt"), 10)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand(Paths.get("a.txt"), 3);
+        String expected = RunCommand.class.getCanonicalName() + "{filePath=a.txt, saveInterval=3}";
+        assertEquals(expected, runCommand.toString());
+    }
+
+    private Path writeCommands(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("commands.txt");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
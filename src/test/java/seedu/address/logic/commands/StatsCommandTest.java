@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void execute_model_throwsCommandException() {
+        assertThrows(CommandException.class, StatsCommand.MESSAGE_NOT_COLLECTED, () ->
+                new StatsCommand().execute(new ModelManager()));
+    }
+
+    @Test
+    public void execute_nothingRecorded_noCommands() {
+        assertEquals(new CommandResult(StatsCommand.MESSAGE_NO_COMMANDS), new StatsCommand().execute(metrics));
+    }
+
+    @Test
+    public void execute_recorded_showsEachPhase() {
+        metrics.record("list", Phase.PARSE, 10_000, -1);
+        metrics.record("list", Phase.TOTAL, 1_500_000, -1);
+        metrics.record("list", Phase.PARSE, 10_000, -1);
+        metrics.record("list", Phase.TOTAL, 1_500_000, -1);
+
+        String expected = StatsCommand.MESSAGE_HEADER
+                + "\n" + String.format(StatsCommand.MESSAGE_COMMAND, "list", 2)
+                + "\n" + String.format(StatsCommand.MESSAGE_PHASE, "parse", "0.01", "0.01", "0.01", "0.01", "n/a")
+                + "\n" + String.format(StatsCommand.MESSAGE_PHASE, "total", "1.50", "1.50", "1.50", "1.50", "n/a");
+        assertEquals(new CommandResult(expected), new StatsCommand().execute(metrics));
+    }
+
+    @Test
+    public void formatBytes() {
+        assertEquals("n/a", StatsCommand.formatBytes(-1));
+        assertEquals("512 B", StatsCommand.formatBytes(512));
+        assertEquals("1.5 KB", StatsCommand.formatBytes(1536));
+        assertEquals("2.0 MB", StatsCommand.formatBytes(2 * 1024 * 1024));
+    }
+
+    @Test
+    public void formatMillis() {
+        assertEquals("1.25", StatsCommand.formatMillis(1_250_000));
+    }
+}
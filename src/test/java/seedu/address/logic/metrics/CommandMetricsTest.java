@@ -0,0 +1,99 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.testutil.FlightRecorderUtil;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void getSummaries_nothingRecorded_empty() {
+        assertTrue(metrics.getSummaries().isEmpty());
+    }
+
+    @Test
+    public void record_severalCommands_summarizedInOrder() {
+        metrics.record("list", Phase.TOTAL, 3_000, 100);
+        metrics.record("add", Phase.EXECUTE, 2_000, -1);
+        metrics.record("add", Phase.PARSE, 1_000, 10);
+        metrics.record("add", Phase.PARSE, 1_000, 30);
+
+        List<CommandMetrics.Summary> summaries = metrics.getSummaries();
+
+        assertEquals(3, summaries.size());
+        CommandMetrics.Summary addParse = summaries.get(0);
+        assertEquals("add", addParse.getCommandWord());
+        assertEquals(Phase.PARSE, addParse.getPhase());
+        assertEquals(2, addParse.getCount());
+        assertEquals(1_000, addParse.getMeanNanos());
+        assertEquals(30, addParse.getMaxAllocatedBytes());
+
+        CommandMetrics.Summary addExecute = summaries.get(1);
+        assertEquals(Phase.EXECUTE, addExecute.getPhase());
+        assertEquals(2_000, addExecute.getMaxNanos());
+        assertEquals(-1, addExecute.getP50AllocatedBytes());
+        assertEquals(-1, addExecute.getMaxAllocatedBytes());
+
+        assertEquals("list", summaries.get(2).getCommandWord());
+    }
+
+    @Test
+    public void timer_lapsAndStop_recordEachPhaseAndTotal() {
+        CommandMetrics.Timer timer = metrics.startTimer();
+        timer.lap("list", Phase.PARSE);
+        timer.lap("list", Phase.EXECUTE);
+        timer.stop("list");
+
+        List<CommandMetrics.Summary> summaries = metrics.getSummaries();
+
+        assertEquals(3, summaries.size());
+        assertEquals(Phase.TOTAL, summaries.get(2).getPhase());
+        assertTrue(summaries.get(2).getMaxNanos() >= summaries.get(0).getMaxNanos());
+        assertEquals(CommandMetrics.isAllocationSupported(), summaries.get(2).getMaxAllocatedBytes() >= 0);
+    }
+
+    @Test
+    public void timer_emitsPhaseEvents() throws Throwable {
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents(CommandPhaseEvent.NAME, temporaryFolder, () -> {
+            CommandMetrics.Timer timer = metrics.startTimer();
+            timer.lap("list", Phase.PARSE);
+            timer.lap("list", Phase.EXECUTE);
+            timer.stop("list");
+        });
+
+        assertEquals(List.of("PARSE", "EXECUTE", "TOTAL"), events.stream()
+                .map(event -> event.getString("phase"))
+                .collect(Collectors.toList()));
+        assertTrue(events.stream().allMatch(event -> event.getString("commandWord").equals("list")));
+        assertTrue(events.get(2).getDuration().compareTo(events.get(0).getDuration()) >= 0);
+    }
+
+    @Test
+    public void currentThreadAllocatedBytes_matchesSupport() {
+        long allocatedBytes = CommandMetrics.currentThreadAllocatedBytes();
+        assertEquals(CommandMetrics.isAllocationSupported(), allocatedBytes >= 0);
+    }
+
+    @Test
+    public void clear_forgetsEverything() {
+        metrics.record("list", Phase.TOTAL, 3_000, 100);
+        metrics.clear();
+        assertTrue(metrics.getSummaries().isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().record(-1));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getValueAtPercentile(101));
+    }
+
+    @Test
+    public void getters_empty_returnZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(10, histogram.getMax());
+        assertEquals(5.5, histogram.getMean());
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(9, histogram.getValueAtPercentile(90));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinRelativeError() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1_000_000);
+        }
+        assertWithinRelativeError(500_000_000, histogram.getValueAtPercentile(50));
+        assertWithinRelativeError(990_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_aboveMaxTrackableValue_keepsExactMax() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE / 2);
+        assertEquals(Long.MAX_VALUE / 2, histogram.getMax());
+        assertEquals(Long.MAX_VALUE / 2, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void indexOf_highestValueIn_consistent() {
+        for (long value : new long[] {0, 1, 63, 64, 65, 1000, 123_456_789, Histogram.MAX_TRACKABLE_VALUE}) {
+            int index = Histogram.indexOf(value);
+            assertTrue(Histogram.highestValueIn(index) >= value);
+            assertTrue(index == 0 || Histogram.highestValueIn(index - 1) < value);
+        }
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / Histogram.SUB_BUCKET_COUNT,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+
+public class MetricsDumperTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-19T08:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void constructor_nonPositiveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new MetricsDumper(metrics, temporaryFolder.resolve("metrics.json"), 0));
+    }
+
+    @Test
+    public void dump_writesSummariesAtomically() throws Exception {
+        Path file = temporaryFolder.resolve("out").resolve("metrics.json");
+        metrics.record("list", Phase.TOTAL, 2_000_000, 64);
+
+        new MetricsDumper(metrics, file, 60, CLOCK).dump();
+
+        JsonNode dump = new ObjectMapper().readTree(file.toFile());
+        assertEquals("2026-10-19T08:00:00Z", dump.get("generatedAt").asText());
+        JsonNode command = dump.get("commands").get(0);
+        assertEquals("list", command.get("commandWord").asText());
+        assertEquals("TOTAL", command.get("phase").asText());
+        assertEquals(1, command.get("count").asLong());
+        assertEquals(2_000_000, command.get("maxNanos").asLong());
+        assertFalse(Files.exists(temporaryFolder.resolve("out").resolve("metrics.json.tmp")));
+    }
+
+    @Test
+    public void stop_afterStart_writesFinalDump() throws Exception {
+        Path file = temporaryFolder.resolve("metrics.json");
+        MetricsDumper dumper = new MetricsDumper(metrics, file, 3600, CLOCK);
+        dumper.start();
+        assertFalse(Files.exists(file));
+
+        metrics.record("list", Phase.TOTAL, 1_000, -1);
+        dumper.stop();
+
+        assertTrue(Files.exists(file));
+        assertEquals(1, new ObjectMapper().readTree(file.toFile()).get("commands").size());
+    }
+
+    @Test
+    public void stop_notStarted_writesNothing() {
+        Path file = temporaryFolder.resolve("metrics.json");
+        new MetricsDumper(metrics, file, 60, CLOCK).stop();
+        assertFalse(Files.exists(file));
+    }
+}
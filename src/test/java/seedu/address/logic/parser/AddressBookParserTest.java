@@ -6,6 +6,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.Set;
 
@@ -17,8 +18,14 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -89,10 +96,65 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " team.csv");
+        assertEquals(new ImportCommand(Paths.get("team.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " ics team.ics");
+        assertEquals(new ExportCommand(ExportCommand.Format.ICS, Paths.get("team.ics"), null), command);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void findCommandWord() {
+        assertEquals(Optional.of(ListCommand.COMMAND_WORD), parser.findCommandWord("  list 3"));
+        assertEquals(Optional.of(StatsCommand.COMMAND_WORD), parser.findCommandWord(StatsCommand.COMMAND_WORD));
+        assertEquals(Optional.empty(), parser.findCommandWord("unknownCommand"));
+        assertEquals(Optional.empty(), parser.findCommandWord(""));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("commands.txt"), 0),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " commands.txt"));
+    }
+
+    @Test
+    public void parseCommand_extraWhitespace() throws Exception {
+        assertTrue(parser.parseCommand("  " + ListCommand.COMMAND_WORD + "  ") instanceof ListCommand);
+        assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + "\tf/") instanceof ClearCommand);
+    }
+
+    @Test
+    public void parseCommand_customRegistryWithAlias() throws Exception {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(ListCommand.COMMAND_WORD, args -> new ListCommand(), "ls");
+        AddressBookParser customParser = new AddressBookParser(registry);
+        assertTrue(customParser.parseCommand("ls") instanceof ListCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () ->
+                customParser.parseCommand(ExitCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
             -> parser.parseCommand(""));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand("   "));
     }
 
     @Test
@@ -136,6 +136,44 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixSharingLeadingCharacters_longestPrefixWins() {
+        Prefix dSlash = new Prefix("d/");
+        Prefix dtSlash = new Prefix("dt/");
+        Prefix descSlash = new Prefix("desc/");
+        String argsString = " dt/2025-09-18 14:00 d/2025-09-18 desc/first consultation";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dSlash, dtSlash, descSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, dtSlash, "2025-09-18 14:00");
+        assertArgumentPresent(argMultimap, dSlash, "2025-09-18");
+        assertArgumentPresent(argMultimap, descSlash, "first consultation");
+    }
+
+    @Test
+    public void tokenize_emptyAndRepeatedPrefixes_ignored() {
+        String argsString = "preamble p/ first p/second";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, new Prefix(""), pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "first", "second");
+    }
+
+    @Test
+    public void scan_reusedInstance_sameResultAsStaticTokenize() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        String[] inputs = {"", "  ",
+            "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value p/ pSlash value -t",
+            "SomePreambleStringp/ pSlash joined-tjoined -t not joined^Qjoined",
+            " p/\tvalue\t"};
+        for (String argsString : inputs) {
+            ArgumentMultimap expected = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+            ArgumentMultimap actual = tokenizer.scan(argsString);
+            assertEquals(expected.getPreamble(), actual.getPreamble());
+            for (Prefix prefix : new Prefix[] {pSlash, dashT, hatQ}) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix));
+            }
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
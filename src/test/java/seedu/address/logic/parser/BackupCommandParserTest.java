@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BackupCommand;
+import seedu.address.logic.commands.BackupCommand.Action;
+
+public class BackupCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BackupCommand.MESSAGE_USAGE);
+
+    private BackupCommandParser parser = new BackupCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBackupCommand() {
+        assertParseSuccess(parser, "  ", new BackupCommand(Action.CREATE));
+        assertParseSuccess(parser, " LIST ", new BackupCommand(Action.LIST));
+        assertParseSuccess(parser, " restore  12", new BackupCommand(Action.RESTORE, 12));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " now", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " list 1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " restore", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " restore 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " restore -1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " restore 1 2", MESSAGE_INVALID_FORMAT);
+    }
+}
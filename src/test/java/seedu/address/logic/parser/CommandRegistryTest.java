@@ -0,0 +1,92 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private static final Parser<ListCommand> LIST_PARSER = args -> new ListCommand();
+
+    @Test
+    public void createDefault_containsAllBuiltInCommands() {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        for (String commandWord : new String[] {AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, BookCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD}) {
+            assertTrue(registry.getParser(commandWord).isPresent(), commandWord);
+        }
+    }
+
+    @Test
+    public void createDefault_parsersReused() {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        assertSame(registry.getParser(AddCommand.COMMAND_WORD).get(),
+                registry.getParser(AddCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void register_withAliases_allWordsMapToSameParser() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", LIST_PARSER, "ls", "l");
+        assertSame(LIST_PARSER, registry.getParser("list").get());
+        assertSame(LIST_PARSER, registry.getParser("ls").get());
+        assertSame(LIST_PARSER, registry.getParser("l").get());
+        assertTrue(registry.getCommandWords().containsAll(Set.of("list", "ls", "l")));
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", LIST_PARSER);
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list", LIST_PARSER));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("show", LIST_PARSER, "list"));
+        // a failed registration leaves the registry unchanged
+        assertFalse(registry.getParser("show").isPresent());
+    }
+
+    @Test
+    public void register_duplicateWordInSameCall_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list", LIST_PARSER, "ls", "ls"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list", LIST_PARSER, "list"));
+        assertFalse(registry.getParser("list").isPresent());
+        assertFalse(registry.getParser("ls").isPresent());
+    }
+
+    @Test
+    public void register_invalidWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.register("", LIST_PARSER));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("two words", LIST_PARSER));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list", LIST_PARSER, "l s"));
+    }
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(NullPointerException.class, () -> registry.register(null, LIST_PARSER));
+        assertThrows(NullPointerException.class, () -> registry.register("list", null));
+    }
+
+    @Test
+    public void getParser_unknownWord_returnsEmpty() {
+        assertFalse(CommandRegistry.createDefault().getParser("unknownCommand").isPresent());
+    }
+}
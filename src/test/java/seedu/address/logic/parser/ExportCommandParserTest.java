@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.person.Name;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_allPersons_success() {
+        assertParseSuccess(parser, " csv team.csv",
+                new ExportCommand(ExportCommand.Format.CSV, Paths.get("team.csv"), null));
+        assertParseSuccess(parser, "  ICS  my data/team.ics  ",
+                new ExportCommand(ExportCommand.Format.ICS, Paths.get("my data/team.ics"), null));
+    }
+
+    @Test
+    public void parse_onePerson_success() {
+        assertParseSuccess(parser, " ics alice.ics n/Alice Tan",
+                new ExportCommand(ExportCommand.Format.ICS, Paths.get("alice.ics"), new Name("Alice Tan")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " json team.json", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " team.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " ics alice.ics n/Alice&", Name.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.person.Name;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validFile_success() {
+        assertParseSuccess(parser, " team.csv", new ImportCommand(Paths.get("team.csv")));
+        assertParseSuccess(parser, "  my data/team.csv  ", new ImportCommand(Paths.get("my data/team.csv")));
+    }
+
+    @Test
+    public void parse_calendarFile_success() {
+        assertParseSuccess(parser, " data/amy.ics n/Amy Bee",
+                new ImportCommand(Paths.get("data/amy.ics"), new Name("Amy Bee")));
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " n/Amy Bee",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_nameDoesNotMatchFileType_failure() {
+        assertParseFailure(parser, " data/amy.ics",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " team.csv n/Amy Bee",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidName_failure() {
+        assertParseFailure(parser, " data/amy.ics n/Amy&", Name.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MigrateCommand;
+
+public class MigrateCommandParserTest {
+
+    private MigrateCommandParser parser = new MigrateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMigrateCommand() {
+        assertParseSuccess(parser, " data/my contacts.db ", new MigrateCommand(Paths.get("data/my contacts.db")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MigrateCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " a\0.db", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MigrateCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_fileOnly_success() {
+        assertParseSuccess(parser, " commands.txt", new RunCommand(Paths.get("commands.txt"), 0));
+        assertParseSuccess(parser, "  my scripts/commands.txt  ",
+                new RunCommand(Paths.get("my scripts/commands.txt"), 0));
+    }
+
+    @Test
+    public void parse_withSaveInterval_success() {
+        assertParseSuccess(parser, " commands.txt every/500", new RunCommand(Paths.get("commands.txt"), 500));
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " every/5", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidSaveInterval_failure() {
+        assertParseFailure(parser, " commands.txt every/0", RunCommandParser.MESSAGE_INVALID_SAVE_INTERVAL);
+        assertParseFailure(parser, " commands.txt every/-3", RunCommandParser.MESSAGE_INVALID_SAVE_INTERVAL);
+        assertParseFailure(parser, " commands.txt every/abc", RunCommandParser.MESSAGE_INVALID_SAVE_INTERVAL);
+    }
+
+    @Test
+    public void parse_duplicateSaveInterval_failure() {
+        assertParseFailure(parser, " commands.txt every/1 every/2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SAVE_EVERY));
+    }
+}
@@ -16,13 +16,20 @@ import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.ClientContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.FlightRecorderUtil;
 
 public class ModelManagerTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -96,6 +103,34 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void mutations_emitMutationEvents() throws Throwable {
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents(ModelMutationEvent.NAME, temporaryFolder, () -> {
+            modelManager.addPerson(ALICE);
+            modelManager.addPerson(BENSON);
+            modelManager.deletePerson(ALICE);
+        });
+
+        assertEquals(3, events.size());
+        assertEquals("addPerson", events.get(0).getString("operation"));
+        assertEquals(1, events.get(0).getInt("personCount"));
+        assertEquals("deletePerson", events.get(2).getString("operation"));
+        assertEquals(1, events.get(2).getInt("personCount"));
+    }
+
+    @Test
+    public void updateFilteredPersonList_emitsRefreshEvent() throws Throwable {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents(PersonListRefreshEvent.NAME, temporaryFolder,
+                () -> modelManager.updateFilteredPersonList(person -> person.equals(ALICE)));
+
+        assertEquals(1, events.size());
+        assertEquals(1, events.get(0).getInt("shownPersonCount"));
+        assertEquals(2, events.get(0).getInt("personCount"));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -18,4 +18,23 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryBytes_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryBytes(-1));
+    }
+
+    @Test
+    public void setDataFileCompressionLevel_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setDataFileCompressionLevel(-1));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setDataFileCompressionLevel(10));
+    }
+
+    @Test
+    public void setBackupIntervalMinutes_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setBackupIntervalMinutes(-1));
+    }
+
 }
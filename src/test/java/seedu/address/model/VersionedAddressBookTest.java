@@ -0,0 +1,136 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook(getTypicalAddressBook(), VersionedAddressBook.DEFAULT_HISTORY_BYTES);
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(IllegalArgumentException.class, versionedAddressBook::undo);
+    }
+
+    @Test
+    public void undoRedo_multipleSteps_restoresEachState() {
+        AddressBook initial = new AddressBook(versionedAddressBook);
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        AddressBook afterDelete = new AddressBook(versionedAddressBook);
+        versionedAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        AddressBook afterEdit = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(afterDelete, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(initial, versionedAddressBook);
+        assertEquals(initial.getPersonList(), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(afterEdit, versionedAddressBook);
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThem() {
+        AddressBook initial = new AddressBook(versionedAddressBook);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.undo();
+        assertEquals(initial, versionedAddressBook);
+        assertTrue(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(VersionedAddressBook.STEP_BYTES + VersionedAddressBook.REFERENCE_BYTES
+                + VersionedAddressBook.PERSON_BYTES, versionedAddressBook.getHistoryBytes());
+    }
+
+    @Test
+    public void commit_overBudget_forgetsOldestSteps() {
+        long stepBytes = VersionedAddressBook.STEP_BYTES + VersionedAddressBook.REFERENCE_BYTES
+                + VersionedAddressBook.PERSON_BYTES;
+        VersionedAddressBook small = new VersionedAddressBook(new AddressBook(), 2 * stepBytes);
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Person person = new PersonBuilder().withName("Person " + (char) ('A' + i)).build();
+            small.addPerson(person);
+            small.commit();
+            added.add(person);
+        }
+
+        assertEquals(2 * stepBytes, small.getHistoryBytes());
+        small.undo();
+        small.undo();
+        assertFalse(small.canUndo());
+        assertEquals(added.subList(0, 3), small.getPersonList());
+    }
+
+    @Test
+    public void commit_stepOverBudget_keepsNewestStep() {
+        VersionedAddressBook small = new VersionedAddressBook(getTypicalAddressBook(), 1);
+        small.addPerson(BOB);
+        small.commit();
+        AddressBook afterAdd = new AddressBook(small);
+        small.resetData(new AddressBook());
+        small.commit();
+
+        assertTrue(small.canUndo());
+        small.undo();
+        assertEquals(afterAdd, small);
+        assertFalse(small.canUndo());
+    }
+
+    @Test
+    public void commit_zeroBudget_keepsNoSteps() {
+        VersionedAddressBook noHistory = new VersionedAddressBook(getTypicalAddressBook(), 0);
+        noHistory.addPerson(BOB);
+        noHistory.commit();
+        assertFalse(noHistory.canUndo());
+        assertEquals(0, noHistory.getHistoryBytes());
+    }
+
+    @Test
+    public void undo_clear_restoresAllPersons() {
+        AddressBook initial = new AddressBook(versionedAddressBook);
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(initial, versionedAddressBook);
+    }
+}
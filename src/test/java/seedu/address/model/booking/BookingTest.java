@@ -39,6 +39,14 @@ public class BookingTest {
         assertNull(result, "Invalid date 2024-02-30 should return null");
     }
 
+    @Test
+    public void parseTrustedDateTime_sameAsParseDateTime() {
+        for (String datetime : new String[] {"2026-02-28 10:00", "0001-01-01 00:00", "2024-02-29 23:59",
+            "2026-02-31 10:00", "2026-13-01 10:00", "2026-2-28 10:00", "not a date"}) {
+            assertEquals(Booking.parseDateTime(datetime), Booking.parseTrustedDateTime(datetime), datetime);
+        }
+    }
+
     @Test
     public void parseDateTime_invalidMonth_returnsNull() {
         // Month 13 should return null
@@ -252,6 +260,28 @@ public class BookingTest {
         assertNotEquals(booking1.hashCode(), booking3.hashCode()); // different client name should have different hash
     }
 
+    @Test
+    public void equals_eventUid() {
+        LocalDateTime datetime = LocalDateTime.of(2026, 12, 25, 10, 0);
+        Booking booking = new Booking("Client1", datetime, "Description1");
+        Booking imported = new Booking("Client1", datetime, "Description1", "event-1@example.com");
+
+        assertNull(booking.getEventUid());
+        assertEquals("event-1@example.com", imported.getEventUid());
+        assertFalse(booking.equals(imported));
+        assertTrue(booking.hasSameDetails(imported));
+        assertFalse(booking.hasSameDetails(new Booking("Client1", datetime, "Description2")));
+    }
+
+    @Test
+    public void isValidEventUid() {
+        assertFalse(Booking.isValidEventUid(null));
+        assertFalse(Booking.isValidEventUid(""));
+        assertFalse(Booking.isValidEventUid("  "));
+        assertFalse(Booking.isValidEventUid("two\nlines"));
+        assertTrue(Booking.isValidEventUid("040000008200E00074C5B7101A82E008@example.com"));
+    }
+
     @Test
     public void toStringTest() {
         Booking booking = new Booking("Raj s/o Kumar",
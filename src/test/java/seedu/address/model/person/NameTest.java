@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -25,6 +26,11 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(longName));
     }
 
+    @Test
+    public void ofTrusted_invalidName_notChecked() {
+        assertEquals("", Name.ofTrusted("").fullName);
+    }
+
     @Test
     public void isValidName() {
         // null name
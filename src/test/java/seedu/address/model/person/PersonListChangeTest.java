@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListChangeTest {
+
+    @Test
+    public void between_samePersons_returnsNull() {
+        assertNull(PersonListChange.between(List.of(ALICE, BENSON), List.of(ALICE, BENSON)));
+    }
+
+    @Test
+    public void between_personEdited_onlyEditedPersonRecorded() {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        PersonListChange change = PersonListChange.between(List.of(ALICE, BENSON, CARL),
+                List.of(ALICE, editedBenson, CARL));
+
+        assertEquals(1, change.getStart());
+        assertEquals(List.of(BENSON), change.getBefore());
+        assertEquals(List.of(editedBenson), change.getAfter());
+    }
+
+    @Test
+    public void between_personAddedAndRemoved_applyAndRevertRoundTrip() {
+        List<Person> previous = List.of(ALICE, BENSON, CARL, DANIEL);
+        List<Person> next = List.of(ALICE, CARL, DANIEL, HOON);
+        PersonListChange change = PersonListChange.between(previous, next);
+
+        assertEquals(1, change.getStart());
+        assertEquals(next, change.apply(previous));
+        assertEquals(previous, change.revert(next));
+    }
+
+    @Test
+    public void apply_changeDoesNotFit_throwsIllegalArgumentException() {
+        PersonListChange change = new PersonListChange(1, List.of(ALICE, BENSON), List.of());
+        assertThrows(IllegalArgumentException.class, () -> change.apply(List.of(ALICE, BENSON)));
+    }
+}
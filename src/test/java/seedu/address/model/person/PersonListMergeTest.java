@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListMergeTest {
+
+    private static final List<Person> BASE = List.of(ALICE, BENSON, CARL, DANIEL);
+
+    @Test
+    public void of_unchanged_noUpdates() {
+        PersonListMerge merge = PersonListMerge.of(BASE, List.of(ALICE, BENSON, CARL, DANIEL),
+                List.of(ALICE, CARL, HOON));
+        assertEquals(List.of(), merge.getUpdates());
+        assertEquals(List.of(), merge.getConflicts());
+    }
+
+    @Test
+    public void of_theirChangesOnly_allApplied() {
+        Person theirBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        // copies, as read back from a file, are matched by their values
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        PersonListMerge merge = PersonListMerge.of(BASE, List.of(aliceCopy, theirBenson, DANIEL, HOON), BASE);
+
+        assertEquals(List.of(new PersonListMerge.Update(BENSON, theirBenson), new PersonListMerge.Update(CARL, null),
+                new PersonListMerge.Update(null, HOON)), merge.getUpdates());
+        assertEquals(List.of(), merge.getConflicts());
+    }
+
+    @Test
+    public void of_changedOnBothSides_conflictsKeepOurs() {
+        Person theirBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        Person ourBenson = new PersonBuilder(BENSON).withPhone("93334444").build();
+        Person theirCarl = new PersonBuilder(CARL).withEmail("carl@example.com").build();
+        Person theirIda = new PersonBuilder(IDA).withPhone("91234567").build();
+        List<Person> theirs = List.of(ALICE, theirBenson, theirCarl, IDA);
+        List<Person> ours = List.of(ALICE, ourBenson, DANIEL, theirIda);
+
+        PersonListMerge merge = PersonListMerge.of(BASE, theirs, ours);
+
+        // DANIEL was removed by them and left alone here; CARL was edited by them and removed here
+        assertEquals(List.of(new PersonListMerge.Update(DANIEL, null)), merge.getUpdates());
+        assertEquals(List.of(new PersonListMerge.Update(ourBenson, theirBenson),
+                new PersonListMerge.Update(null, theirCarl), new PersonListMerge.Update(theirIda, IDA)),
+                merge.getConflicts());
+    }
+
+    @Test
+    public void of_sameChangeOnBothSides_noUpdate() {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        PersonListMerge merge = PersonListMerge.of(BASE, List.of(ALICE, editedBenson, CARL, DANIEL, HOON),
+                List.of(ALICE, new PersonBuilder(editedBenson).build(), CARL, DANIEL, HOON));
+        assertEquals(List.of(), merge.getUpdates());
+        assertEquals(List.of(), merge.getConflicts());
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListSnapshotTest {
+
+    private final PersonListSnapshot snapshot = PersonListSnapshot.EMPTY.withAll(Arrays.asList(ALICE, BENSON));
+
+    @Test
+    public void contains_samePersonWithDifferentFields_returnsTrue() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertTrue(snapshot.contains(editedAlice));
+        assertFalse(snapshot.contains(BOB));
+    }
+
+    @Test
+    public void indexOf_requiresEqualPerson() {
+        assertEquals(1, snapshot.indexOf(BENSON));
+        assertEquals(-1, snapshot.indexOf(new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build()));
+        assertEquals(-1, snapshot.indexOf(BOB));
+    }
+
+    @Test
+    public void findByName() {
+        assertEquals(Optional.of(ALICE), snapshot.findByName(ALICE.getName()));
+        assertEquals(Optional.empty(), snapshot.findByName(BOB.getName()));
+        assertThrows(NullPointerException.class, () -> snapshot.findByName(null));
+    }
+
+    @Test
+    public void derivedSnapshots_leaveOriginalUnchanged() {
+        PersonListSnapshot added = snapshot.withAdded(BOB);
+        PersonListSnapshot replaced = snapshot.withReplaced(0, BOB);
+        PersonListSnapshot removed = snapshot.withRemoved(0);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersons());
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), added.getPersons());
+        assertEquals(Arrays.asList(BOB, BENSON), replaced.getPersons());
+        assertEquals(List.of(BENSON), removed.getPersons());
+        assertFalse(removed.contains(ALICE));
+        assertEquals(0, removed.indexOf(BENSON));
+        assertEquals(snapshot.getVersion() + 1, added.getVersion());
+    }
+
+    @Test
+    public void getChangeFrom_directParent_returnsRecordedChange() {
+        PersonListChange change = snapshot.withReplaced(1, BOB).getChangeFrom(snapshot).get();
+        assertEquals(1, change.getStart());
+        assertEquals(List.of(BENSON), change.getBefore());
+        assertEquals(List.of(BOB), change.getAfter());
+
+        assertEquals(List.of(BOB), snapshot.withAdded(BOB).getChangeFrom(snapshot).get().getAfter());
+        assertEquals(List.of(ALICE), snapshot.withRemoved(0).getChangeFrom(snapshot).get().getBefore());
+    }
+
+    @Test
+    public void getChangeFrom_notDirectParent_returnsEmpty() {
+        PersonListSnapshot added = snapshot.withAdded(BOB);
+        assertFalse(added.withRemoved(0).getChangeFrom(snapshot).isPresent());
+        assertFalse(snapshot.getChangeFrom(added).isPresent());
+        // same version, but derived from a sibling of the snapshot
+        assertFalse(snapshot.withRemoved(0).withAdded(BOB).getChangeFrom(snapshot.withAdded(BOB)).isPresent());
+        assertFalse(snapshot.withAll(List.of(BOB)).getChangeFrom(snapshot).isPresent());
+    }
+
+    @Test
+    public void derivedSnapshots_manyEdits_matchArrayList() {
+        List<Person> expected = new ArrayList<>();
+        PersonListSnapshot current = PersonListSnapshot.EMPTY;
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            int operation = random.nextInt(3);
+            String name = "Person " + (char) ('a' + random.nextInt(26)) + (char) ('a' + random.nextInt(8));
+            Person person = new PersonBuilder().withName(name).build();
+            if (operation == 0 && !current.contains(person)) {
+                expected.add(person);
+                current = current.withAdded(person);
+            } else if (operation == 1 && !expected.isEmpty() && !current.contains(person)) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, person);
+                current = current.withReplaced(index, person);
+            } else if (operation == 2 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                current = current.withRemoved(index);
+            }
+        }
+        assertEquals(expected, current.getPersons());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, current.indexOf(expected.get(i)));
+            assertEquals(Optional.of(expected.get(i)), current.findByName(expected.get(i).getName()));
+        }
+    }
+
+    @Test
+    public void getPersons_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersons().set(0, BOB));
+    }
+
+    @Test
+    public void equals() {
+        // same persons, different version -> returns true
+        assertEquals(snapshot, snapshot.withAdded(BOB).withRemoved(2));
+
+        // different persons -> returns false
+        assertNotEquals(snapshot, snapshot.withRemoved(0));
+        assertNotEquals(snapshot, null);
+        assertNotEquals(snapshot, 5);
+    }
+}
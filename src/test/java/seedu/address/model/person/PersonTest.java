@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -11,6 +12,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -33,6 +36,15 @@ public class PersonTest {
         assertThrows(IllegalArgumentException.class, () -> new PersonBuilder().withTags(tags).build());
     }
 
+    @Test
+    public void getSearchKeys_lowerCaseNameAndTags_computedOnce() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withTags("owesMoney").build();
+        PersonSearchKeys keys = person.getSearchKeys();
+        assertEquals("alice pauline", keys.getName());
+        assertEquals(List.of("owesmoney"), keys.getTags());
+        assertSame(keys, person.getSearchKeys());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -7,7 +7,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -168,6 +172,30 @@ public class UniquePersonListTest {
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_afterChange_earlierSnapshotUnchanged() {
+        uniquePersonList.add(ALICE);
+        PersonListSnapshot before = uniquePersonList.getSnapshot();
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Collections.singletonList(ALICE), before.getPersons());
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.getSnapshot().getPersons());
+        assertTrue(uniquePersonList.getSnapshot().getVersion() > before.getVersion());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_afterChanges_matchesSnapshot() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        uniquePersonList.setPerson(BENSON, BOB);
+        uniquePersonList.remove(CARL);
+        uniquePersonList.add(ELLE);
+        assertEquals(Arrays.asList(ALICE, BOB, DANIEL, ELLE), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, ALICE));
+        assertEquals(uniquePersonList.getSnapshot().getPersons(), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
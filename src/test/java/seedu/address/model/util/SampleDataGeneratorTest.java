@@ -0,0 +1,115 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+public class SampleDataGeneratorTest {
+
+    @Test
+    public void withPersonCount_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleDataGenerator().withPersonCount(-1));
+    }
+
+    @Test
+    public void withTags_tooManyPerPerson_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SampleDataGenerator().withTags(30, Person.MAX_TAGS + 1, 1));
+    }
+
+    @Test
+    public void generatePersons_sameSeed_sameResult() {
+        assertEquals(new SampleDataGenerator(7).withPersonCount(200).generatePersons(),
+                new SampleDataGenerator(7).withPersonCount(200).generatePersons());
+    }
+
+    @Test
+    public void generatePersons_differentSeed_differentResult() {
+        assertNotEquals(new SampleDataGenerator(7).withPersonCount(200).generatePersons(),
+                new SampleDataGenerator(8).withPersonCount(200).generatePersons());
+    }
+
+    @Test
+    public void generate_manyPersons_uniqueNames() {
+        // More persons than there are combinations of first and last names.
+        List<Person> persons = new SampleDataGenerator().withPersonCount(3000).generate().getPersonList();
+
+        assertEquals(3000, persons.size());
+        Set<Name> names = persons.stream().map(Person::getName).collect(Collectors.toSet());
+        assertEquals(3000, names.size());
+    }
+
+    @Test
+    public void generatePersons_tagSettings_respected() {
+        List<Person> persons = new SampleDataGenerator().withPersonCount(2000).withTags(30, 4, 1.5)
+                .generatePersons();
+
+        Set<Tag> tags = new HashSet<>();
+        persons.forEach(person -> tags.addAll(person.getTags()));
+        assertTrue(tags.size() <= 30);
+        assertTrue(persons.stream().allMatch(person -> person.getTags().size() <= 4));
+
+        // With a skew, the most common tag is much more common than the least common one.
+        Map<Tag, Long> counts = persons.stream().flatMap(person -> person.getTags().stream())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        long most = counts.values().stream().mapToLong(Long::longValue).max().getAsLong();
+        long least = counts.values().stream().mapToLong(Long::longValue).min().getAsLong();
+        assertTrue(most > 10 * least);
+    }
+
+    @Test
+    public void generatePersons_bookings_distinctWeekdayTimesInRange() {
+        LocalDate firstDate = LocalDate.of(2027, 3, 1);
+        List<Person> persons = new SampleDataGenerator().withPersonCount(500).withBookings(4, 50, 1)
+                .withBookingDates(firstDate, 30).generatePersons();
+
+        Set<String> clients = new HashSet<>();
+        int bookingCount = 0;
+        for (Person person : persons) {
+            List<Booking> bookings = person.getBookings();
+            assertTrue(bookings.size() <= 8);
+            Set<LocalDateTime> times = new HashSet<>();
+            for (Booking booking : bookings) {
+                LocalDate date = booking.getDateTime().toLocalDate();
+                assertTrue(!date.isBefore(firstDate) && date.isBefore(firstDate.plusDays(30)));
+                assertTrue(date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY);
+                assertTrue(times.add(booking.getDateTime()));
+                clients.add(booking.getClientName());
+            }
+            bookingCount += bookings.size();
+        }
+        assertTrue(bookingCount > 1000);
+        assertTrue(clients.size() <= 50);
+    }
+
+    @Test
+    public void generatePersons_noTagsOrBookings_plainPersons() {
+        List<Person> persons = new SampleDataGenerator().withPersonCount(10).withTags(0, 0, 0)
+                .withBookings(0, 1, 0).generatePersons();
+        assertTrue(persons.stream().allMatch(person -> person.getTags().isEmpty() && person.getBookings().isEmpty()));
+    }
+
+    @Test
+    public void getSampleAddressBook_countAndSeed_generated() {
+        assertEquals(new SampleDataGenerator(3).withPersonCount(25).generate(),
+                SampleDataUtil.getSampleAddressBook(25, 3));
+    }
+}
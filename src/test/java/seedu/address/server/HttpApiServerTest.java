@@ -0,0 +1,256 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HttpApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService writeExecutor = Executors.newSingleThreadExecutor();
+    private Model model;
+    private HttpApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new HttpApiServer(new LogicManager(model, storage), writeExecutor, 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        writeExecutor.shutdown();
+    }
+
+    @Test
+    public void getPersons_allPersonsReturned() throws Exception {
+        HttpResponse<String> response = get(HttpApiServer.PATH_PERSONS);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains(ALICE.getName().fullName));
+        assertTrue(response.body().contains(BENSON.getName().fullName));
+        assertTrue(response.body().contains("owesMoney"));
+    }
+
+    @Test
+    public void getBookings_bookingsReturnedWithPerson() throws Exception {
+        HttpResponse<String> response = get(HttpApiServer.PATH_BOOKINGS);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().matches("(?s).*\"person\"\\s*:\\s*\"" + CARL.getName().fullName + "\".*"));
+        assertTrue(response.body().contains(CARL.getBookings().get(0).getClientName()));
+    }
+
+    @Test
+    public void find_byName_matchingPersonsOnly() throws Exception {
+        HttpResponse<String> response = get(HttpApiServer.PATH_FIND + "?name=Alice");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains(ALICE.getName().fullName));
+        assertFalse(response.body().contains(BENSON.getName().fullName));
+        // reads do not change what the UI is showing
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void find_unknownParameter_badRequest() throws Exception {
+        HttpResponse<String> response = get(HttpApiServer.PATH_FIND + "?colour=red");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains(String.format(HttpApiServer.MESSAGE_UNKNOWN_QUERY_PARAMETER, "colour")));
+    }
+
+    @Test
+    public void find_valueWithPrefix_badRequest() throws Exception {
+        HttpResponse<String> response = get(HttpApiServer.PATH_FIND + "?name=Alice%20t/friends");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains(String.format(HttpApiServer.MESSAGE_INVALID_QUERY_VALUE, "name", "t/")));
+    }
+
+    @Test
+    public void find_malformedEscape_badRequest() throws Exception {
+        // HttpClient refuses to send a malformed URI, so write the request by hand.
+        String response = sendRaw(HttpApiServer.PATH_FIND + "?name=%zz", "localhost:" + server.getPort());
+        assertTrue(response.startsWith("HTTP/1.1 400"), response);
+    }
+
+    @Test
+    public void request_missingOrWrongToken_unauthorized() throws Exception {
+        HttpRequest noToken = HttpRequest.newBuilder(uri(HttpApiServer.PATH_PERSONS)).GET().build();
+        assertEquals(401, client.send(noToken, HttpResponse.BodyHandlers.ofString()).statusCode());
+
+        HttpRequest wrongToken = HttpRequest.newBuilder(uri(HttpApiServer.PATH_PERSONS))
+                .header("Authorization", "Bearer " + server.getToken() + "x").GET().build();
+        assertEquals(401, client.send(wrongToken, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    public void request_foreignOrigin_forbidden() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(HttpApiServer.PATH_COMMANDS))
+                .header("Authorization", "Bearer " + server.getToken())
+                .header("Content-Type", "application/json")
+                .header("Origin", "http://evil.example")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"add n/Zed Zulu\"}")).build();
+        assertEquals(403, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertFalse(get(HttpApiServer.PATH_PERSONS).body().contains("Zed Zulu"));
+    }
+
+    @Test
+    public void request_foreignHost_forbidden() throws Exception {
+        // HttpClient does not let the Host header be set, as a page does after DNS rebinding, so write it by hand.
+        String response = sendRaw(HttpApiServer.PATH_PERSONS, "rebound.example:" + server.getPort());
+        assertTrue(response.startsWith("HTTP/1.1 403"), response);
+    }
+
+    @Test
+    public void postCommand_notJson_unsupportedMediaType() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(HttpApiServer.PATH_COMMANDS))
+                .header("Authorization", "Bearer " + server.getToken())
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"add n/Zed Zulu\"}")).build();
+        assertEquals(415, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertFalse(get(HttpApiServer.PATH_PERSONS).body().contains("Zed Zulu"));
+    }
+
+    @Test
+    public void postCommand_commandNotAllowed_forbidden() throws Exception {
+        HttpResponse<String> response = post(HttpApiServer.PATH_COMMANDS,
+                "{\"command\": \"" + ClearCommand.COMMAND_WORD + "\"}");
+        assertEquals(403, response.statusCode());
+        assertTrue(response.body().contains(
+                String.format(HttpApiServer.MESSAGE_COMMAND_NOT_ALLOWED, ClearCommand.COMMAND_WORD)));
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void postCommand_validCommand_executed() throws Exception {
+        HttpResponse<String> response = post(HttpApiServer.PATH_COMMANDS, "{\"command\": \"add n/Zed Zulu\"}");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("feedback"));
+        assertTrue(get(HttpApiServer.PATH_PERSONS).body().contains("Zed Zulu"));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        HttpResponse<String> response = post(HttpApiServer.PATH_COMMANDS, "{\"command\": \"unknownCommand\"}");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("error"));
+    }
+
+    @Test
+    public void postCommand_invalidBody_badRequest() throws Exception {
+        assertEquals(400, post(HttpApiServer.PATH_COMMANDS, "not json").statusCode());
+        assertEquals(400, post(HttpApiServer.PATH_COMMANDS, "{}").statusCode());
+    }
+
+    @Test
+    public void wrongMethodOrPath_rejected() throws Exception {
+        assertEquals(405, post(HttpApiServer.PATH_PERSONS, "{}").statusCode());
+        assertEquals(405, get(HttpApiServer.PATH_COMMANDS).statusCode());
+        assertEquals(404, get("/nothing/here").statusCode());
+    }
+
+    @Test
+    public void parseQuery() throws Exception {
+        assertEquals(Map.of(), HttpApiServer.parseQuery(null));
+        assertEquals(Map.of("name", List.of("Alex Yeoh", "Bo"), "tag", List.of("")),
+                HttpApiServer.parseQuery("name=Alex+Yeoh&tag&name=Bo"));
+        assertThrows(ParseException.class, () -> HttpApiServer.parseQuery("name=100%"));
+    }
+
+    @Test
+    public void isLoopbackHost() {
+        assertTrue(HttpApiServer.isLoopbackHost("localhost"));
+        assertTrue(HttpApiServer.isLoopbackHost("LOCALHOST:8080"));
+        assertTrue(HttpApiServer.isLoopbackHost("127.0.0.1:8080"));
+        assertTrue(HttpApiServer.isLoopbackHost("[::1]"));
+        assertTrue(HttpApiServer.isLoopbackHost("[::1]:8080"));
+        assertFalse(HttpApiServer.isLoopbackHost(null));
+        assertFalse(HttpApiServer.isLoopbackHost("evil.example:8080"));
+        assertFalse(HttpApiServer.isLoopbackHost("localhost.evil.example"));
+    }
+
+    @Test
+    public void isLoopbackOrigin() {
+        assertTrue(HttpApiServer.isLoopbackOrigin(null));
+        assertTrue(HttpApiServer.isLoopbackOrigin("http://localhost:3000"));
+        assertTrue(HttpApiServer.isLoopbackOrigin("http://[::1]:3000"));
+        assertFalse(HttpApiServer.isLoopbackOrigin("null"));
+        assertFalse(HttpApiServer.isLoopbackOrigin("http://evil.example"));
+        assertFalse(HttpApiServer.isLoopbackOrigin("file:///home/user/page.html"));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + server.getToken())
+                .GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + server.getToken())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends an authorized GET request for {@code path} with the {@code Host} header {@code host} over a plain socket,
+     * and returns the whole response.
+     */
+    private String sendRaw(String path, String host) throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\n"
+                    + "Host: " + host + "\r\n"
+                    + "Authorization: Bearer " + server.getToken() + "\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
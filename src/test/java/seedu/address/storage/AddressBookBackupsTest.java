@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookBackups.BackupSummary;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookBackupsTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-01T09:30:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void forDataFile_sameFile_sameInstance() {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        assertSame(AddressBookBackups.forDataFile(dataFile), AddressBookBackups.forDataFile(dataFile));
+        assertEquals(testFolder.resolve("addressbook.json.backups"), AddressBookBackups.getBackupDirectory(dataFile));
+    }
+
+    @Test
+    public void backUp_changedPersons_storesOnlyNewRecords() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK);
+        AddressBook addressBook = getTypicalAddressBook();
+        int personCount = addressBook.getPersonList().size();
+
+        BackupSummary first = backups.backUp(addressBook.getPersonList());
+        assertEquals(1, first.getGeneration());
+        assertEquals(personCount, first.getNewRecordCount());
+        assertTrue(first.isNew());
+
+        // nothing changed
+        BackupSummary unchanged = backups.backUp(addressBook.getPersonList());
+        assertEquals(1, unchanged.getGeneration());
+        assertFalse(unchanged.isNew());
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        addressBook.addPerson(HOON);
+        BackupSummary second = backups.backUp(addressBook.getPersonList());
+        assertEquals(2, second.getGeneration());
+        assertEquals(2, second.getNewRecordCount());
+        assertEquals(personCount + 2, countRecords());
+
+        // opened afresh, as after a restart, an equal person is recognised as already stored
+        addressBook.removePerson(HOON);
+        BackupSummary third = new AddressBookBackups(testFolder, CLOCK).backUp(addressBook.getPersonList());
+        assertEquals(3, third.getGeneration());
+        assertEquals(0, third.getNewRecordCount());
+
+        assertEquals(List.of(1L, 2L, 3L), backups.list().stream().map(BackupSummary::getGeneration).toList());
+    }
+
+    @Test
+    public void restore_anyGeneration_sameAddressBook() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK);
+        AddressBook addressBook = getTypicalAddressBook();
+        backups.backUp(addressBook.getPersonList());
+        AddressBook first = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        backups.backUp(addressBook.getPersonList());
+
+        assertEquals(first, backups.restore(1).get());
+        assertEquals(addressBook, backups.restore(2).get());
+        assertFalse(backups.restore(3).isPresent());
+    }
+
+    @Test
+    public void restore_damagedRecord_throwsDataLoadingException() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK);
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        backups.backUp(persons);
+        try (Stream<Path> files = Files.walk(testFolder.resolve("records"))) {
+            Path record = files.filter(Files::isRegularFile).findFirst().get();
+            Files.write(record, new byte[] {1, 2, 3});
+        }
+
+        assertThrows(DataLoadingException.class, () -> backups.restore(1));
+    }
+
+    @Test
+    public void backUp_recordWriteFailed_recordWrittenOnNextBackup() throws Exception {
+        AddressBookBackups backups = new AddressBookBackups(testFolder, CLOCK);
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        // a file where the records folder should be, so that no record can be written
+        Files.createFile(testFolder.resolve("records"));
+        assertThrows(IOException.class, () -> backups.backUp(persons));
+
+        Files.delete(testFolder.resolve("records"));
+        assertEquals(persons.size(), backups.backUp(persons).getNewRecordCount());
+        assertEquals(getTypicalAddressBook(), backups.restore(1).get());
+    }
+
+    private long countRecords() throws Exception {
+        try (Stream<Path> files = Files.walk(testFolder.resolve("records"))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
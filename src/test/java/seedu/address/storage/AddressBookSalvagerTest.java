@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class AddressBookSalvagerTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-01T10:15:30Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void salvage_invalidAndValidPerson_validPersonLoadedAndInvalidPersonQuarantined() throws Exception {
+        Path filePath = copyToTestFolder("invalidAndValidPersonAddressBook.json");
+
+        AddressBookSalvager.Salvage salvage = new AddressBookSalvager(filePath, CLOCK).salvage(List.of());
+
+        assertEquals(1, salvage.getAddressBook().getPersonList().size());
+        assertEquals("Valid Person", salvage.getAddressBook().getPersonList().get(0).getName().fullName);
+        assertEquals(1, salvage.getRejectedCount());
+        assertFalse(salvage.isTruncated());
+        assertEquals(testFolder.resolve("addressbook.json.quarantine-20240301-101530.json"),
+                salvage.getQuarantinePath());
+
+        JsonNode quarantine = readTree(salvage.getQuarantinePath());
+        assertEquals(1, quarantine.get("loadedCount").asInt());
+        JsonNode rejected = quarantine.get("rejected").get(0);
+        assertEquals(1, rejected.get("index").asInt());
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, rejected.get("reason").asText());
+        assertEquals("Person With Invalid Phone Field", rejected.get("person").get("name").asText());
+    }
+
+    @Test
+    public void salvage_duplicatePerson_laterDuplicateQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{ \"persons\": [ " + toJson(ALICE) + ", " + toJson(BENSON) + ", "
+                + toJson(ALICE) + " ] }");
+
+        AddressBookSalvager.Salvage salvage = new AddressBookSalvager(filePath, CLOCK).salvage(List.of());
+
+        assertEquals(List.of(ALICE, BENSON), salvage.getAddressBook().getPersonList());
+        JsonNode rejected = readTree(salvage.getQuarantinePath()).get("rejected").get(0);
+        assertEquals(2, rejected.get("index").asInt());
+        assertEquals(AddressBookSalvager.REASON_DUPLICATE, rejected.get("reason").asText());
+    }
+
+    @Test
+    public void salvage_truncatedFile_personsBeforeDamageLoadedAndRestKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String json = Files.readString(filePath);
+        int cut = json.indexOf("Daniel");
+        Files.writeString(filePath, json.substring(0, cut));
+
+        AddressBookSalvager.Salvage salvage = new AddressBookSalvager(filePath, CLOCK).salvage(List.of());
+
+        assertEquals(getTypicalAddressBook().getPersonList().subList(0, 3),
+                salvage.getAddressBook().getPersonList());
+        assertTrue(salvage.isTruncated());
+        JsonNode unreadable = readTree(salvage.getQuarantinePath()).get("unreadable");
+        int offset = unreadable.get("byteOffset").asInt();
+        assertEquals(json.substring(0, cut), json.substring(0, offset) + unreadable.get("text").asText());
+    }
+
+    @Test
+    public void salvage_truncatedCompressedFile_personsBeforeDamageLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json.gz");
+        new JsonAddressBookStorage(filePath, 0).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        AddressBookSalvager.Salvage salvage = new AddressBookSalvager(filePath, CLOCK).salvage(List.of());
+
+        assertFalse(salvage.getAddressBook().getPersonList().isEmpty());
+        assertTrue(salvage.isTruncated());
+        assertFalse(readTree(salvage.getQuarantinePath()).get("unreadable").get("text").asText().isEmpty());
+    }
+
+    @Test
+    public void salvage_notJsonFormat_nothingLoadedAndWholeFileKept() throws Exception {
+        Path filePath = copyToTestFolder("notJsonFormatAddressBook.json");
+
+        AddressBookSalvager.Salvage salvage = new AddressBookSalvager(filePath, CLOCK).salvage(List.of("entry"));
+
+        assertTrue(salvage.getAddressBook().getPersonList().isEmpty());
+        JsonNode quarantine = readTree(salvage.getQuarantinePath());
+        assertEquals(Files.readString(filePath), quarantine.get("unreadable").get("text").asText());
+        assertEquals("entry", quarantine.get("unappliedJournalEntries").get(0).asText());
+    }
+
+    @Test
+    public void salvage_nothingLeftOut_noQuarantineFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookSalvager.Salvage salvage = new AddressBookSalvager(filePath, CLOCK).salvage(List.of());
+
+        assertEquals(getTypicalAddressBook(), salvage.getAddressBook());
+        assertNull(salvage.getQuarantinePath());
+    }
+
+    @Test
+    public void salvageAddressBook_journaledStorage_journalQuarantinedAndDataFileRewrittenOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(filePath, Files.readString(filePath).replace(ALICE.getPhone().value, " "));
+
+        JournaledAddressBookStorage recovered = new JournaledAddressBookStorage(filePath);
+        assertTrue(recovered.salvageAddressBook().get().getPersonList().isEmpty());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            Path quarantinePath = files.filter(path -> path.getFileName().toString().contains(".quarantine-"))
+                    .findFirst().get();
+            assertEquals(1, readTree(quarantinePath).get("unappliedJournalEntries").size());
+        }
+
+        recovered.saveAddressBook(new AddressBook());
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertTrue(Files.readAllLines(journalPath).isEmpty());
+        assertEquals(new AddressBook(), new AddressBook(recovered.readAddressBook().get()));
+    }
+
+    private Path copyToTestFolder(String fileName) throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve(fileName), filePath);
+        return filePath;
+    }
+
+    private static String toJson(Person person) throws Exception {
+        return JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person));
+    }
+
+    private static JsonNode readTree(Path filePath) throws Exception {
+        return JsonUtil.fromJsonString(Files.readString(filePath), JsonNode.class);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void start_dataFileWritten_changeReportedOnceSettled() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("addressbook.json");
+        Semaphore changes = new Semaphore(0);
+        DataFileWatcher watcher = new DataFileWatcher(filePath, changes::release);
+        watcher.start();
+        try {
+            // other files in the folder, such as the journal, are not reported
+            Files.writeString(filePath.resolveSibling("addressbook.json.journal"), "{}");
+            Files.writeString(filePath, "{");
+            Files.writeString(filePath, "{}");
+
+            assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+            Thread.sleep(DataFileWatcher.SETTLE_MILLIS * 2);
+            assertEquals(0, changes.availablePermits());
+        } finally {
+            watcher.stop();
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataFileChangedException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"), 0));
+    }
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_journalsChangesOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook); // nothing changed
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, journalLines(filePath).size());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nothingRead_writesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+        assertTrue(journalLines(filePath).isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_rewritesDataFileAndEmptiesJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, journalLines(filePath).size());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(journalLines(filePath).isEmpty());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalWriteFailed_nextSaveRewritesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        // a folder where the journal should be, so that no entry can be written
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        Files.createDirectory(journalPath);
+        addressBook.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+
+        Files.delete(journalPath);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertTrue(journalLines(filePath).isEmpty());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void checkpointAddressBook_journaledChanges_writtenToDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.checkpointAddressBook();
+
+        assertTrue(journalLines(filePath).isEmpty());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalNotEmptiedAfterCheckpoint_entriesInDataFileSkipped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // the app stops after rewriting the data file but before emptying the journal
+        storage.checkpointAddressBook();
+        Files.write(journalPath, journal);
+
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_earlierEntriesReplayedAndTornEntryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        // the app stops while writing the last entry
+        byte[] bytes = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        JournaledAddressBookStorage recovered = new JournaledAddressBookStorage(filePath);
+        assertEquals(expected, new AddressBook(recovered.readAddressBook().get()));
+        assertEquals(1, journalLines(filePath).size());
+
+        // later entries follow the good ones
+        expected.addPerson(IDA);
+        recovered.saveAddressBook(expected);
+        assertEquals(expected, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatch_entryAndLaterEntriesDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        String journal = Files.readString(journalPath);
+        Files.writeString(journalPath, journal.replaceFirst("Hoon", "Hoan"));
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertTrue(journalLines(filePath).isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_entryDoesNotFit_entryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        AddressBookJournal journal = new AddressBookJournal(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        journal.write(new JsonAdaptedJournalEntry(1, 0, 0, List.of(new JsonAdaptedPerson(ALICE))));
+        journal.write(new JsonAdaptedJournalEntry(2, 5, 1, List.of()));
+        journal.close();
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(List.of(ALICE), readBack.getPersonList());
+        assertEquals(1, journalLines(filePath).size());
+    }
+
+    @Test
+    public void readAddressBook_noDataFile_journalReplayedOntoEmptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBookJournal journal = new AddressBookJournal(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        journal.write(new JsonAdaptedJournalEntry(1, 0, 0, List.of(new JsonAdaptedPerson(ALICE))));
+        journal.close();
+
+        List<Person> persons = new JournaledAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertEquals(List.of(ALICE), persons);
+    }
+
+    @Test
+    public void saveAddressBook_dataFileChangedByAnotherProgram_throwsUntilChangeAccepted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(storage.readExternalChange().isPresent());
+
+        AddressBook changedByOthers = getTypicalAddressBook();
+        changedByOthers.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedByOthers);
+        addressBook.removePerson(ALICE);
+        assertThrows(DataFileChangedException.class, () -> storage.saveAddressBook(addressBook));
+        assertThrows(DataFileChangedException.class, storage::checkpointAddressBook);
+
+        DataFileChange change = storage.readExternalChange().get();
+        assertEquals(getTypicalAddressBook().getPersonList(), change.getPreviousPersons());
+        assertEquals(changedByOthers.getPersonList(), change.getPersons());
+        // read, but not merged yet, so still not to be overwritten
+        assertThrows(DataFileChangedException.class, () -> storage.saveAddressBook(addressBook));
+        assertTrue(storage.readExternalChange().isPresent());
+
+        assertTrue(storage.acceptExternalChange(change));
+        assertFalse(storage.acceptExternalChange(change));
+        assertFalse(storage.readExternalChange().isPresent());
+
+        // the journal does not fit the changed data file, so the next save rewrites it
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertTrue(journalLines(filePath).isEmpty());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readExternalChange_dataFileDeleted_noChange() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath);
+
+        assertFalse(storage.readExternalChange().isPresent());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void sync_concurrentWrites_allDurable() throws Exception {
+        Path journalPath = testFolder.resolve("addressbook.json.journal");
+        AddressBookJournal journal = new AddressBookJournal(journalPath);
+        long first = journal.write(new JsonAdaptedJournalEntry(1, 0, 0, List.of()));
+        long second = journal.write(new JsonAdaptedJournalEntry(2, 0, 0, List.of()));
+        journal.sync(second);
+        journal.sync(first); // covered by the sync above
+        journal.close();
+
+        assertEquals(2, journal.read().size());
+        Files.writeString(journalPath, "not an entry", StandardOpenOption.APPEND);
+        assertEquals(2, journal.read().size());
+        assertEquals(2, Files.readAllLines(journalPath, StandardCharsets.UTF_8).size());
+    }
+
+    private static List<String> journalLines(Path filePath) throws Exception {
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        return Files.exists(journalPath) ? Files.readAllLines(journalPath) : List.of();
+    }
+}
@@ -9,15 +9,20 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
+
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.FlightRecorderUtil;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +91,55 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, 9).saveAddressBook(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals(0x1f, bytes[0] & 0xff);
+        assertEquals(0x8b, bytes[1] & 0xff);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // compression is detected from the contents, not the name
+        Path renamedPath = Files.move(filePath, testFolder.resolve("TempAddressBook.json"));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(renamedPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json.gz"), 10));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_emitsFileEvents() throws Throwable {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents(AddressBookFileEvent.NAME, testFolder, () -> {
+            storage.saveAddressBook(original);
+            storage.readAddressBook();
+            storage.readAddressBook(testFolder.resolve("NonExistentFile.json"));
+        });
+
+        assertEquals(3, events.size());
+        long bytes = Files.size(filePath);
+        int personCount = original.getPersonList().size();
+        assertFileEvent(events.get(0), AddressBookFileEvent.SAVE, filePath, bytes, personCount);
+        assertFileEvent(events.get(1), AddressBookFileEvent.READ, filePath, bytes, personCount);
+        assertFileEvent(events.get(2), AddressBookFileEvent.READ, testFolder.resolve("NonExistentFile.json"), -1, -1);
+    }
+
+    private void assertFileEvent(RecordedEvent event, String operation, Path filePath, long bytes, int personCount) {
+        assertEquals(operation, event.getString("operation"));
+        assertEquals(filePath.toString(), event.getString("path"));
+        assertEquals(bytes, event.getLong("bytes"));
+        assertEquals(personCount, event.getInt("personCount"));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +41,33 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_writtenByApp_trustedAndLoaded() throws Exception {
+        JsonSerializableAddressBook readBack = writeAndReadBack(json -> json);
+        assertTrue(readBack.isTrusted());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readBack.toModelType());
+    }
+
+    @Test
+    public void toModelType_editedAfterWriting_validatedInstead() throws Exception {
+        JsonSerializableAddressBook readBack = writeAndReadBack(json -> json.replace("Alice Pauline", "Alice P@uline"));
+        assertFalse(readBack.isTrusted());
+        assertThrows(IllegalValueException.class, readBack::toModelType);
+    }
+
+    @Test
+    public void toModelType_olderSchemaVersion_validatedInstead() throws Exception {
+        JsonSerializableAddressBook readBack = writeAndReadBack(json -> json.replace(
+                "\"schemaVersion\" : " + JsonSerializableAddressBook.SCHEMA_VERSION, "\"schemaVersion\" : 0"));
+        assertFalse(readBack.isTrusted());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readBack.toModelType());
+    }
+
+    @Test
+    public void isTrusted_fileWithoutContentHash_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class).get().isTrusted());
+    }
+
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
@@ -46,4 +76,9 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    private static JsonSerializableAddressBook writeAndReadBack(UnaryOperator<String> edit) throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(TypicalPersons.getTypicalAddressBook()));
+        return JsonUtil.fromJsonString(edit.apply(json), JsonSerializableAddressBook.class);
+    }
+
 }
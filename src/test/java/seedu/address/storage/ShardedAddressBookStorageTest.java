@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.ShardedAddressBookStorage.POSITION_GAP;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(testFolder, 0));
+    }
+
+    @Test
+    public void isShardDirectory() {
+        assertTrue(ShardedAddressBookStorage.isShardDirectory(testFolder));
+        assertTrue(ShardedAddressBookStorage.isShardDirectory(testFolder.resolve("addressbook.shards")));
+        assertFalse(ShardedAddressBookStorage.isShardDirectory(testFolder.resolve("addressbook.json")));
+        assertFalse(ShardedAddressBookStorage.isShardDirectory(testFolder.resolve("addressbook")));
+    }
+
+    @Test
+    public void isShardDirectory_fileWithoutExtension_returnsFalse() throws Exception {
+        Path file = Files.writeString(testFolder.resolve("addressbook"), "{\"persons\": []}");
+        assertFalse(ShardedAddressBookStorage.isShardDirectory(file));
+    }
+
+    @Test
+    public void readAddressBook_noDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("addressbook")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_sameAddressBook() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new ShardedAddressBookStorage(directory, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(SHARD_COUNT, shardContents(directory).size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(new ShardedAddressBookStorage(directory)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_rewritesChangedShardsOnly() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new ShardedAddressBookStorage(directory, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        List<String> before = shardContents(directory);
+
+        // opened with the default number of shards, but keeps the directory's
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        List<String> after = shardContents(directory);
+        int bensonShard = Math.floorMod(BENSON.getName().fullName.hashCode(), SHARD_COUNT);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            assertEquals(shard != bensonShard, before.get(shard).equals(after.get(shard)));
+        }
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook); // nothing changed
+
+        assertEquals(SHARD_COUNT, shardContents(directory).size());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(directory)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void allocatePositions() {
+        long[] positions = {0, 10, 20};
+        // edited in place
+        assertArrayEquals(new long[] {0, 10, 20}, ShardedAddressBookStorage.allocatePositions(positions, 1, 1, 1));
+        // inserted between neighbours
+        assertArrayEquals(new long[] {0, 3, 6, 10, 20},
+                ShardedAddressBookStorage.allocatePositions(positions, 1, 0, 2));
+        // added at either end
+        assertArrayEquals(new long[] {0, 10, 20, 20 + POSITION_GAP},
+                ShardedAddressBookStorage.allocatePositions(positions, 3, 0, 1));
+        assertArrayEquals(new long[] {-POSITION_GAP, 0, 10, 20},
+                ShardedAddressBookStorage.allocatePositions(positions, 0, 0, 1));
+        // removed
+        assertArrayEquals(new long[] {0, 20}, ShardedAddressBookStorage.allocatePositions(positions, 1, 1, 0));
+        // no room between neighbours
+        assertNull(ShardedAddressBookStorage.allocatePositions(new long[] {0, 1}, 1, 0, 1));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new ShardedAddressBookStorage(directory, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Files.delete(directory.resolve("shard-1.json"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void salvageAddressBook_damagedShard_otherShardsLoaded() throws Exception {
+        Path directory = testFolder.resolve("addressbook");
+        new ShardedAddressBookStorage(directory, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        int aliceShard = Math.floorMod(ALICE.getName().fullName.hashCode(), SHARD_COUNT);
+        Files.writeString(directory.resolve("shard-" + aliceShard + ".json"), "not json");
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory, SHARD_COUNT);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        AddressBook salvaged = new AddressBook(storage.salvageAddressBook().get());
+
+        List<Person> expected = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        expected.removeIf(person -> Math.floorMod(person.getName().fullName.hashCode(), SHARD_COUNT) == aliceShard);
+        assertEquals(expected, salvaged.getPersonList());
+
+        storage.saveAddressBook(salvaged);
+        assertEquals(salvaged, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    private static List<String> shardContents(Path directory) throws Exception {
+        List<String> contents = new ArrayList<>();
+        for (int shard = 0; Files.exists(directory.resolve("shard-" + shard + ".json")); shard++) {
+            contents.add(Files.readString(directory.resolve("shard-" + shard + ".json")));
+        }
+        return contents;
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isDatabaseFile() {
+        assertTrue(SqlAddressBookStorage.isDatabaseFile(Paths.get("data", "addressbook.db")));
+        assertFalse(SqlAddressBookStorage.isDatabaseFile(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_noFile_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(testFolder.resolve("addressbook.db")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(new SqlAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_writesChangedRowsOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        long carlId = selectId(filePath, CARL.getName().fullName);
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").withTags("vip").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook); // nothing changed
+
+        // a full rewrite would have renumbered every row after Alice's
+        assertEquals(carlId, selectId(filePath, CARL.getName().fullName));
+        assertEquals(addressBook, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_renamedPerson_oldRowReplaced() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_newerSchema_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        try (Connection database = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+                Statement statement = database.createStatement()) {
+            statement.execute("PRAGMA user_version = " + (SqlAddressBookStorage.SCHEMA_VERSION + 1));
+        }
+
+        assertThrows(DataLoadingException.class, () -> new SqlAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void salvageAddressBook_invalidRow_validPersonsLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        try (Connection database = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+                PreparedStatement update = database.prepareStatement("UPDATE persons SET phone = ? WHERE name = ?")) {
+            update.setString(1, " ");
+            update.setString(2, ALICE.getName().fullName);
+            update.executeUpdate();
+        }
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        AddressBook salvaged = new AddressBook(storage.salvageAddressBook().get());
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        assertEquals(expected, salvaged);
+    }
+
+    private static long selectId(Path filePath, String name) throws SQLException {
+        try (Connection database = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+                PreparedStatement select = database.prepareStatement("SELECT id FROM persons WHERE name = ?")) {
+            select.setString(1, name);
+            try (ResultSet result = select.executeQuery()) {
+                assertTrue(result.next());
+                return result.getLong(1);
+            }
+        }
+    }
+}
@@ -2,8 +2,10 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +62,20 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_journaledStorage_changesJournaled() throws Exception {
+        Path filePath = getTempFilePath("journaled");
+        StorageManager journaled = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook addressBook = getTypicalAddressBook();
+        journaled.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        journaled.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(journaled.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,37 @@
+package seedu.address.testutil;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A utility class for checking the Flight Recorder events that code emits.
+ */
+public class FlightRecorderUtil {
+
+    /**
+     * Records the events named {@code eventName} that {@code executable} emits, using {@code folder} for the
+     * recording file, and returns them in the order they ended.
+     */
+    public static List<RecordedEvent> recordEvents(String eventName, Path folder, Executable executable)
+            throws Throwable {
+        Path file = folder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .sorted((first, second) -> first.getEndTime().compareTo(second.getEndTime()))
+                .collect(Collectors.toList());
+    }
+}